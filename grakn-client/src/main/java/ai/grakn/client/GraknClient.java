@@ -27,6 +27,7 @@ import com.sun.jersey.api.client.ClientResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.Response.Status.Family;
@@ -39,6 +40,7 @@ import java.util.stream.Collectors;
 import static ai.grakn.util.REST.Request.Graql.INFER;
 import static ai.grakn.util.REST.Request.Graql.MULTI;
 import static ai.grakn.util.REST.Request.Graql.TX_TYPE;
+import static ai.grakn.util.REST.Response.ContentType.APPLICATION_GRAQL_BINARY;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON_GRAQL;
 
@@ -73,17 +75,29 @@ public class GraknClient {
                 .queryParam(TX_TYPE, GraknTxType.BATCH)
                 .build();
         ClientResponse response = client.resource(fullURI)
-                .accept(APPLICATION_JSON_GRAQL)
+                .accept(APPLICATION_GRAQL_BINARY, APPLICATION_JSON_GRAQL)
                 .post(ClientResponse.class, body);
+        // Servers which do not know the binary format only look at the first accepted type, so ask again for Json
+        if (response.getStatus() == Status.NOT_ACCEPTABLE.getStatusCode()) {
+            LOG.debug("Binary results not accepted, asking for {} instead", APPLICATION_JSON_GRAQL);
+            response.close();
+            response = client.resource(fullURI)
+                    .accept(APPLICATION_JSON_GRAQL)
+                    .post(ClientResponse.class, body);
+        }
         try {
             Response.StatusType status = response.getStatusInfo();
-            String entity = response.getEntity(String.class);
             if (!status.getFamily().equals(Family.SUCCESSFUL)) {
+                String entity = response.getEntity(String.class);
                 String queries = queryList.stream().map(Object::toString).collect(Collectors.joining("\n"));
                 throw new GraknClientException("Failed graqlExecute. Error status: " + status.getStatusCode() + ", error info: " + entity + "\nqueries: " + queries, response.getStatusInfo());
             }
             LOG.debug("Received {}", status.getStatusCode());
-            return QueryResponse.from(queryList, entity);
+            MediaType type = response.getType();
+            if (type != null && type.toString().startsWith(APPLICATION_GRAQL_BINARY)) {
+                return QueryResponse.from(queryList, response.getEntity(byte[].class));
+            }
+            return QueryResponse.from(queryList, response.getEntity(String.class));
         } finally {
             response.close();
         }
@@ -18,6 +18,7 @@
 package ai.grakn.client;
 
 import ai.grakn.graql.Query;
+import ai.grakn.graql.internal.printer.BinaryAnswers;
 import java.util.ArrayList;
 import java.util.List;
 import mjson.Json;
@@ -45,7 +46,21 @@ public class QueryResponse {
     }
 
     public static List<QueryResponse> from(List<Query<?>> queries, String response) {
-        List<Json> json = Json.read(response).asJsonList();
+        return from(queries, Json.read(response));
+    }
+
+    /**
+     * @param queries the queries which were executed
+     * @param response the results of the queries in the binary format of
+     *                 {@link ai.grakn.graql.internal.printer.Printers#binary()}
+     * @return a response for each query
+     */
+    public static List<QueryResponse> from(List<Query<?>> queries, byte[] response) {
+        return from(queries, BinaryAnswers.decode(response));
+    }
+
+    private static List<QueryResponse> from(List<Query<?>> queries, Json response) {
+        List<Json> json = response.asJsonList();
         ArrayList<QueryResponse> result = new ArrayList<>();
         for (int i = 0; i < queries.size(); i++) {
             result.add(new QueryResponse(queries.get(i), json.get(i)));
@@ -52,6 +52,11 @@ public abstract class GraknConfigKey<T> {
 
     public static final GraknConfigKey<Integer> LOADER_REPEAT_COMMITS = key("loader.repeat-commits", INT);
 
+    public static final GraknConfigKey<Integer> POST_PROCESSING_BATCH_SIZE =
+            key("post-processing.batch-size", withDefault(Integer::parseInt, 1000));
+    public static final GraknConfigKey<Integer> POST_PROCESSING_PARALLELISM =
+            key("post-processing.parallelism", withDefault(Integer::parseInt, 1));
+
     public static final GraknConfigKey<List<String>> REDIS_HOST =
             key("queue.host", required(GraknConfigKey::parseCSValue), GraknConfigKey::toStringCSValue);
     public static final GraknConfigKey<List<String>> REDIS_SENTINEL_HOST = key(
@@ -62,7 +67,11 @@ public abstract class GraknConfigKey<T> {
     public static final GraknConfigKey<String> REDIS_SENTINEL_MASTER =
             key("redis.sentinel.master", withDefault(Function.identity(), "graknmaster"));
     public static final GraknConfigKey<Integer> REDIS_POOL_SIZE = key("redis.pool-size", INT);
+    public static final GraknConfigKey<Boolean> REDIS_LOCK_NOTIFY_ON_RELEASE =
+            key("redis.lock.notify-on-release", withDefault(Boolean::parseBoolean, false));
     public static final GraknConfigKey<Integer> QUEUE_CONSUMERS = key("queue.consumers", INT);
+    public static final GraknConfigKey<Integer> QUEUE_KEYSPACE_CONSUMERS =
+            key("queue.keyspace-consumers", withDefault(Integer::parseInt, 4));
 
     public static final GraknConfigKey<Path> STATIC_FILES_PATH = key("server.static-file-dir", required(Paths::get));
 
@@ -72,9 +81,23 @@ public abstract class GraknConfigKey<T> {
 
     public static final GraknConfigKey<Integer> TASKS_RETRY_DELAY = key("tasks.retry.delay", INT);
 
+    public static final GraknConfigKey<Integer> TX_CONCEPT_CACHE_SIZE =
+            key("knowledge-base.tx-concept-cache-size", withDefault(Integer::parseInt, 100000));
     public static final GraknConfigKey<Long> SHARDING_THRESHOLD = key("knowledge-base.sharding-threshold", LONG);
+    public static final GraknConfigKey<Long> REASONER_ANSWER_CACHE_SIZE =
+            key("knowledge-base.reasoner-answer-cache-size", withDefault(Long::parseLong, 0L));
+    public static final GraknConfigKey<Long> REASONER_ANSWER_CACHE_TIMEOUT_MS =
+            key("knowledge-base.reasoner-answer-cache-timeout-ms", withDefault(Long::parseLong, 60_000L));
+    public static final GraknConfigKey<Boolean> KB_LAZY_CONCEPTS =
+            key("knowledge-base.lazy-concepts", withDefault(Boolean::parseBoolean, false));
     public static final GraknConfigKey<String> KB_MODE = key("knowledge-base.mode");
     public static final GraknConfigKey<String> KB_ANALYTICS = key("knowledge-base.analytics");
+    public static final GraknConfigKey<Integer> KB_ANALYTICS_GRAPH_CACHE_SIZE =
+            key("knowledge-base.analytics.graph-cache-size", withDefault(Integer::parseInt, 0));
+    public static final GraknConfigKey<Long> KB_ANALYTICS_GRAPH_CACHE_TIMEOUT_MS =
+            key("knowledge-base.analytics.graph-cache-timeout-ms", withDefault(Long::parseLong, 600_000L));
+    public static final GraknConfigKey<Integer> KB_ANALYTICS_PATH_MAX_LOCAL_VISITS =
+            key("knowledge-base.analytics.path-max-local-visits", withDefault(Integer::parseInt, 10_000));
 
     public static final GraknConfigKey<Boolean> TEST_START_EMBEDDED_COMPONENTS =
             key("test.start.embedded.components", BOOL);
@@ -29,6 +29,8 @@ package ai.grakn;
  *         READ - A read only transaction. If you attempt to mutate the graph with such a transaction an exception will be thrown.
  *         WRITE - A transaction which allows you to mutate the graph.
  *         BATCH - A transaction which allows mutations to be performed more quickly but disables some consitency checks.
+ *         BULK - A batch transaction which appends data without reading the graph first. Data is not validated and
+ *                duplicate attributes are only merged by post processing after the commit.
  * </p>
  *
   @author fppt
@@ -36,5 +38,6 @@ package ai.grakn;
 public enum GraknTxType {
     READ,  //Read only transaction where mutations to the graph are prohibited
     WRITE, //Write transaction where the graph can be mutated
-    BATCH //Batch transaction which enables faster writes by switching off some consitency checks
+    BATCH, //Batch transaction which enables faster writes by switching off some consitency checks
+    BULK //Batch transaction for initial loads which appends data without reading it and without validating it
 }
@@ -22,6 +22,7 @@ import ai.grakn.concept.Concept;
 import ai.grakn.graql.admin.Answer;
 
 import javax.annotation.CheckReturnValue;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -50,6 +51,17 @@ public interface Printer<T> {
         return build(builder);
     }
 
+    /**
+     * Convert any object into bytes. Printers with a binary format override this, for all others these are the
+     * UTF-8 encoded string of the object.
+     * @param object the object to convert to bytes
+     * @return the object as bytes
+     */
+    @CheckReturnValue
+    default byte[] graqlBytes(Object object) {
+        return graqlString(object).getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * Convert any object into a builder
      * @param inner whether this object is within a collection
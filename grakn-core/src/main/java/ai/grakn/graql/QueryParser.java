@@ -73,6 +73,14 @@ public interface QueryParser {
      */
     <T extends Query<?>> Stream<T> parseTemplate(String template, Map<String, Object> data);
 
+    /**
+     * Parse a graql template once, so it can be resolved against a lot of data more cheaply than with
+     * {@link #parseTemplate(String, Map)}.
+     * @param template a string representing a templated graql query
+     * @return a function resolving data into the same queries as {@link #parseTemplate(String, Map)}
+     */
+    <T extends Query<?>> Function<Map<String, Object>, Stream<T>> compileTemplate(String template);
+
     /**
      * Register an aggregate that can be used when parsing a Graql query
      * @param name the name of the aggregate
@@ -64,4 +64,10 @@ public interface MatchAdmin extends Match {
      */
     @CheckReturnValue
     Set<Var> getSelectedNames();
+
+    /**
+     * @return the number of results of the query, if it can be counted without finding the results
+     */
+    @CheckReturnValue
+    Optional<Long> countWithoutResults();
 }
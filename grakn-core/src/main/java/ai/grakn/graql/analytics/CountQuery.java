@@ -46,6 +46,14 @@ public interface CountQuery extends ComputeQuery<Long> {
     @Override
     CountQuery in(Collection<Label> subLabels);
 
+    /**
+     * Count the instances with a full OLAP job. By default the count is answered from the instance counts engine keeps
+     * for each type when running in engine, so it may not include the commits engine has not post processed yet.
+     *
+     * @return a CountQuery with the exact flag set
+     */
+    CountQuery exact();
+
     /**
      * Execute the query.
      *
@@ -66,6 +66,27 @@ public interface GraknAdmin {
     @CheckReturnValue
     <T extends Concept> Optional<T> buildConcept(Edge edge);
 
+    /**
+     * Builds a lazy handle on the {@link Concept} represented by a vertex. The handle only holds the {@link ConceptId}
+     * of the {@link Concept} until it is used for something else, at which point the full {@link Concept} is built.
+     *
+     * @param <T> The type of the concept being built
+     * @param vertex A vertex which contains properties necessary to build a concept from.
+     * @return A concept which is built lazily from the provided vertex
+     */
+    @CheckReturnValue
+    <T extends Concept> Optional<T> buildConceptHandle(Vertex vertex);
+
+    /**
+     * Builds a lazy handle on the {@link Concept} represented by an {@link Edge}.
+     *
+     * @param <T> The type of the {@link Concept} being built
+     * @param edge An {@link Edge} which contains properties necessary to build a {@link Concept} from.
+     * @return A {@link Concept} which is built lazily from the provided {@link Edge}
+     */
+    @CheckReturnValue
+    <T extends Concept> Optional<T> buildConceptHandle(Edge edge);
+
 
     /**
      * Utility function to get a read-only Tinkerpop traversal.
@@ -221,4 +242,54 @@ public interface GraknAdmin {
      * @return the number of Shards the {@link Type} currently has.
      */
     long getShardCount(Type type);
+
+    /**
+     * Returns the current version of the schema as seen by this {@link GraknTx}. The version is incremented every
+     * time a transaction which mutates the schema is committed. This is used to invalidate caches which are derived
+     * from the schema.
+     *
+     * @return the current schema version
+     */
+    @CheckReturnValue
+    long schemaVersion();
+
+    /**
+     * Checks if the schema has been mutated in the current transaction. Such mutations are not reflected by
+     * {@link #schemaVersion()} until the transaction is committed, so caches derived from the schema should not be
+     * used while this is true.
+     *
+     * @return true if the schema has been mutated in the current transaction
+     */
+    @CheckReturnValue
+    boolean isSchemaMutated();
+
+    /**
+     * Returns the version of the data at the time this {@link GraknTx} was opened. The version is incremented every
+     * time a transaction which changes data is committed. This is used to stamp caches which are derived from data.
+     *
+     * @return the data version at the time the transaction was opened
+     */
+    @CheckReturnValue
+    long dataVersion();
+
+    /**
+     * Returns the data version of the last committed transaction which changed the instances of a {@link Type}, or
+     * of any of its sub types, including changes to their role players and attributes. Data derived from the
+     * instances of the {@link Type} at an earlier version is stale.
+     *
+     * @param type The {@link Label} of the {@link Type}
+     * @return the data version at which the instances of the type last changed
+     */
+    @CheckReturnValue
+    long dataVersion(Label type);
+
+    /**
+     * Checks if data has been changed in the current transaction. Such changes are not reflected by
+     * {@link #dataVersion(Label)} until the transaction is committed, so caches derived from the data should not be
+     * used while this is true.
+     *
+     * @return true if data has been changed in the current transaction
+     */
+    @CheckReturnValue
+    boolean isDataMutated();
 }
@@ -30,15 +30,20 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Common utility methods used within Grakn.
@@ -76,6 +81,41 @@ public class CommonUtil {
         return Stream.of(options).flatMap(CommonUtil::optionalToStream).findFirst();
     }
 
+    /**
+     * Lazily flattens a {@link Stream} of {@link Stream}s.
+     * Unlike {@link Stream#flatMap(Function)}, inner streams are pulled one element at a time, so short-circuiting
+     * operations such as {@link Stream#limit(long)} and {@link Stream#findAny()} do not consume a whole inner stream.
+     *
+     * @param stream the {@link Stream} to flatten
+     * @param mapper function producing the inner {@link Stream} of each element
+     * @param <T> the type of the outer elements
+     * @param <R> the type of the inner elements
+     * @return a single {@link Stream} over the elements of all the inner streams
+     */
+    public static <T, R> Stream<R> flatMapLazily(Stream<T> stream, Function<? super T, ? extends Stream<? extends R>> mapper){
+        Iterator<T> outer = stream.iterator();
+        Iterator<R> flattened = new Iterator<R>() {
+            private Iterator<? extends R> inner = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while(!inner.hasNext()){
+                    if(!outer.hasNext()) return false;
+                    inner = mapper.apply(outer.next()).iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public R next() {
+                if(!hasNext()) throw new NoSuchElementException();
+                return inner.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(flattened, Spliterator.ORDERED), false).
+                onClose(stream::close);
+    }
+
     /**
      * Helper which lazily checks if a {@link Stream} contains the number specified
      * WARNING: This consumes the stream rendering it unusable afterwards
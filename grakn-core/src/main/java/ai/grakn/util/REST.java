@@ -122,6 +122,7 @@ public class REST {
             public static final String TX_TYPE = "txType";
             public static final String LIMIT_EMBEDDED = "limitEmbedded";
             public static final String DEFINE_ALL_VARS = "defineAllVars";
+            public static final String STREAM = "stream";
         }
     }
 
@@ -158,6 +159,8 @@ public class REST {
             public static final String APPLICATION_JSON = "application/json";
             public static final String APPLICATION_TEXT = "application/text";
             public static final String APPLICATION_HAL ="application/hal+json";
+            public static final String APPLICATION_NDJSON = "application/x-ndjson";
+            public static final String APPLICATION_GRAQL_BINARY = "application/graql+binary";
             public static final String APPLICATION_ALL ="*/*";
         }
 
@@ -22,11 +22,14 @@ import ai.grakn.GraknConfigKey;
 import ai.grakn.engine.data.RedisWrapper;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.JedisLockProvider;
+import ai.grakn.engine.lock.JedisNotifyingLockProvider;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.engine.postprocessing.PostProcessor;
 import ai.grakn.engine.tasks.manager.TaskManager;
 import ai.grakn.engine.tasks.manager.redisqueue.RedisTaskManager;
 import ai.grakn.engine.util.EngineID;
+import ai.grakn.graql.internal.query.match.QueryPlanCache;
+import ai.grakn.kb.internal.cache.TxCache;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.jvm.CachedThreadStatesGaugeSet;
@@ -41,6 +44,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static ai.grakn.GraknConfigKey.REDIS_HOST;
+import static ai.grakn.GraknConfigKey.REDIS_LOCK_NOTIFY_ON_RELEASE;
 import static ai.grakn.GraknConfigKey.REDIS_POOL_SIZE;
 import static ai.grakn.GraknConfigKey.REDIS_SENTINEL_HOST;
 import static ai.grakn.GraknConfigKey.REDIS_SENTINEL_MASTER;
@@ -93,7 +97,7 @@ public class GraknCreator {
         if (graknEngineServer == null) {
             RedisWrapper redisWrapper = instantiateRedis(graknEngineConfig);
             Pool<Jedis> jedisPool = redisWrapper.getJedisPool();
-            LockProvider lockProvider = instantiateLock(jedisPool);
+            LockProvider lockProvider = instantiateLock(graknEngineConfig, jedisPool);
             EngineGraknTxFactory factory = instantiateGraknTxFactory(graknEngineConfig, lockProvider);
             PostProcessor postProcessor = postProcessor(metricRegistry, graknEngineConfig, factory, jedisPool, lockProvider);
             TaskManager taskManager = instantiateTaskManager(metricRegistry, graknEngineConfig, engineID, factory, jedisPool, postProcessor);
@@ -127,14 +131,17 @@ public class GraknCreator {
         return builder.build();
     }
 
-    protected synchronized LockProvider instantiateLock(Pool<Jedis> jedisPool) {
+    protected synchronized LockProvider instantiateLock(GraknConfig config, Pool<Jedis> jedisPool) {
         if (lockProvider == null) {
-            lockProvider = lockProvider(jedisPool);
+            lockProvider = lockProvider(config, jedisPool);
         }
         return lockProvider;
     }
 
-    protected JedisLockProvider lockProvider(Pool<Jedis> jedisPool) {
+    protected LockProvider lockProvider(GraknConfig config, Pool<Jedis> jedisPool) {
+        if (config.getProperty(REDIS_LOCK_NOTIFY_ON_RELEASE)) {
+            return new JedisNotifyingLockProvider(jedisPool);
+        }
         return new JedisLockProvider(jedisPool);
     }
 
@@ -175,6 +182,12 @@ public class GraknCreator {
         metricRegistry.register(name(GraknEngineServer.class, "jedis", "borrow_wait_time_ms", "max"), (Gauge<Long>) jedisPool::getMaxBorrowWaitTimeMillis);
         metricRegistry.register(name(GraknEngineServer.class, "jedis", "borrow_wait_time_ms", "mean"), (Gauge<Long>) jedisPool::getMeanBorrowWaitTimeMillis);
 
+        metricRegistry.register(name(GraknEngineServer.class, "query-plan-cache", "hits"), (Gauge<Long>) QueryPlanCache::totalHitCount);
+        metricRegistry.register(name(GraknEngineServer.class, "query-plan-cache", "misses"), (Gauge<Long>) QueryPlanCache::totalMissCount);
+        metricRegistry.register(name(GraknEngineServer.class, "tx-concept-cache", "hits"), (Gauge<Long>) TxCache::totalConceptCacheHitCount);
+        metricRegistry.register(name(GraknEngineServer.class, "tx-concept-cache", "misses"), (Gauge<Long>) TxCache::totalConceptCacheMissCount);
+        metricRegistry.register(name(GraknEngineServer.class, "tx-concept-cache", "evictions"), (Gauge<Long>) TxCache::totalConceptCacheEvictionCount);
+
         metricRegistry.register(name(GraknEngineServer.class, "System", "gc"), new GarbageCollectorMetricSet());
         metricRegistry.register(name(GraknEngineServer.class, "System", "threads"), new CachedThreadStatesGaugeSet(15, TimeUnit.SECONDS));
         metricRegistry.register(name(GraknEngineServer.class, "System", "memory"), new MemoryUsageGaugeSet());
@@ -191,7 +204,7 @@ public class GraknCreator {
     @VisibleForTesting
     public synchronized GraknEngineServer cleanGraknEngineServer(GraknConfig config, RedisWrapper redisWrapper) {
         Pool<Jedis> jedisPool = redisWrapper.getJedisPool();
-        LockProvider lockProvider = lockProvider(jedisPool);
+        LockProvider lockProvider = lockProvider(config, jedisPool);
         EngineGraknTxFactory factory = engineGraknTxFactory(config, lockProvider);
         MetricRegistry metricRegistry = metricRegistry();
         EngineID engineID = engineId();
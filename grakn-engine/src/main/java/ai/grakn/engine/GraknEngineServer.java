@@ -106,6 +106,7 @@ public class GraknEngineServer implements AutoCloseable {
                 LOG.error(getFullStackTrace(e));
             }
             httpHandler.stopHTTP();
+            lockProvider.close();
             redisWrapper.close();
         }
     }
@@ -31,6 +31,7 @@ import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.exception.GraknBackendException;
 import ai.grakn.exception.InvalidKBException;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import com.google.common.base.Stopwatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -140,6 +141,7 @@ public class SystemKeyspaceImpl implements SystemKeyspace {
             attribute.delete();
 
             existingKeyspaces.remove(keyspace);
+            KeyspaceStatistics.remove(keyspace);
 
             graph.admin().commitSubmitNoLogs();
         }
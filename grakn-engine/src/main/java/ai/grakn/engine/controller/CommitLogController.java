@@ -25,7 +25,7 @@ import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.engine.tasks.manager.TaskManager;
 import ai.grakn.engine.tasks.manager.TaskState;
 import ai.grakn.util.REST;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.io.ByteStreams;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
@@ -36,7 +36,12 @@ import spark.Service;
 
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
 
 import static ai.grakn.engine.controller.util.Requests.mandatoryPathParameter;
 import static ai.grakn.util.REST.Request.COMMIT_LOG_COUNTING;
@@ -66,19 +71,31 @@ public class CommitLogController {
         @ApiImplicitParam(name = COMMIT_LOG_FIXING, value = "A Json Array of IDs representing concepts to be post processed", required = true, dataType = "string", paramType = "body"),
         @ApiImplicitParam(name = COMMIT_LOG_COUNTING, value = "A Json Array types with new and removed instances", required = true, dataType = "string", paramType = "body")
     })
-    private String submitConcepts(Request req, Response res) throws JsonProcessingException {
+    private String submitConcepts(Request req, Response res) throws IOException {
         Keyspace keyspace = Keyspace.of(mandatoryPathParameter(req, REST.Request.KEYSPACE_PARAM));
+        String body = body(req);
 
         // Things to post process
         TaskState postProcessingTaskState = PostProcessingTask.createTask(this.getClass());
-        TaskConfiguration postProcessingTaskConfiguration = PostProcessingTask.createConfig(keyspace, req.body());
+        TaskConfiguration postProcessingTaskConfiguration = PostProcessingTask.createConfig(keyspace, body);
 
         // TODO Use an engine wide executor here
         CompletableFuture.allOf(
                 CompletableFuture.runAsync(() -> manager.addTask(postProcessingTaskState, postProcessingTaskConfiguration)),
-                CompletableFuture.runAsync(() -> postProcessor.updateCounts(keyspace, Json.read(req.body()))))
+                CompletableFuture.runAsync(() -> postProcessor.updateCounts(keyspace, Json.read(body))))
                 .join();
 
         return "";
     }
+
+    /**
+     * Commit logs are submitted gzipped by clients, uncompressed bodies are still accepted
+     */
+    private static String body(Request req) throws IOException {
+        if(!"gzip".equalsIgnoreCase(req.headers("Content-Encoding"))) return req.body();
+
+        try(InputStream body = new GZIPInputStream(new ByteArrayInputStream(req.bodyAsBytes()))) {
+            return new String(ByteStreams.toByteArray(body), StandardCharsets.UTF_8);
+        }
+    }
 }
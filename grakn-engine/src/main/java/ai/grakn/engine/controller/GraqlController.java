@@ -58,7 +58,12 @@ import spark.Service;
 
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
-import java.util.List;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -73,10 +78,13 @@ import static ai.grakn.util.REST.Request.Graql.DEFINE_ALL_VARS;
 import static ai.grakn.util.REST.Request.Graql.INFER;
 import static ai.grakn.util.REST.Request.Graql.LIMIT_EMBEDDED;
 import static ai.grakn.util.REST.Request.Graql.MULTI;
+import static ai.grakn.util.REST.Request.Graql.STREAM;
 import static ai.grakn.util.REST.Request.Graql.TX_TYPE;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
+import static ai.grakn.util.REST.Response.ContentType.APPLICATION_GRAQL_BINARY;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_HAL;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON_GRAQL;
+import static ai.grakn.util.REST.Response.ContentType.APPLICATION_NDJSON;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_TEXT;
 import static com.codahale.metrics.MetricRegistry.name;
 import static java.lang.Boolean.parseBoolean;
@@ -92,6 +100,7 @@ import static java.lang.Boolean.parseBoolean;
 public class GraqlController {
     private static final Logger LOG = LoggerFactory.getLogger(GraqlController.class);
     private static final int MAX_RETRY = 10;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
     private final EngineGraknTxFactory factory;
     private final Service spark;
     private final TaskManager taskManager;
@@ -137,15 +146,23 @@ public class GraqlController {
                     value = "Define all variables in response", dataType = "boolean", paramType = "query"
             ),
             @ApiImplicitParam(name = MULTI, dataType = "boolean", paramType = "query"),
-            @ApiImplicitParam(name = TX_TYPE, dataType = "string", paramType = "query")
+            @ApiImplicitParam(name = TX_TYPE, dataType = "string", paramType = "query"),
+            @ApiImplicitParam(
+                    name = STREAM,
+                    value = "Stream results one per line as they are found", dataType = "boolean", paramType = "query"
+            )
     })
     private Object executeGraql(Request request, Response response) throws RetryException, ExecutionException {
         String queryString = mandatoryBody(request);
         Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
         Optional<Boolean> infer = queryParameter(request, INFER).map(Boolean::parseBoolean);
         boolean multi = parseBoolean(queryParameter(request, MULTI).orElse("false"));
+        boolean stream = parseBoolean(queryParameter(request, STREAM).orElse("false"));
         int limitEmbedded = queryParameter(request, LIMIT_EMBEDDED).map(Integer::parseInt).orElse(-1);
-        String acceptType = Requests.getAcceptType(request);
+        // The binary format needs every result before it can be written, so it cannot be streamed
+        String acceptType = stream ?
+                negotiateAcceptType(request, APPLICATION_JSON_GRAQL, APPLICATION_HAL, APPLICATION_TEXT) :
+                negotiateAcceptType(request, APPLICATION_GRAQL_BINARY, APPLICATION_JSON_GRAQL, APPLICATION_HAL, APPLICATION_TEXT);
 
         GraknTxType txType = Requests.queryParameter(request, TX_TYPE)
                 .map(String::toUpperCase).map(GraknTxType::valueOf).orElse(GraknTxType.WRITE);
@@ -154,6 +171,20 @@ public class GraqlController {
 
         LOG.trace(String.format("Executing graql statements: {%s}", queryString));
 
+        // Streamed results cannot be retried once they have been written to the client
+        if (stream) {
+            try (GraknTx graph = factory.tx(keyspace, txType); Timer.Context context = executeGraqlPostTimer.time()) {
+                QueryBuilder builder = graph.graql();
+
+                infer.ifPresent(builder::infer);
+
+                QueryParser parser = builder.parser();
+                defineAllVars.ifPresent(parser::defineAllVars);
+                streamQuery(graph, response, limitEmbedded, queryString, acceptType, multi, parser);
+                return "";
+            }
+        }
+
         return executeFunctionWithRetrying(() -> {
             try (GraknTx graph = factory.tx(keyspace, txType); Timer.Context context = executeGraqlPostTimer.time()) {
                 QueryBuilder builder = graph.graql();
@@ -216,7 +247,8 @@ public class GraqlController {
      */
     private Object respond(Response response, String contentType, Object responseBody) {
         response.type(contentType);
-        response.body(responseBody.toString());
+        // Binary bodies are written by Spark as they are returned
+        if (!(responseBody instanceof byte[])) response.body(responseBody.toString());
         response.status(200);
         return responseBody;
     }
@@ -232,35 +264,95 @@ public class GraqlController {
      */
     private Object executeQuery(GraknTx graph, int limitEmbedded, String queryString,
                                 String acceptType, boolean multi, QueryParser parser) {
-        Printer<?> printer;
-
-        switch (acceptType) {
-            case APPLICATION_TEXT:
-                printer = Printers.graql(false);
-                break;
-            case APPLICATION_JSON_GRAQL:
-                printer = Printers.json();
-                break;
-            case APPLICATION_HAL:
-                printer = Printers.hal(graph.keyspace(), limitEmbedded);
-                break;
-            default:
-                throw GraknServerException.unsupportedContentType(acceptType);
-        }
+        Printer<?> printer = printer(graph, acceptType, limitEmbedded);
 
-        String formatted;
+        Object results;
         boolean commitQuery = true;
         if (multi) {
             Stream<Query<?>> query = parser.parseList(queryString);
-            List<?> collectedResults = query.map(this::executeAndMonitor).collect(Collectors.toList());
-            formatted = printer.graqlString(collectedResults);
+            results = query.map(this::executeAndMonitor).collect(Collectors.toList());
         } else {
             Query<?> query = parser.parseQuery(queryString);
-            formatted = printer.graqlString(executeAndMonitor(query));
+            results = executeAndMonitor(query);
             commitQuery = !query.isReadOnly();
         }
+
+        // Printers already produce valid Json so it is sent as is rather than being parsed again
+        Object formatted = acceptType.equals(APPLICATION_GRAQL_BINARY) ?
+                printer.graqlBytes(results) : printer.graqlString(results);
         if (commitQuery) commitAndSubmitPPTask(graph, postProcessor, taskManager);
-        return acceptType.equals(APPLICATION_TEXT) ? formatted : Json.read(formatted);
+        return formatted;
+    }
+
+    /**
+     * Execute a query and write each result to the response on its own line as soon as it is found. Results are
+     * never collected, so the response is sent using chunked transfer encoding. Json and HAL results are sent as
+     * newline delimited Json.
+     *
+     * @param graph    open transaction to current graph
+     * @param response response to the client which the results are written to
+     * @param queryString query to be executed
+     * @param acceptType  response format that the client will accept
+     * @param multi       execute multiple statements
+     */
+    private void streamQuery(GraknTx graph, Response response, int limitEmbedded, String queryString,
+                             String acceptType, boolean multi, QueryParser parser) {
+        Printer<?> printer = printer(graph, acceptType, limitEmbedded);
+
+        Stream<Query<?>> queries = multi ? parser.parseList(queryString) : Stream.of(parser.parseQuery(queryString));
+
+        response.type(acceptType.equals(APPLICATION_TEXT) ? APPLICATION_TEXT : APPLICATION_NDJSON);
+        response.status(200);
+
+        boolean commitQuery = false;
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    response.raw().getOutputStream(), StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+            Iterator<Query<?>> queryIterator = queries.iterator();
+            while (queryIterator.hasNext()) {
+                Query<?> query = queryIterator.next();
+                commitQuery |= !query.isReadOnly();
+
+                Iterator<String> results = query.resultsString(printer).iterator();
+                while (results.hasNext()) {
+                    // Json results are printed on a single line so each line is a complete result
+                    writer.write(results.next());
+                    writer.write('\n');
+                }
+                writer.flush();
+            }
+
+            if (commitQuery) commitAndSubmitPPTask(graph, postProcessor, taskManager);
+            writer.flush();
+        } catch (IOException e) {
+            throw GraknServerException.serverException(500, e);
+        }
+    }
+
+    /**
+     * Picks the most preferred type accepted by the request which a response can be given in
+     */
+    private static String negotiateAcceptType(Request request, String... contentTypes) {
+        return Requests.negotiateAcceptType(request, contentTypes).orElseThrow(() ->
+                GraknServerException.unsupportedContentType(Requests.getAcceptType(request)));
+    }
+
+    /**
+     * @return a {@link Printer} for the format specified by the request
+     */
+    private static Printer<?> printer(GraknTx graph, String acceptType, int limitEmbedded) {
+        switch (acceptType) {
+            case APPLICATION_TEXT:
+                return Printers.graql(false);
+            case APPLICATION_JSON_GRAQL:
+                return Printers.json();
+            case APPLICATION_HAL:
+                return Printers.hal(graph.keyspace(), limitEmbedded);
+            case APPLICATION_GRAQL_BINARY:
+                return Printers.binary();
+            default:
+                throw GraknServerException.unsupportedContentType(acceptType);
+        }
     }
 
     private static void commitAndSubmitPPTask(
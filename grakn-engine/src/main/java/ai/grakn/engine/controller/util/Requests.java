@@ -23,8 +23,12 @@ import mjson.Json;
 import spark.Request;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Utility class for handling http requests
@@ -115,28 +119,74 @@ public class Requests {
     }
 
     /**
-     * Checks that the Request is of the valid type
+     * Checks that the Request accepts one of the valid types
      *
      * @param request
      * @param contentTypes
      */
     public static void validateRequest(Request request, String... contentTypes){
-        String acceptType = getAcceptType(request);
+        negotiateAcceptType(request, contentTypes).orElseThrow(() ->
+                GraknServerException.unsupportedContentType(getAcceptType(request)));
+    }
 
-        if(!Arrays.asList(contentTypes).contains(acceptType)){
-            throw GraknServerException.unsupportedContentType(acceptType);
-        }
+    /**
+     * Picks the type of the response from the types accepted by the request. Accepted types are tried in order of
+     * their quality, and in the order they were given when their quality is the same.
+     *
+     * @param request information about the HTTP request
+     * @param contentTypes types which can be given in the response
+     * @return the most preferred accepted type which can be given, or empty if none of them can be given
+     */
+    public static Optional<String> negotiateAcceptType(Request request, String... contentTypes) {
+        List<String> supported = Arrays.asList(contentTypes);
+        return getAcceptTypes(request).stream().filter(supported::contains).findFirst();
     }
 
     /**
-     * Gets the accepted type of the request
+     * Gets the first accepted type of the request
      *
      * @param request
      * @return
      */
     public static String getAcceptType(Request request) {
-        // TODO - we are not handling multiple values here and we should!
         String header = request.headers("Accept");
-        return header == null ? "" : request.headers("Accept").split(",")[0];
+        return header == null ? "" : mediaType(header.split(",")[0]);
+    }
+
+    /**
+     * Gets all the accepted types of the request, most preferred first. Types with a quality of zero are left out.
+     *
+     * @param request information about the HTTP request
+     * @return the accepted types
+     */
+    public static List<String> getAcceptTypes(Request request) {
+        String header = request.headers("Accept");
+        if (header == null) return Collections.emptyList();
+
+        // The sort is stable so types of the same quality keep the order they were given in
+        return Arrays.stream(header.split(","))
+                .filter(value -> quality(value) > 0)
+                .sorted(Comparator.comparingDouble(Requests::quality).reversed())
+                .map(Requests::mediaType)
+                .collect(Collectors.toList());
+    }
+
+    private static String mediaType(String acceptValue) {
+        return acceptValue.split(";")[0].trim();
+    }
+
+    private static double quality(String acceptValue) {
+        String[] parts = acceptValue.split(";");
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equals("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import ai.grakn.engine.lock.JedisNotifyingLockProvider.WaiterStripe;
+import com.google.common.base.Preconditions;
+
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * <p>
+ *     Distributed lock which sleeps until it is notified that the lock was released
+ * </p>
+ *
+ * <p>
+ *     See {@link JedisNotifyingLockProvider}. While held the lock carries a token which is greater than that
+ *     of any previous holder of the lock.
+ * </p>
+ *
+ * @author agent
+ */
+public class JedisNotifyingLock implements Lock {
+
+    //Redis returns this as the remaining lease of a key which does not exist
+    private static final long NO_LEASE = -2;
+
+    private final JedisNotifyingLockProvider provider;
+    private final String lockName;
+    private Long token = null;
+    private ScheduledFuture<?> leaseRenewal = null;
+
+    JedisNotifyingLock(JedisNotifyingLockProvider provider, String lockName) {
+        Preconditions.checkArgument(lockName != null && !lockName.isEmpty(), "Lock name not valid");
+        this.provider = provider;
+        this.lockName = lockName;
+    }
+
+    @Override
+    public void lock() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                acquire(Long.MAX_VALUE);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        acquire(Long.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized boolean tryLock() {
+        Optional<Long> acquired = provider.tryAcquire(lockName);
+        acquired.ifPresent(this::held);
+        return acquired.isPresent();
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        Preconditions.checkNotNull(unit);
+        return acquire(unit.toMillis(time));
+    }
+
+    @Override
+    public synchronized void unlock() {
+        if (token == null) throw new IllegalMonitorStateException("Lock [" + lockName + "] is not held");
+        leaseRenewal.cancel(false);
+        provider.release(lockName, token);
+        token = null;
+        leaseRenewal = null;
+    }
+
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException("Conditions are not supported by distributed locks");
+    }
+
+    /**
+     * @return The token of this lock, which increases every time the lock changes hands
+     */
+    synchronized long token() {
+        if (token == null) throw new IllegalMonitorStateException("Lock [" + lockName + "] is not held");
+        return token;
+    }
+
+    public String getLockName() {
+        return lockName;
+    }
+
+    /**
+     * Marks the lock as held with the given token and starts renewing its lease
+     */
+    synchronized void held(long heldToken) {
+        token = heldToken;
+        leaseRenewal = provider.renewLease(lockName, heldToken);
+    }
+
+    private boolean acquire(long timeoutMs) throws InterruptedException {
+        long now = System.currentTimeMillis();
+        long deadline = timeoutMs > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeoutMs;
+        WaiterStripe waiters = provider.waiters(lockName);
+
+        while (true) {
+            if (Thread.interrupted()) throw new InterruptedException();
+
+            //The generation is read before trying so that a release in between is not missed
+            long generation = waiters.generation();
+            if (tryLock()) return true;
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) return false;
+
+            long lease = provider.remainingLease(lockName);
+            if (lease == NO_LEASE) continue;
+
+            waiters.await(generation, lease > 0 ? Math.min(remaining, lease) : remaining);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.util.Pool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * <p>
+ *     Provider of distributed locks which notifies waiters when a lock is released
+ * </p>
+ *
+ * <p>
+ *     A lock is a Redis key holding a token taken from a counter which only ever increases. A holder only renews or
+ *     releases the lock while it still holds its own token, so a holder whose lease ran out cannot free the lock of
+ *     the next holder. A lock is held under a lease which is renewed in the background for as long as the lock is
+ *     held. If the holder dies the lock is freed when the lease runs out.
+ * </p>
+ *
+ * <p>
+ *     The resources protected by these locks do not check the tokens, so a holder which stalls for longer than its
+ *     lease can still write after the lock has passed to someone else.
+ * </p>
+ *
+ * <p>
+ *     Releasing a lock publishes a message on a channel of that lock. Waiters sleep until a release of the lock they
+ *     want is published, rather than polling Redis. Waiters in this process are also woken directly. As a safeguard
+ *     against missed messages a waiter never sleeps for longer than the remaining lease of the lock it waits for.
+ * </p>
+ *
+ * @author agent
+ */
+public class JedisNotifyingLockProvider implements LockProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JedisNotifyingLockProvider.class);
+
+    private static final String LOCK_PREFIX = "notifying-lock:";
+    private static final String TOKEN_PREFIX = "notifying-lock-token:";
+    private static final String RELEASE_CHANNEL_PREFIX = "notifying-lock-released:";
+    private static final long DEFAULT_LEASE_MS = 60 * 1000;
+    private static final long RESUBSCRIBE_DELAY_MS = 1000;
+    private static final int WAITER_STRIPES = 64;
+
+    //Sets the lock to a new token if it is free
+    private static final String ACQUIRE_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+            "local token = redis.call('incr', KEYS[2]) " +
+            "redis.call('set', KEYS[1], token, 'PX', ARGV[1]) " +
+            "return token";
+
+    //Sets all the locks to new tokens if they are all free. The lock keys come first and then their token keys.
+    private static final String ACQUIRE_ALL_SCRIPT =
+            "local n = #KEYS / 2 " +
+            "for i = 1, n do if redis.call('exists', KEYS[i]) == 1 then return {} end end " +
+            "local tokens = {} " +
+            "for i = 1, n do " +
+            "  tokens[i] = redis.call('incr', KEYS[n + i]) " +
+            "  redis.call('set', KEYS[i], tokens[i], 'PX', ARGV[1]) " +
+            "end " +
+            "return tokens";
+
+    //Extends the lease if the lock is still held with the given token
+    private static final String RENEW_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end " +
+            "return 0";
+
+    //Frees the lock if it is still held with the given token and notifies any waiters
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('del', KEYS[1]) " +
+            "  redis.call('publish', ARGV[2], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0";
+
+    private final Pool<Jedis> jedisPool;
+    private final long leaseMs;
+    private final WaiterStripe[] waiters = new WaiterStripe[WAITER_STRIPES];
+    private final ScheduledExecutorService renewals;
+    private final ExecutorService subscriber;
+    private final JedisPubSub releaseListener = new JedisPubSub() {
+        @Override
+        public void onPMessage(String pattern, String channel, String message) {
+            wakeWaiters(channel.substring(RELEASE_CHANNEL_PREFIX.length()));
+        }
+    };
+    private volatile boolean closed = false;
+
+    public JedisNotifyingLockProvider(Pool<Jedis> jedisPool) {
+        this(jedisPool, DEFAULT_LEASE_MS);
+    }
+
+    public JedisNotifyingLockProvider(Pool<Jedis> jedisPool, long leaseMs) {
+        Preconditions.checkNotNull(jedisPool, "JedisPool used in lock provider cannot be null");
+        Preconditions.checkArgument(leaseMs > 0, "Lease of locks must be positive");
+        this.jedisPool = jedisPool;
+        this.leaseMs = leaseMs;
+        for (int i = 0; i < WAITER_STRIPES; i++) waiters[i] = new WaiterStripe();
+
+        renewals = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("lock-lease-renewal-%d").setDaemon(true).build());
+        subscriber = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("lock-release-listener-%d").setDaemon(true).build());
+        subscriber.submit(this::listenForReleases);
+    }
+
+    @Override
+    public Lock getLock(String lockName) {
+        return new JedisNotifyingLock(this, lockName);
+    }
+
+    /**
+     * Acquires all the locks in a single round trip to Redis if none of them are held.
+     */
+    @Override
+    public Optional<List<Lock>> tryLockAll(Collection<String> lockNames) {
+        List<String> names = new ArrayList<>(new TreeSet<>(lockNames));
+        List<String> keys = new ArrayList<>();
+        names.forEach(name -> keys.add(lockKey(name)));
+        names.forEach(name -> keys.add(tokenKey(name)));
+
+        List<?> tokens;
+        try (Jedis jedis = jedisPool.getResource()) {
+            tokens = (List<?>) jedis.eval(ACQUIRE_ALL_SCRIPT, keys, leaseArgs());
+        }
+        if (tokens.size() != names.size()) return Optional.empty();
+
+        List<Lock> locks = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            JedisNotifyingLock lock = new JedisNotifyingLock(this, names.get(i));
+            lock.held((Long) tokens.get(i));
+            locks.add(lock);
+        }
+        return Optional.of(locks);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            if (releaseListener.isSubscribed()) releaseListener.punsubscribe();
+        } catch (RuntimeException e) {
+            LOG.warn("Could not stop listening for released locks", e);
+        }
+        subscriber.shutdownNow();
+        renewals.shutdownNow();
+    }
+
+    /**
+     * @return the token of the lock if it was free and is now held, otherwise empty
+     */
+    Optional<Long> tryAcquire(String lockName) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Long token = (Long) jedis.eval(ACQUIRE_SCRIPT, lockKeys(lockName), leaseArgs());
+            return token == 0 ? Optional.empty() : Optional.of(token);
+        }
+    }
+
+    /**
+     * @return the time in milliseconds until the lease of the lock runs out, or a negative number if it is free
+     */
+    long remainingLease(String lockName) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return jedis.pttl(lockKey(lockName));
+        }
+    }
+
+    /**
+     * Frees the lock if it is still held with the given token and wakes up anyone waiting for it
+     */
+    void release(String lockName, long token) {
+        Long released;
+        try (Jedis jedis = jedisPool.getResource()) {
+            released = (Long) jedis.eval(RELEASE_SCRIPT, 1, lockKey(lockName), String.valueOf(token), releaseChannel(lockName));
+        }
+        if (released == 0) LOG.warn("Lock [{}] was no longer held with token [{}] when released", lockName, token);
+        wakeWaiters(lockName);
+    }
+
+    /**
+     * Renews the lease of the lock in the background until the returned future is cancelled.
+     * Renewal stops by itself if the lock is found to no longer be held with the given token.
+     */
+    ScheduledFuture<?> renewLease(String lockName, long token) {
+        long period = Math.max(1, leaseMs / 3);
+        ScheduledFuture<?>[] renewal = new ScheduledFuture<?>[1];
+        renewal[0] = renewals.scheduleAtFixedRate(() -> {
+            try (Jedis jedis = jedisPool.getResource()) {
+                Long renewed = (Long) jedis.eval(RENEW_SCRIPT, 1, lockKey(lockName), String.valueOf(token), String.valueOf(leaseMs));
+                if (renewed == 0) {
+                    LOG.warn("Lease of lock [{}] with token [{}] was lost", lockName, token);
+                    renewal[0].cancel(false);
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("Could not renew lease of lock [" + lockName + "]", e);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+        return renewal[0];
+    }
+
+    WaiterStripe waiters(String lockName) {
+        return waiters[Math.floorMod(lockName.hashCode(), WAITER_STRIPES)];
+    }
+
+    private void wakeWaiters(String lockName) {
+        waiters(lockName).wake();
+    }
+
+    private void listenForReleases() {
+        while (!closed) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                jedis.psubscribe(releaseListener, RELEASE_CHANNEL_PREFIX + "*");
+            } catch (RuntimeException e) {
+                if (closed) return;
+                LOG.warn("Lost subscription to released locks, waiters fall back to lease expiry until it is restored", e);
+                try {
+                    Thread.sleep(RESUBSCRIBE_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private List<String> leaseArgs() {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(leaseMs));
+        return args;
+    }
+
+    private static List<String> lockKeys(String lockName) {
+        List<String> keys = new ArrayList<>();
+        keys.add(lockKey(lockName));
+        keys.add(tokenKey(lockName));
+        return keys;
+    }
+
+    private static String lockKey(String lockName) {
+        return LOCK_PREFIX + lockName;
+    }
+
+    private static String tokenKey(String lockName) {
+        return TOKEN_PREFIX + lockName;
+    }
+
+    private static String releaseChannel(String lockName) {
+        return RELEASE_CHANNEL_PREFIX + lockName;
+    }
+
+    /**
+     * Waiters for a group of locks. Every release of one of the locks moves the stripe to a new generation, so a
+     * waiter which saw the previous generation before trying the lock cannot miss the release.
+     */
+    static class WaiterStripe {
+        private long generation = 0;
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        synchronized void wake() {
+            generation++;
+            notifyAll();
+        }
+
+        /**
+         * Waits until the stripe moves on from the given generation or the time runs out
+         */
+        synchronized void await(long seenGeneration, long maxWaitMs) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + maxWaitMs;
+            long remaining = maxWaitMs;
+            while (generation == seenGeneration && remaining > 0) {
+                wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+    }
+}
@@ -17,6 +17,13 @@
  */
 package ai.grakn.engine.lock;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -26,4 +33,29 @@ import java.util.concurrent.locks.Lock;
  */
 public interface LockProvider {
     Lock getLock(String lockName);
+
+    /**
+     * Tries to acquire several locks without waiting. Either all of the locks are acquired or none of them are.
+     *
+     * @param lockNames The names of the locks to acquire
+     * @return The acquired locks, or empty if any of the locks is held by someone else
+     */
+    default Optional<List<Lock>> tryLockAll(Collection<String> lockNames){
+        Deque<Lock> acquired = new ArrayDeque<>();
+        for (String lockName : new TreeSet<>(lockNames)) {
+            Lock lock = getLock(lockName);
+            if (!lock.tryLock()) {
+                acquired.forEach(Lock::unlock);
+                return Optional.empty();
+            }
+            acquired.push(lock);
+        }
+        return Optional.of(new ArrayList<>(acquired));
+    }
+
+    /**
+     * Releases any resources held by the provider
+     */
+    default void close(){
+    }
 }
@@ -27,12 +27,23 @@ import ai.grakn.engine.tasks.manager.TaskState;
 import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
 import com.codahale.metrics.Timer.Context;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
 import mjson.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static com.codahale.metrics.MetricRegistry.name;
@@ -63,19 +74,30 @@ public class PostProcessingTask extends BackgroundTask {
                 .timer(name(PostProcessingTask.class, "execution")).time()) {
             Map<String, Set<ConceptId>> allToPostProcess = getPostProcessingJobs(Schema.BaseType.ATTRIBUTE, configuration());
 
-            allToPostProcess.forEach((conceptIndex, conceptIds) -> {
-                Context contextSingle = metricRegistry()
-                        .timer(name(PostProcessingTask.class, "execution-single")).time();
-                try {
-                    Keyspace keyspace = Keyspace.of(configuration().json().at(REST.Request.KEYSPACE_PARAM).asString());
-                    int maxRetry = engineConfiguration().getProperty(GraknConfigKey.LOADER_REPEAT_COMMITS);
+            Keyspace keyspace = Keyspace.of(configuration().json().at(REST.Request.KEYSPACE_PARAM).asString());
+            int maxRetry = engineConfiguration().getProperty(GraknConfigKey.LOADER_REPEAT_COMMITS);
+            int batchSize = Math.max(1, engineConfiguration().getProperty(GraknConfigKey.POST_PROCESSING_BATCH_SIZE));
+            int parallelism = Math.max(1, engineConfiguration().getProperty(GraknConfigKey.POST_PROCESSING_PARALLELISM));
+
+            List<Map<String, Set<ConceptId>>> batches = createBatches(allToPostProcess, batchSize);
+            metricRegistry().histogram(name(PostProcessingTask.class, "batches")).update(batches.size());
 
+            Consumer<Map<String, Set<ConceptId>>> mergeBatch = batch -> {
+                Context contextBatch = metricRegistry()
+                        .timer(name(PostProcessingTask.class, "execution-batch")).time();
+                try {
                     GraknTxMutators.runMutationWithRetry(factory(), keyspace, maxRetry,
-                            (graph) -> postProcessor().mergeDuplicateConcepts(graph, conceptIndex, conceptIds));
+                            (graph) -> postProcessor().mergeDuplicateConcepts(graph, batch));
                 } finally {
-                    contextSingle.stop();
+                    contextBatch.stop();
                 }
-            });
+            };
+
+            if(parallelism == 1 || batches.size() == 1) {
+                batches.forEach(mergeBatch);
+            } else {
+                mergeInParallel(batches, mergeBatch, parallelism);
+            }
 
             LOG.debug(JOB_FINISHED, Schema.BaseType.ATTRIBUTE.name(), allToPostProcess);
 
@@ -83,6 +105,48 @@ public class PostProcessingTask extends BackgroundTask {
         }
     }
 
+    /**
+     * Splits the indices to post process into batches which are each merged in a single transaction.
+     * Indices are ordered by their lock stripe so batches running concurrently contend on as few locks as possible.
+     *
+     * @param allToPostProcess Map of concept indices to the ids of their suspected duplicates
+     * @param batchSize The maximum number of indices in a batch
+     * @return The batches to merge
+     */
+    static List<Map<String, Set<ConceptId>>> createBatches(Map<String, Set<ConceptId>> allToPostProcess, int batchSize){
+        List<String> indices = allToPostProcess.keySet().stream()
+                .sorted(Comparator.comparingInt(PostProcessor::lockStripe).thenComparing(Comparator.naturalOrder()))
+                .collect(Collectors.toList());
+
+        List<Map<String, Set<ConceptId>>> batches = new ArrayList<>();
+        for (List<String> batchIndices : Lists.partition(indices, batchSize)) {
+            Map<String, Set<ConceptId>> batch = new HashMap<>();
+            batchIndices.forEach(index -> batch.put(index, allToPostProcess.get(index)));
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static void mergeInParallel(
+            List<Map<String, Set<ConceptId>>> batches, Consumer<Map<String, Set<ConceptId>>> mergeBatch, int parallelism){
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, batches.size()));
+        try {
+            List<Future<?>> merges = batches.stream()
+                    .map(batch -> pool.submit(() -> mergeBatch.accept(batch)))
+                    .collect(Collectors.toList());
+            for (Future<?> merge : merges) {
+                merge.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
     /**
      * Extract a map of concept indices to concept ids from the provided configuration
      *
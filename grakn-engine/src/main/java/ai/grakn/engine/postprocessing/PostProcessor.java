@@ -25,6 +25,7 @@ import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.GraknConfig;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
 import com.codahale.metrics.MetricRegistry;
@@ -36,10 +37,17 @@ import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
 import redis.clients.util.Pool;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
@@ -71,18 +79,38 @@ public class PostProcessor {
     @Deprecated
     private static final String LOCK_KEY = "/post-processing-lock";
 
+    //Indices are locked in stripes so a batch of indices needs a bounded number of locks
+    private static final int LOCK_STRIPES = 1024;
+
     private PostProcessor(GraknConfig engineConfig, Pool<Jedis> jedisPool, EngineGraknTxFactory factory, LockProvider lockProvider, MetricRegistry metricRegistry){
         this.engineConfig = engineConfig;
         this.metricRegistry = metricRegistry;
         this.lockProvider = lockProvider;
         this.redis = RedisCountStorage.create(jedisPool, metricRegistry);
         this.factory = factory;
+        KeyspaceStatistics.setInstanceCountSource(this::instanceCounts);
     }
 
     public static PostProcessor create(GraknConfig engineConfig, Pool<Jedis> jedisPool, EngineGraknTxFactory factory, LockProvider lockProvider, MetricRegistry metricRegistry){
         return new PostProcessor(engineConfig, jedisPool, factory, lockProvider, metricRegistry);
     }
 
+    /**
+     * Reads the counts of {@link ai.grakn.concept.Type}s kept in redis in a single round trip.
+     * A {@link ai.grakn.concept.Type} with no count in redis has no instances which have been post processed.
+     */
+    private Map<ConceptId, Long> instanceCounts(Keyspace keyspace, Set<ConceptId> typeIds){
+        Set<String> keys = typeIds.stream()
+                .map(conceptId -> RedisCountStorage.getKeyNumInstances(keyspace, conceptId))
+                .collect(Collectors.toSet());
+        Map<String, Long> counts = redis.adjustCounts(Collections.emptyMap(), keys);
+
+        Map<ConceptId, Long> instanceCounts = new HashMap<>();
+        typeIds.forEach(conceptId ->
+                instanceCounts.put(conceptId, counts.get(RedisCountStorage.getKeyNumInstances(keyspace, conceptId))));
+        return instanceCounts;
+    }
+
     /**
      * Updates the counts of {@link ai.grakn.concept.Type}s based on the commit logs received.
      *
@@ -100,23 +128,12 @@ public class PostProcessor {
             //We Use redis to keep track of counts in order to ensure sharding happens in a centralised manner.
             //The graph cannot be used because each engine can have it's own snapshot of the graph with caching which makes
             //values only approximately correct
-            Set<ConceptId> conceptToShard = new HashSet<>();
-
-            //Update counts
-            jobs.forEach((key, value) -> {
-                metricRegistry
-                        .histogram(name(PostProcessor.class, "shard-size-increase"))
-                        .update(value);
-                Timer.Context contextSingle = metricRegistry
-                        .timer(name(PostProcessor.class, "execution-single")).time();
-                try {
-                    if (updateShardCounts(redis, keyspace, key, value, shardingThreshold)) {
-                        conceptToShard.add(key);
-                    }
-                } finally {
-                    contextSingle.stop();
-                }
-            });
+            jobs.values().forEach(value -> metricRegistry
+                    .histogram(name(PostProcessor.class, "shard-size-increase"))
+                    .update(value));
+
+            //Update counts in a single round trip to redis
+            Set<ConceptId> conceptToShard = updateShardCounts(redis, keyspace, jobs, shardingThreshold);
 
             //Shard anything which requires sharding
             conceptToShard.forEach(type -> {
@@ -135,20 +152,34 @@ public class PostProcessor {
     }
 
     /**
-     * Updates the type counts in redis and checks if sharding is needed.
+     * Updates the type counts in redis and checks which types need sharding.
+     * All counts are updated and read in a single pipelined round trip to redis.
      *
-     * @param keyspace The keyspace of the graph which the type comes from
-     * @param conceptId The id of the concept with counts to update
-     * @param value The number of instances which the type has gained/lost
-     * @return true if sharding is needed.
+     * @param keyspace The keyspace of the graph which the types come from
+     * @param jobs The ids of the concepts with counts to update mapped to the number of instances each type has
+     *             gained/lost
+     * @return the ids of the concepts which need sharding.
      */
-    private static boolean updateShardCounts(
-            RedisCountStorage redis, Keyspace keyspace, ConceptId conceptId, long value, long shardingThreshold){
-        long numShards = redis.getCount(RedisCountStorage.getKeyNumShards(keyspace, conceptId));
-        if(numShards == 0) numShards = 1;
-        long numInstances = redis.adjustCount(
-                RedisCountStorage.getKeyNumInstances(keyspace, conceptId), value);
-        return numInstances > shardingThreshold * numShards;
+    private static Set<ConceptId> updateShardCounts(
+            RedisCountStorage redis, Keyspace keyspace, Map<ConceptId, Long> jobs, long shardingThreshold){
+        Map<String, Long> adjustments = new HashMap<>();
+        Set<String> shardKeys = new HashSet<>();
+        jobs.forEach((conceptId, value) -> {
+            adjustments.put(RedisCountStorage.getKeyNumInstances(keyspace, conceptId), value);
+            shardKeys.add(RedisCountStorage.getKeyNumShards(keyspace, conceptId));
+        });
+
+        Map<String, Long> counts = redis.adjustCounts(adjustments, shardKeys);
+
+        KeyspaceStatistics statistics = KeyspaceStatistics.of(keyspace);
+        return jobs.keySet().stream().filter(conceptId -> {
+            long numShards = counts.get(RedisCountStorage.getKeyNumShards(keyspace, conceptId));
+            if(numShards == 0) numShards = 1;
+            long numInstances = counts.get(RedisCountStorage.getKeyNumInstances(keyspace, conceptId));
+            //The counts are also used by the query planner to estimate the cost of queries
+            statistics.putInstanceCount(conceptId, numInstances);
+            return numInstances > shardingThreshold * numShards;
+        }).collect(Collectors.toSet());
     }
 
     /**
@@ -168,7 +199,7 @@ public class PostProcessor {
 
         try {
             //Check if sharding is still needed. Another engine could have sharded whilst waiting for lock
-            if (updateShardCounts(redis, keyspace, conceptId, 0, shardingThreshold)) {
+            if (!updateShardCounts(redis, keyspace, Collections.singletonMap(conceptId, 0L), shardingThreshold).isEmpty()) {
 
                 //Shard
                 GraknTxMutators.runMutationWithRetry(factory, keyspace, maxRetry, graph -> {
@@ -201,43 +232,70 @@ public class PostProcessor {
     }
 
     /**
-     * Merges duplicate {@link ai.grakn.concept.Concept}s based on the unique index provided plus the {@link ConceptId}s
-     * of the suspected duplicates
+     * Merges duplicate {@link ai.grakn.concept.Concept}s of many unique indices in a single transaction.
+     * The lock stripes of all the indices with duplicates are acquired in ascending order, so concurrent batches
+     * cannot deadlock, and the merges are validated and committed once.
      *
      * @param tx The {@link GraknTx} responsible for performing the merge
-     * @param conceptIndex The unique {@link ai.grakn.concept.Concept} index which is supposed to exist only once
-     *                     across the entire DB.
-     * @param conceptIds The {@link ConceptId}s of the suspected duplicates
+     * @param conceptsByIndex The unique {@link ai.grakn.concept.Concept} indices mapped to the {@link ConceptId}s of
+     *                        their suspected duplicates
      */
-    public void mergeDuplicateConcepts(GraknTx tx, String conceptIndex, Set<ConceptId> conceptIds){
+    public void mergeDuplicateConcepts(GraknTx tx, Map<String, Set<ConceptId>> conceptsByIndex){
         Preconditions.checkNotNull(lockProvider, "Lock provider was null, possible race condition in initialisation");
-        if(tx.admin().duplicateResourcesExist(conceptIndex, conceptIds)){
-
-            // Acquire a lock when you post process on an index to prevent race conditions
-            // Lock is acquired after checking for duplicates to reduce runtime
-            Lock indexLock = lockProvider.getLock(LOCK_KEY + "/" + conceptIndex);
-            indexLock.lock();
-
-            try {
-                // execute the provided post processing method
-                boolean commitNeeded = tx.admin().fixDuplicateResources(conceptIndex, conceptIds);
-
-                // ensure post processing was correctly executed
-                if(commitNeeded) {
-                    validateMerged(tx, conceptIndex, conceptIds).
-                            ifPresent(message -> {
-                                throw new RuntimeException(message);
-                            });
-
-                    // persist merged concepts
-                    tx.admin().commitSubmitNoLogs();
+        Map<String, Set<ConceptId>> duplicates = conceptsByIndex.entrySet().stream()
+                .filter(e -> tx.admin().duplicateResourcesExist(e.getKey(), e.getValue()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if(duplicates.isEmpty()) return;
+
+        SortedSet<Integer> stripes = duplicates.keySet().stream()
+                .map(PostProcessor::lockStripe)
+                .collect(Collectors.toCollection(TreeSet::new));
+        List<String> lockingKeys = stripes.stream().map(PostProcessor::getLockingKey).collect(Collectors.toList());
+        Deque<Lock> acquired = new ArrayDeque<>();
+
+        try {
+            //Uncontended stripes are taken all at once, otherwise they are waited for one at a time
+            Optional<List<Lock>> allLocks = lockProvider.tryLockAll(lockingKeys);
+            if (allLocks.isPresent()) {
+                allLocks.get().forEach(acquired::push);
+            } else {
+                for (String lockingKey : lockingKeys) {
+                    Lock stripeLock = lockProvider.getLock(lockingKey);
+                    stripeLock.lock();
+                    acquired.push(stripeLock);
                 }
-            } finally {
-                indexLock.unlock();
             }
+
+            boolean commitNeeded = false;
+            for (Map.Entry<String, Set<ConceptId>> entry : duplicates.entrySet()) {
+                commitNeeded |= tx.admin().fixDuplicateResources(entry.getKey(), entry.getValue());
+            }
+
+            if(commitNeeded) {
+                duplicates.forEach((conceptIndex, conceptIds) -> validateMerged(tx, conceptIndex, conceptIds).
+                        ifPresent(message -> {
+                            throw new RuntimeException(message);
+                        }));
+
+                tx.admin().commitSubmitNoLogs();
+            }
+        } finally {
+            acquired.forEach(Lock::unlock);
         }
     }
 
+    /**
+     * @param conceptIndex The unique index of a {@link ai.grakn.concept.Concept}
+     * @return The lock stripe which guards merging duplicates of the index
+     */
+    static int lockStripe(String conceptIndex){
+        return Math.floorMod(conceptIndex.hashCode(), LOCK_STRIPES);
+    }
+
+    private static String getLockingKey(int stripe){
+        return LOCK_KEY + "/" + stripe;
+    }
+
     /**
      * Checks that post processing was done successfully by doing two things:
      *  1. That there is only 1 valid conceptID left
@@ -20,15 +20,22 @@ package ai.grakn.engine.postprocessing;
 
 import ai.grakn.Keyspace;
 import ai.grakn.concept.ConceptId;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.util.Pool;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import static com.codahale.metrics.MetricRegistry.name;
@@ -48,11 +55,15 @@ public class RedisCountStorage {
     private final static Logger LOG = LoggerFactory.getLogger(RedisCountStorage.class);
 
     private final Timer contactRedisTimer;
+    private final Timer batchTimer;
+    private final Histogram batchSize;
     private Pool<Jedis> jedisPool;
 
     private RedisCountStorage(Pool<Jedis> jedisPool, MetricRegistry metricRegistry){
         this.jedisPool = jedisPool;
         this.contactRedisTimer = metricRegistry.timer(name(RedisCountStorage.class, "contact"));
+        this.batchTimer = metricRegistry.timer(name(RedisCountStorage.class, "batch"));
+        this.batchSize = metricRegistry.histogram(name(RedisCountStorage.class, "batch-size"));
     }
 
     public static RedisCountStorage create(Pool<Jedis> jedisPool, MetricRegistry metricRegistry) {
@@ -90,6 +101,42 @@ public class RedisCountStorage {
         });
     }
 
+    /**
+     * Adjusts the counts of several keys and reads the counts of several others using a single pipelined round trip
+     * to redis.
+     *
+     * @param adjustments the keys of the values to adjust mapped to the number to adjust each key by
+     * @param keys the keys of additional values to read
+     * @return the current count of every adjusted and read key. A count of 0 is returned for keys not in redis
+     */
+    public Map<String, Long> adjustCounts(Map<String, Long> adjustments, Set<String> keys){
+        if(adjustments.isEmpty() && keys.isEmpty()) return Collections.emptyMap();
+
+        batchSize.update(adjustments.size() + keys.size());
+        try(Context ignored = batchTimer.time()) {
+            return contactRedis(jedis -> {
+                Pipeline pipeline = jedis.pipelined();
+                Map<String, Response<Long>> adjusted = new HashMap<>();
+                Map<String, Response<String>> read = new HashMap<>();
+
+                keys.forEach(key -> read.put(key, pipeline.get(key)));
+                adjustments.forEach((key, count) -> {
+                    if(count != 0) {
+                        adjusted.put(key, pipeline.incrBy(key, count)); //Number is decremented when count is negative
+                    } else {
+                        read.put(key, pipeline.get(key));
+                    }
+                });
+                pipeline.sync();
+
+                Map<String, Long> counts = new HashMap<>();
+                read.forEach((key, value) -> counts.put(key, value.get() == null ? 0L : Long.parseLong(value.get())));
+                adjusted.forEach((key, value) -> counts.put(key, value.get()));
+                return counts;
+            });
+        }
+    }
+
     /**
      * A helper function which acquires a connection to redis from the pool and then uses it for some operations.
      * This function ensures the connection is closed properly.
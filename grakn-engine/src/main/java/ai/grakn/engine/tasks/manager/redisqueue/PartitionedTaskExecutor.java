@@ -0,0 +1,196 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * <p>
+ *     Runs tasks in sub-queues partitioned by a key, usually the {@link ai.grakn.Keyspace} of the task.
+ * </p>
+ *
+ * <p>
+ *     Every partition may only run a limited number of tasks at once, so a busy partition cannot starve the others.
+ *     Workers are not bound to partitions, an idle worker takes the next task of whichever partition is ready,
+ *     visiting ready partitions in turn.
+ *
+ *     Tasks can also declare ordering keys. A task never overtakes an earlier task of the same partition which shares
+ *     one of its keys and never runs at the same time as one. This is only coordinated within the partition.
+ * </p>
+ *
+ * @author agent
+ */
+class PartitionedTaskExecutor implements AutoCloseable {
+    private final static Logger LOG = LoggerFactory.getLogger(PartitionedTaskExecutor.class);
+
+    private final ConcurrentHashMap<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final BlockingQueue<Partition> ready = new LinkedBlockingQueue<>();
+    private final ExecutorService workers;
+    private final int partitionConcurrency;
+
+    PartitionedTaskExecutor(int threads, int partitionConcurrency) {
+        this.partitionConcurrency = Math.max(1, partitionConcurrency);
+        this.workers = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("partitioned-task-worker-%d").build());
+        for (int i = 0; i < threads; i++) {
+            workers.submit(this::work);
+        }
+    }
+
+    /**
+     * Queues a task to run in the given partition.
+     *
+     * @param partitionKey The partition the task belongs to
+     * @param orderingKeys Keys which tasks of the same partition must not run concurrently or out of order on
+     * @param task The task to run
+     * @return A future which completes once the task has run
+     */
+    CompletableFuture<Void> submit(String partitionKey, Set<String> orderingKeys, Runnable task) {
+        Job job = new Job(orderingKeys, task);
+        partitions.computeIfAbsent(partitionKey, key -> new Partition()).add(job);
+        return job.future;
+    }
+
+    private void work() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Partition partition = ready.take();
+                Job job = partition.next();
+                if (job == null) continue;
+
+                try {
+                    job.task.run();
+                    job.future.complete(null);
+                } catch (RuntimeException e) {
+                    LOG.debug("Partitioned task failed", e);
+                    job.future.completeExceptionally(e);
+                } finally {
+                    partition.finished(job);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+        partitions.values().forEach(Partition::cancel);
+    }
+
+    /**
+     * A task and the keys it is ordered on
+     */
+    private static class Job {
+        private final Set<String> orderingKeys;
+        private final Runnable task;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Job(Set<String> orderingKeys, Runnable task) {
+            this.orderingKeys = orderingKeys;
+            this.task = task;
+        }
+    }
+
+    /**
+     * The pending and running tasks of a single partition
+     */
+    private class Partition {
+        private final LinkedList<Job> pending = new LinkedList<>();
+        private final Set<String> runningKeys = new HashSet<>();
+        private int running = 0;
+        private boolean scheduled = false;
+
+        synchronized void add(Job job) {
+            pending.add(job);
+            schedule();
+        }
+
+        /**
+         * @return The next task which can run, or null if none can run at the moment
+         */
+        @Nullable
+        synchronized Job next() {
+            scheduled = false;
+            Job job = runnable(true);
+            if (job != null) {
+                running++;
+                runningKeys.addAll(job.orderingKeys);
+            }
+            schedule();
+            return job;
+        }
+
+        synchronized void finished(Job job) {
+            running--;
+            runningKeys.removeAll(job.orderingKeys);
+            schedule();
+        }
+
+        synchronized void cancel() {
+            pending.forEach(job -> job.future.completeExceptionally(new CancellationException("Task executor closed")));
+            pending.clear();
+        }
+
+        /**
+         * Makes the partition available to workers if it has a task which can run and is not yet waiting for a worker
+         */
+        private void schedule() {
+            if (!scheduled && running < partitionConcurrency && runnable(false) != null) {
+                scheduled = true;
+                ready.add(this);
+            }
+        }
+
+        /**
+         * Finds the first pending task which does not share a key with a running task or an earlier pending task
+         */
+        @Nullable
+        private Job runnable(boolean remove) {
+            Set<String> blockedKeys = new HashSet<>(runningKeys);
+            Iterator<Job> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                Job job = iterator.next();
+                if (Collections.disjoint(blockedKeys, job.orderingKeys)) {
+                    if (remove) iterator.remove();
+                    return job;
+                }
+                blockedKeys.addAll(job.orderingKeys);
+            }
+            return null;
+        }
+    }
+}
@@ -40,6 +40,7 @@ import redis.clients.jedis.Jedis;
 import redis.clients.util.Pool;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -54,30 +55,49 @@ import static ai.grakn.redisq.State.FAILED;
  * it starts a set of consumers that subscribe to the task queue.
  * Tasks can be added using the addTask method.
  *
+ * Consumed tasks are run by a {@link PartitionedTaskExecutor} with a sub-queue per keyspace, so that a keyspace
+ * with a lot of work cannot starve the others. Redis consumers wait for their task to run so task states are still
+ * only updated once the task is finished.
+ *
  * @author pluraliseseverythings
  */
 public class RedisTaskManager implements TaskManager {
     private static final Logger LOG = LoggerFactory.getLogger(RedisTaskManager.class);
     private static final String QUEUE_NAME = "grakn";
 
+    //Redis consumers mostly wait on the executor, so more are started to let other keyspaces' tasks through
+    private static final int CONSUMERS_PER_THREAD = 2;
+
     private final Redisq<Task> redisq;
     private final RedisTaskStorage taskStorage;
+    private final PartitionedTaskExecutor executor;
 
     public RedisTaskManager(EngineID engineId, GraknConfig config, Pool<Jedis> jedisPool,
                             int threads, EngineGraknTxFactory factory,
                             MetricRegistry metricRegistry, PostProcessor postProcessor) {
 
-        Consumer<Task> consumer = new RedisTaskQueueConsumer(this, engineId, config,
+        Consumer<Task> taskConsumer = new RedisTaskQueueConsumer(this, engineId, config,
                 metricRegistry, factory,
                 postProcessor);
 
-        LOG.info("Running queue consumer with {} execution threads", threads);
+        int keyspaceThreads = Math.min(threads, config.getProperty(GraknConfigKey.QUEUE_KEYSPACE_CONSUMERS));
+        this.executor = new PartitionedTaskExecutor(threads, keyspaceThreads);
+        Consumer<Task> consumer = task -> {
+            try {
+                executor.submit(task.getPartitionKey(), task.getOrderingKeys(), () -> taskConsumer.accept(task)).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                throw e;
+            }
+        };
+
+        LOG.info("Running queue consumer with {} execution threads, at most {} per keyspace", threads, keyspaceThreads);
         this.redisq = new RedisqBuilder<Task>()
                 .setJedisPool(jedisPool)
                 .setName(QUEUE_NAME)
                 .setConsumer(consumer)
                 .setMetricRegistry(metricRegistry)
-                .setThreadPoolSize(threads)
+                .setThreadPoolSize(threads * CONSUMERS_PER_THREAD)
                 .setDelay(config.getProperty(GraknConfigKey.TASK_DELAY))
                 .setDocumentClass(Task.class)
                 .createRedisq();
@@ -91,6 +111,8 @@ public class RedisTaskManager implements TaskManager {
             redisq.close();
         } catch (InterruptedException e) {
             LOG.error("Interrupted while closing queue", e);
+        } finally {
+            executor.close();
         }
     }
 
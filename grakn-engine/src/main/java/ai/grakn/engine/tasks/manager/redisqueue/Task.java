@@ -21,12 +21,18 @@ package ai.grakn.engine.tasks.manager.redisqueue;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.engine.tasks.manager.TaskState;
 import ai.grakn.redisq.Document;
+import ai.grakn.util.REST;
+import ai.grakn.util.Schema;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.auto.value.AutoValue;
+import mjson.Json;
+
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * Convenience class that includes a task state and config
@@ -53,6 +59,34 @@ abstract public class Task implements Serializable, Document {
         return getTaskState().getId().value();
     }
 
+    /**
+     * @return The key of the sub-queue the task runs in. This is the keyspace of the task if it has one.
+     */
+    @JsonIgnore
+    public String getPartitionKey() {
+        Json json = getTaskConfiguration().json();
+        if (json != null && json.isObject() && json.has(REST.Request.KEYSPACE_PARAM)) {
+            return json.at(REST.Request.KEYSPACE_PARAM).asString();
+        }
+        return "";
+    }
+
+    /**
+     * @return The keys which tasks in the same sub-queue must process in order. These are the attribute indices
+     * fixed by post processing.
+     */
+    @JsonIgnore
+    public Set<String> getOrderingKeys() {
+        Json json = getTaskConfiguration().json();
+        if (json != null && json.isObject() && json.has(REST.Request.COMMIT_LOG_FIXING)) {
+            Json fixing = json.at(REST.Request.COMMIT_LOG_FIXING);
+            if (fixing.isObject() && fixing.has(Schema.BaseType.ATTRIBUTE.name())) {
+                return fixing.at(Schema.BaseType.ATTRIBUTE.name()).asJsonMap().keySet();
+            }
+        }
+        return Collections.emptySet();
+    }
+
     /**
      * Builder
      *
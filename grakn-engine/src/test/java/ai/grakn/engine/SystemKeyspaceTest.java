@@ -24,10 +24,12 @@ import ai.grakn.GraknTxType;
 import ai.grakn.Keyspace;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.controller.SparkContext;
 import ai.grakn.engine.controller.SystemController;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import ai.grakn.test.rule.SessionContext;
 import com.codahale.metrics.MetricRegistry;
 import org.junit.After;
@@ -172,6 +174,19 @@ public class SystemKeyspaceTest {
         }
         assertFalse(graknFactory.systemKeyspace().containsKeyspace(deletedGraph.keyspace()));
     }
+
+    @Test
+    public void whenDeletingKeyspace_ItsStatisticsAreForgotten(){
+        GraknTx tx = buildTxs(engineFactoryKBProvider, "g4").iterator().next();
+        tx.close();
+        ConceptId typeId = ConceptId.of("V123");
+        KeyspaceStatistics.of(tx.keyspace()).putInstanceCount(typeId, 5L);
+
+        assertTrue(graknFactory.systemKeyspace().deleteKeyspace(tx.keyspace()));
+
+        assertFalse(KeyspaceStatistics.of(tx.keyspace()).instanceCount(typeId).isPresent());
+    }
+
     private Set<GraknTx> buildTxs(Function<String, GraknTx> txProvider, String ... keyspaces){
         Set<GraknTx> newTransactions = Arrays.stream(keyspaces)
                 .map(txProvider)
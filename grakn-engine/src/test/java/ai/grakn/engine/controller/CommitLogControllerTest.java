@@ -26,9 +26,15 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
 import static com.jayway.restassured.RestAssured.given;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -61,4 +67,17 @@ public class CommitLogControllerTest {
 
         verify(taskManager, Mockito.times(1)).addTask(any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenPostingGzippedCommitLog_CountsAreUpdatedWithDecompressedLog() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+
+        given().header("Content-Encoding", "gzip").body(bytes.toByteArray())
+                .when().post("/kb/myks/commit_log").then().statusCode(SC_OK);
+
+        verify(postProcessor, Mockito.times(1)).updateCounts(any(), eq(Json.read(BODY)));
+    }
+}
@@ -46,7 +46,9 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static ai.grakn.graql.internal.hal.HALUtils.BASETYPE_PROPERTY;
 import static ai.grakn.graql.internal.hal.HALUtils.ID_PROPERTY;
@@ -56,11 +58,15 @@ import static ai.grakn.util.ErrorMessage.UNSUPPORTED_CONTENT_TYPE;
 import static ai.grakn.util.REST.Request.Graql.INFER;
 import static ai.grakn.util.REST.Request.Graql.LIMIT_EMBEDDED;
 import static ai.grakn.util.REST.Request.Graql.QUERY;
+import static ai.grakn.util.REST.Request.Graql.STREAM;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
+import static ai.grakn.util.REST.Response.ContentType.APPLICATION_GRAQL_BINARY;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_HAL;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON_GRAQL;
+import static ai.grakn.util.REST.Response.ContentType.APPLICATION_NDJSON;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_TEXT;
 import static ai.grakn.util.REST.Response.EXCEPTION;
+import static java.util.stream.Collectors.toList;
 import static junit.framework.TestCase.assertTrue;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -286,6 +292,48 @@ public class GraqlControllerReadOnlyTest {
         assertThat(jsonResponse(response), equalTo(Json.array()));
     }
 
+    @Test
+    public void GETGraqlMatchWithGraqlJsonTypeAndStream_ResponseIsOneJsonAnswerPerLine() {
+        String query = "match $x isa movie; get;";
+        Response response = RestAssured.with()
+                .body(query)
+                .queryParam(STREAM, true)
+                .accept(APPLICATION_JSON_GRAQL)
+                .post(REST.resolveTemplate(REST.WebPath.KEYSPACE_GRAQL, mockTx.keyspace().getValue()));
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(response.contentType(), equalTo(APPLICATION_NDJSON));
+
+        Json expectedResponse = Json.read(
+                Printers.json().graqlString(sampleKB.tx().graql().parse(query).execute()));
+        List<Json> lines = Arrays.stream(stringResponse(response).split("\n")).map(Json::read).collect(toList());
+        assertThat(lines, equalTo(expectedResponse.asJsonList()));
+    }
+
+    @Test
+    public void GETGraqlMatchWithBinaryOrGraqlJsonTypeAndStream_ResponseFallsBackToOneJsonAnswerPerLine() {
+        String query = "match $x isa movie; get;";
+        Response response = RestAssured.with()
+                .body(query)
+                .queryParam(STREAM, true)
+                .accept(APPLICATION_GRAQL_BINARY + ", " + APPLICATION_JSON_GRAQL)
+                .post(REST.resolveTemplate(REST.WebPath.KEYSPACE_GRAQL, mockTx.keyspace().getValue()));
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(response.contentType(), equalTo(APPLICATION_NDJSON));
+    }
+
+    @Test
+    public void GETGraqlMatchWithInvalidTypeBeforeGraqlJsonType_ResponseIsGraqlJson() {
+        String query = "match $x isa movie; get;";
+        Response response = sendRequest(query, "invalid, " + APPLICATION_JSON_GRAQL);
+
+        assertThat(response.statusCode(), equalTo(200));
+        Json expectedResponse = Json.read(
+                Printers.json().graqlString(sampleKB.tx().graql().parse(query).execute()));
+        assertThat(jsonResponse(response), equalTo(expectedResponse));
+    }
+
     @Test
     public void GETGraqlAggregateWithTextType_ResponseStatusIs200() {
         String query = "match $x isa movie; aggregate count;";
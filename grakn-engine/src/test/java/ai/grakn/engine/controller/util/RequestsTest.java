@@ -3,10 +3,17 @@ package ai.grakn.engine.controller.util;
 import ai.grakn.exception.GraknServerException;
 import mjson.Json;
 import org.junit.Test;
+import spark.Request;
+
+import java.util.Optional;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import static ai.grakn.engine.controller.util.Requests.extractJsonField;
+import static ai.grakn.engine.controller.util.Requests.negotiateAcceptType;
 
 public class RequestsTest {
     @Test
@@ -48,4 +55,36 @@ public class RequestsTest {
 
         assertThat(errorMessageThrown_ContainingMissingFieldInfo, equalTo(true));
     }
+
+    @Test
+    public void negotiateAcceptType_MustPickTheFirstSupportedType() {
+        Request request = requestAccepting("application/graql+binary, application/graql+json");
+        assertThat(negotiateAcceptType(request, "application/graql+json", "text/plain"),
+                equalTo(Optional.of("application/graql+json")));
+    }
+
+    @Test
+    public void negotiateAcceptType_MustPreferTypesOfHigherQuality() {
+        Request request = requestAccepting("text/plain;q=0.5, application/graql+json");
+        assertThat(negotiateAcceptType(request, "text/plain", "application/graql+json"),
+                equalTo(Optional.of("application/graql+json")));
+    }
+
+    @Test
+    public void negotiateAcceptType_MustNotPickTypesOfZeroQuality() {
+        Request request = requestAccepting("text/plain;q=0");
+        assertThat(negotiateAcceptType(request, "text/plain"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void negotiateAcceptType_MustPickNothingWhenThereIsNoAcceptHeader() {
+        Request request = requestAccepting(null);
+        assertThat(negotiateAcceptType(request, "text/plain"), equalTo(Optional.empty()));
+    }
+
+    private static Request requestAccepting(String acceptHeader) {
+        Request request = mock(Request.class);
+        when(request.headers("Accept")).thenReturn(acceptHeader);
+        return request;
+    }
 }
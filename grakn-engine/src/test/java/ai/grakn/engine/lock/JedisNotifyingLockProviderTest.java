@@ -0,0 +1,202 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import ai.grakn.test.rule.EmbeddedRedisContext;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import redis.clients.jedis.JedisPool;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JedisNotifyingLockProviderTest {
+
+    private static final int REDIS_PORT = 6391;
+    private static final long SHORT_LEASE_MS = 300;
+
+    //Redis scripting and pub/sub are needed, which the in memory Redis does not support
+    @ClassRule
+    public static EmbeddedRedisContext embeddedRedisContext = EmbeddedRedisContext.create(REDIS_PORT);
+
+    private static JedisPool jedisPool;
+
+    private JedisNotifyingLockProvider provider;
+    private JedisNotifyingLockProvider otherProvider;
+    private String lockName;
+
+    @BeforeClass
+    public static void setupClass() {
+        jedisPool = new JedisPool("localhost", REDIS_PORT);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        jedisPool.close();
+    }
+
+    @Before
+    public void setUp() {
+        provider = new JedisNotifyingLockProvider(jedisPool);
+        otherProvider = new JedisNotifyingLockProvider(jedisPool);
+        lockName = "/lock/" + UUID.randomUUID();
+    }
+
+    @After
+    public void tearDown() {
+        provider.close();
+        otherProvider.close();
+    }
+
+    @Test
+    public void whenLockIsReleasedByAnotherProvider_WaiterIsNotifiedBeforeTheLeaseRunsOut() throws Exception {
+        Lock lock = provider.getLock(lockName);
+        lock.lock();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            //The waiter uses another provider so it can only learn about the release through Redis
+            Future<Long> waited = executor.submit(() -> {
+                Stopwatch stopwatch = Stopwatch.createStarted();
+                Lock waiter = otherProvider.getLock(lockName);
+                assertTrue(waiter.tryLock(30, TimeUnit.SECONDS));
+                waiter.unlock();
+                return stopwatch.elapsed(TimeUnit.MILLISECONDS);
+            });
+
+            Thread.sleep(200);
+            lock.unlock();
+
+            //The lease is a minute long so without a notification the waiter would sleep for the full timeout
+            assertThat(waited.get(), lessThan(10_000L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void whenLockIsHeld_ItsLeaseIsRenewed() throws InterruptedException {
+        JedisNotifyingLockProvider shortLeaseProvider = new JedisNotifyingLockProvider(jedisPool, SHORT_LEASE_MS);
+        try {
+            Lock lock = shortLeaseProvider.getLock(lockName);
+            lock.lock();
+
+            Thread.sleep(SHORT_LEASE_MS * 3);
+            assertFalse(otherProvider.getLock(lockName).tryLock());
+
+            lock.unlock();
+            Lock other = otherProvider.getLock(lockName);
+            assertTrue(other.tryLock());
+            other.unlock();
+        } finally {
+            shortLeaseProvider.close();
+        }
+    }
+
+    @Test
+    public void whenHolderStopsRenewingTheLease_LockIsFreedWhenTheLeaseRunsOut() throws InterruptedException {
+        JedisNotifyingLockProvider shortLeaseProvider = new JedisNotifyingLockProvider(jedisPool, SHORT_LEASE_MS);
+        Lock stale = shortLeaseProvider.getLock(lockName);
+        stale.lock();
+        shortLeaseProvider.close();
+
+        Lock lock = otherProvider.getLock(lockName);
+        assertTrue(lock.tryLock(10, TimeUnit.SECONDS));
+        lock.unlock();
+    }
+
+    @Test
+    public void whenHolderLostItsLease_ReleasingDoesNotFreeTheLockOfTheNextHolder() throws InterruptedException {
+        JedisNotifyingLockProvider shortLeaseProvider = new JedisNotifyingLockProvider(jedisPool, SHORT_LEASE_MS);
+        Lock stale = shortLeaseProvider.getLock(lockName);
+        stale.lock();
+        shortLeaseProvider.close();
+
+        Lock lock = otherProvider.getLock(lockName);
+        assertTrue(lock.tryLock(10, TimeUnit.SECONDS));
+
+        stale.unlock();
+        assertFalse(provider.getLock(lockName).tryLock());
+
+        lock.unlock();
+    }
+
+    @Test
+    public void whenLockChangesHands_ItsTokenIncreases() {
+        JedisNotifyingLock first = (JedisNotifyingLock) provider.getLock(lockName);
+        first.lock();
+        long firstToken = first.token();
+        first.unlock();
+
+        JedisNotifyingLock second = (JedisNotifyingLock) otherProvider.getLock(lockName);
+        second.lock();
+        assertThat(second.token(), greaterThan(firstToken));
+        second.unlock();
+    }
+
+    @Test
+    public void whenOneOfTheLocksIsHeld_TryLockAllAcquiresNone() {
+        String otherLockName = lockName + "/other";
+        Lock held = provider.getLock(otherLockName);
+        held.lock();
+
+        assertThat(otherProvider.tryLockAll(ImmutableList.of(lockName, otherLockName)), is(Optional.empty()));
+
+        Lock lock = otherProvider.getLock(lockName);
+        assertTrue(lock.tryLock());
+        lock.unlock();
+        held.unlock();
+    }
+
+    @Test
+    public void whenNoneOfTheLocksAreHeld_TryLockAllAcquiresAll() {
+        String otherLockName = lockName + "/other";
+
+        Optional<List<Lock>> locks = provider.tryLockAll(ImmutableList.of(lockName, otherLockName));
+        assertTrue(locks.isPresent());
+        assertThat(locks.get(), hasSize(2));
+        assertFalse(otherProvider.getLock(lockName).tryLock());
+        assertFalse(otherProvider.getLock(otherLockName).tryLock());
+
+        locks.get().forEach(Lock::unlock);
+        Lock lock = otherProvider.getLock(lockName);
+        assertTrue(lock.tryLock());
+        lock.unlock();
+    }
+}
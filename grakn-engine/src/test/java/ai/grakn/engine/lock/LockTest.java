@@ -18,7 +18,10 @@
 
 package ai.grakn.engine.lock;
 
+import ai.grakn.test.rule.EmbeddedRedisContext;
 import ai.grakn.test.rule.InMemoryRedisContext;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.experimental.theories.DataPoints;
@@ -26,6 +29,7 @@ import org.junit.experimental.theories.Theories;
 import org.junit.experimental.theories.Theory;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import redis.clients.jedis.JedisPool;
 
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -42,6 +46,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 public class LockTest {
 
     private static final String LOCK_NAME = "/lock";
+    private static final int REDIS_PORT = 6390;
 
     @Rule
     public ExpectedException exception = ExpectedException.none();
@@ -49,11 +54,30 @@ public class LockTest {
     @ClassRule
     public static InMemoryRedisContext inMemoryRedisContext = InMemoryRedisContext.create();
 
+    //The notifying locks rely on Redis scripting and pub/sub which the in memory Redis does not support
+    @ClassRule
+    public static EmbeddedRedisContext embeddedRedisContext = EmbeddedRedisContext.create(REDIS_PORT);
+
+    private static JedisPool jedisPool;
+    private static JedisNotifyingLockProvider notifyingLockProvider;
+
     @DataPoints
     public static Locks[] configValues = Locks.values();
 
     private enum Locks {
-        REDIS, NONREENTRANT;
+        REDIS, NONREENTRANT, NOTIFYING;
+    }
+
+    @BeforeClass
+    public static void startNotifyingLockProvider(){
+        jedisPool = new JedisPool("localhost", REDIS_PORT);
+        notifyingLockProvider = new JedisNotifyingLockProvider(jedisPool);
+    }
+
+    @AfterClass
+    public static void stopNotifyingLockProvider(){
+        notifyingLockProvider.close();
+        jedisPool.close();
     }
 
     private Lock getLock(Locks lock, String lockName){
@@ -62,6 +86,8 @@ public class LockTest {
                 return new JedisLock(inMemoryRedisContext.jedisPool(), lockName);
             case NONREENTRANT:
                 return new NonReentrantLock();
+            case NOTIFYING:
+                return notifyingLockProvider.getLock(lockName);
         }
         throw new RuntimeException("Invalid lock [" + lock + "]");
     }
@@ -71,6 +97,8 @@ public class LockTest {
             return new JedisLock(inMemoryRedisContext.jedisPool(), ((JedisLock) lock).getLockName());
         } else if(lock instanceof NonReentrantLock){
             return lock;
+        } else if(lock instanceof JedisNotifyingLock){
+            return notifyingLockProvider.getLock(((JedisNotifyingLock) lock).getLockName());
         }
         throw new RuntimeException("Invalid lock [" + lock + "]");
     }
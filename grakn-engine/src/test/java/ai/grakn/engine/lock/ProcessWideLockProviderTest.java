@@ -23,12 +23,20 @@ import org.junit.Test;
 import org.junit.contrib.java.lang.system.SystemOutRule;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class ProcessWideLockProviderTest {
 
@@ -54,4 +62,25 @@ public class ProcessWideLockProviderTest {
 
         assertEquals(lock1, lock2);
     }
+
+    @Test
+    public void whenOneOfManyLocksIsHeldElsewhere_TryLockAllAcquiresNone() throws Exception {
+        ProcessWideLockProvider l = new ProcessWideLockProvider();
+        ExecutorService otherThread = Executors.newSingleThreadExecutor();
+        List<String> lockNames = Arrays.asList("lock-a", "lock-b");
+
+        otherThread.submit(() -> l.getLock("lock-a").lock()).get();
+        assertFalse(l.tryLockAll(lockNames).isPresent());
+        assertTrue(otherThread.submit(() -> l.tryLockAll(Collections.singleton("lock-b")).isPresent()).get());
+
+        otherThread.submit(() -> {
+            l.getLock("lock-a").unlock();
+            l.getLock("lock-b").unlock();
+        }).get();
+        Optional<List<Lock>> locks = l.tryLockAll(lockNames);
+        assertTrue(locks.isPresent());
+        assertEquals(2, locks.get().size());
+        locks.get().forEach(Lock::unlock);
+        otherThread.shutdown();
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.concept.ConceptId;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PostProcessingBatchTest {
+
+    @Test
+    public void whenCreatingBatches_AllIndicesAreIncludedOnceInBatchesOfTheGivenSize(){
+        Map<String, Set<ConceptId>> jobs = new HashMap<>();
+        for (int i = 0; i < 25; i++) {
+            Set<ConceptId> ids = new HashSet<>();
+            ids.add(ConceptId.of("a" + i));
+            ids.add(ConceptId.of("b" + i));
+            jobs.put("index" + i, ids);
+        }
+
+        List<Map<String, Set<ConceptId>>> batches = PostProcessingTask.createBatches(jobs, 10);
+
+        assertEquals(3, batches.size());
+        assertEquals(10, batches.get(0).size());
+        assertEquals(10, batches.get(1).size());
+        assertEquals(5, batches.get(2).size());
+
+        Map<String, Set<ConceptId>> merged = new HashMap<>();
+        batches.forEach(merged::putAll);
+        assertEquals(jobs, merged);
+    }
+
+    @Test
+    public void whenCreatingBatches_BatchesAreOrderedByLockStripe(){
+        Map<String, Set<ConceptId>> jobs = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            jobs.put("index" + i, new HashSet<>());
+        }
+
+        List<Map<String, Set<ConceptId>>> batches = PostProcessingTask.createBatches(jobs, 10);
+
+        for (int i = 1; i < batches.size(); i++) {
+            int previousMax = batches.get(i - 1).keySet().stream().mapToInt(PostProcessor::lockStripe).max().getAsInt();
+            int currentMin = batches.get(i).keySet().stream().mapToInt(PostProcessor::lockStripe).min().getAsInt();
+            assertTrue(previousMax <= currentMin);
+        }
+    }
+}
@@ -27,7 +27,10 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -95,4 +98,24 @@ public class RedisCountStorageTest {
         assertEquals(0, redis.getCount(RedisCountStorage.getKeyNumInstances(keyspace1, ciri)));
         assertEquals(1, redis.getCount(RedisCountStorage.getKeyNumInstances(keyspace2, ciri)));
     }
+
+    @Test
+    public void whenAdjustingCountsInABatch_EnsureAllCountsAreChangedAndReturned(){
+        Keyspace keyspace = SampleKBLoader.randomKeyspace();
+        String roach = RedisCountStorage.getKeyNumInstances(keyspace, ConceptId.of("Roach"));
+        String ciri = RedisCountStorage.getKeyNumInstances(keyspace, ConceptId.of("Ciri"));
+        String geralt = RedisCountStorage.getKeyNumShards(keyspace, ConceptId.of("Geralt"));
+        redis.adjustCount(ciri, 4);
+
+        Map<String, Long> adjustments = new HashMap<>();
+        adjustments.put(roach, 3L);
+        adjustments.put(ciri, -1L);
+        Map<String, Long> counts = redis.adjustCounts(adjustments, Collections.singleton(geralt));
+
+        assertEquals(3L, (long) counts.get(roach));
+        assertEquals(3L, (long) counts.get(ciri));
+        assertEquals(0L, (long) counts.get(geralt));
+        assertEquals(3, redis.getCount(roach));
+        assertEquals(3, redis.getCount(ciri));
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class PartitionedTaskExecutorTest {
+
+    private PartitionedTaskExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new PartitionedTaskExecutor(4, 1);
+    }
+
+    @After
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    public void whenPartitionIsBusy_TasksOfOtherPartitionsStillRun() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> blocking = executor.submit("busy", Collections.emptySet(), () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        CompletableFuture<Void> queuedBehind = executor.submit("busy", Collections.emptySet(), () -> {});
+
+        executor.submit("other", Collections.emptySet(), () -> {}).get(10, TimeUnit.SECONDS);
+        assertFalse(queuedBehind.isDone());
+
+        release.countDown();
+        blocking.get(10, TimeUnit.SECONDS);
+        queuedBehind.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void whenTasksShareAnOrderingKey_TheyRunInSubmissionOrder() throws Exception {
+        executor.close();
+        executor = new PartitionedTaskExecutor(4, 4);
+
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> executor.submit("keyspace", ImmutableSet.of("index"), () -> order.add(i)))
+                .collect(Collectors.toList());
+
+        for (CompletableFuture<Void> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(IntStream.range(0, 20).boxed().collect(Collectors.toList()), order);
+    }
+}
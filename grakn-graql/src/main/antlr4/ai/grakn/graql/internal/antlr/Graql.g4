@@ -32,7 +32,7 @@ sum            : SUM      'of' ofList      ('in' inList)? ';' ;
 degrees        : DEGREES ('of' ofList)?    ('in' inList)? ';' ;
 cluster        : CLUSTER                   ('in' inList)? ';' clusterParam* ;
 path           : PATH    'from' id 'to' id ('in' inList)? ';' ;
-count          : COUNT                     ('in' inList)? ';' ;
+count          : COUNT                     ('in' inList)? ';' (EXACT ';')? ;
 
 clusterParam   : MEMBERS      ';' # clusterMembers
                | SIZE INTEGER ';' # clusterSize
@@ -110,7 +110,7 @@ id             : identifier ;
 // Some keywords can also be used as identifiers
 identifier     : ID | STRING
                | MIN | MAX| MEDIAN | MEAN | STD | SUM | COUNT | PATH | CLUSTER
-               | DEGREES | MEMBERS | SIZE
+               | DEGREES | MEMBERS | SIZE | EXACT
                ;
 
 // keywords
@@ -126,6 +126,7 @@ CLUSTER        : 'cluster' ;
 DEGREES        : 'degrees' ;
 MEMBERS        : 'members' ;
 SIZE           : 'size' ;
+EXACT          : 'exact' ;
 MATCH          : 'match' ;
 INSERT         : 'insert' ;
 DEFINE         : 'define' ;
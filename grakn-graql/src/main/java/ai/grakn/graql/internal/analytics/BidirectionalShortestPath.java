@@ -0,0 +1,191 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.LabelId;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ * Finds a shortest path between two things within a transaction, without running a graph computer.
+ * </p>
+ *
+ * <p>
+ * A breadth first search is run from both ends at once, always expanding the end with the smaller frontier, until the
+ * two searches meet. Things are neighbours in the same way as in {@link ShortestPathVertexProgram}: through role
+ * player edges and through the attribute edges of the selected implicit relationships. Only the ids of the vertices
+ * are read while searching, concepts are only built for the path which is found.
+ * </p>
+ *
+ * <p>
+ * The search gives up once it has visited a given number of things, so that paths between things which are far apart
+ * in a large graph can still be found by {@link ShortestPathVertexProgram}.
+ * </p>
+ *
+ * @author agent
+ */
+public class BidirectionalShortestPath {
+
+    private final GraphTraversalSource traversal;
+    private final Set<Integer> labelIds;
+    private final int maxVisits;
+    private int visits = 0;
+
+    private BidirectionalShortestPath(GraknTx tx, Set<LabelId> labelIds, int maxVisits) {
+        this.traversal = tx.admin().getTinkerTraversal();
+        this.labelIds = labelIds.stream().map(LabelId::getValue).collect(toSet());
+        this.maxVisits = maxVisits;
+    }
+
+    /**
+     * @param tx        the transaction to search in
+     * @param source    the id of the thing the path starts at
+     * @param dest      the id of the thing the path ends at
+     * @param labelIds  the ids of the types of the things the path can go through
+     * @param maxVisits the number of things the search visits before giving up
+     * @return the ids of the things on a shortest path from the source to the destination, an empty list if they are
+     * not connected or nothing if the search gave up
+     */
+    public static Optional<List<ConceptId>> find(GraknTx tx, ConceptId source, ConceptId dest,
+                                                 Set<LabelId> labelIds, int maxVisits) {
+        return new BidirectionalShortestPath(tx, labelIds, maxVisits).find(source, dest);
+    }
+
+    private Optional<List<ConceptId>> find(ConceptId source, ConceptId dest) {
+        Search fromSource = new Search(vertexId(source));
+        Search fromDest = new Search(vertexId(dest));
+
+        while (!fromSource.frontier.isEmpty() && !fromDest.frontier.isEmpty()) {
+            boolean expandSource = fromSource.frontier.size() <= fromDest.frontier.size();
+            Search expanded = expandSource ? fromSource : fromDest;
+            Search other = expandSource ? fromDest : fromSource;
+
+            Optional<Object> meeting = expand(expanded, other);
+            if (visits > maxVisits) return Optional.empty();
+
+            if (meeting.isPresent()) {
+                List<Object> path = fromSource.pathTo(meeting.get());
+                List<Object> pathFromDest = fromDest.pathTo(meeting.get());
+                Collections.reverse(pathFromDest);
+                path.addAll(pathFromDest.subList(1, pathFromDest.size()));
+                return Optional.of(path.stream().map(this::conceptId).collect(toList()));
+            }
+        }
+        return Optional.of(Collections.emptyList());
+    }
+
+    /**
+     * Expands the whole frontier of a search by one step
+     *
+     * @return the vertex where the searches meet on a shortest path, if they meet before the search gives up
+     */
+    private Optional<Object> expand(Search search, Search other) {
+        List<Object> nextFrontier = new ArrayList<>();
+        Object meeting = null;
+        int shortest = Integer.MAX_VALUE;
+
+        for (Object vertexId : search.frontier) {
+            Iterator<Object> neighbours = neighbours(vertexId);
+            while (neighbours.hasNext()) {
+                Object neighbour = neighbours.next();
+                if (search.distances.containsKey(neighbour)) continue;
+                if (++visits > maxVisits) return Optional.empty();
+
+                search.predecessors.put(neighbour, vertexId);
+                search.distances.put(neighbour, search.depth + 1);
+                nextFrontier.add(neighbour);
+
+                // the other search may have reached the neighbour in any of its steps, so finish the step
+                // to find the meeting point which gives the shortest path
+                Integer otherDistance = other.distances.get(neighbour);
+                if (otherDistance != null && search.depth + 1 + otherDistance < shortest) {
+                    shortest = search.depth + 1 + otherDistance;
+                    meeting = neighbour;
+                }
+            }
+        }
+
+        search.frontier = nextFrontier;
+        search.depth++;
+        return Optional.ofNullable(meeting);
+    }
+
+    private Iterator<Object> neighbours(Object vertexId) {
+        return traversal.V(vertexId).union(
+                __.<Vertex>both(Schema.EdgeLabel.ROLE_PLAYER.getLabel()),
+                __.<Vertex>bothE(Schema.EdgeLabel.ATTRIBUTE.getLabel())
+                        .has(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name(), P.within(labelIds))
+                        .otherV())
+                .has(Schema.VertexProperty.THING_TYPE_LABEL_ID.name(), P.within(labelIds))
+                .id();
+    }
+
+    private Object vertexId(ConceptId conceptId) {
+        return traversal.V().has(Schema.VertexProperty.ID.name(), conceptId.getValue()).id().next();
+    }
+
+    private ConceptId conceptId(Object vertexId) {
+        return ConceptId.of(traversal.V(vertexId).<String>values(Schema.VertexProperty.ID.name()).next());
+    }
+
+    /**
+     * The state of the search from one end of the path
+     */
+    private static class Search {
+        private final Map<Object, Object> predecessors = new HashMap<>();
+        private final Map<Object, Integer> distances = new HashMap<>();
+        private List<Object> frontier;
+        private int depth = 0;
+
+        private Search(Object start) {
+            distances.put(start, 0);
+            frontier = Collections.singletonList(start);
+        }
+
+        /**
+         * @return the vertices on the path from the start of the search to the given visited vertex
+         */
+        private List<Object> pathTo(Object vertexId) {
+            List<Object> path = new ArrayList<>();
+            for (Object current = vertexId; current != null; current = predecessors.get(current)) {
+                path.add(current);
+            }
+            Collections.reverse(path);
+            return path;
+        }
+    }
+}
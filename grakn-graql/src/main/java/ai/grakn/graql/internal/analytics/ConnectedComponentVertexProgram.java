@@ -19,27 +19,31 @@
 package ai.grakn.graql.internal.analytics;
 
 import ai.grakn.exception.GraqlQueryException;
-import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
 import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * The vertex program for connected components in a graph.
  * <p>
+ * Each vertex is labelled with the largest vertex id in its component. The ids are sent as longs and combined
+ * before being shuffled, the map reduce programs turn the labels back into concept ids.
+ * <p>
  *
  * @author Jason Liu
  * @author Sheldon Hall
  */
 
-public class ConnectedComponentVertexProgram extends GraknVertexProgram<String> {
+public class ConnectedComponentVertexProgram extends GraknVertexProgram<Long> {
 
     private static final int MAX_ITERATION = 100;
 
@@ -62,6 +66,11 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
         return MEMORY_COMPUTE_KEYS;
     }
 
+    @Override
+    public Optional<MessageCombiner<Long>> getMessageCombiner() {
+        return Optional.of(MAX_COMBINER);
+    }
+
     @Override
     public void setup(final Memory memory) {
         LOGGER.debug("ConnectedComponentVertexProgram Started !!!!!!!!");
@@ -69,10 +78,10 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
     }
 
     @Override
-    public void safeExecute(final Vertex vertex, Messenger<String> messenger, final Memory memory) {
+    public void safeExecute(final Vertex vertex, Messenger<Long> messenger, final Memory memory) {
         switch (memory.getIteration()) {
             case 0:
-                String id = vertex.value(Schema.VertexProperty.ID.name());
+                long id = ((Number) vertex.id()).longValue();
                 vertex.property(CLUSTER_LABEL, id);
                 messenger.sendMessage(messageScopeIn, id);
                 messenger.sendMessage(messageScopeOut, id);
@@ -83,11 +92,14 @@ public class ConnectedComponentVertexProgram extends GraknVertexProgram<String>
         }
     }
 
-    private void update(Vertex vertex, Messenger<String> messenger, Memory memory) {
-        String currentMax = vertex.value(CLUSTER_LABEL);
-        String max = IteratorUtils.reduce(messenger.receiveMessages(), currentMax,
-                (a, b) -> a.compareTo(b) > 0 ? a : b);
-        if (max.compareTo(currentMax) > 0) {
+    private void update(Vertex vertex, Messenger<Long> messenger, Memory memory) {
+        long currentMax = vertex.value(CLUSTER_LABEL);
+        long max = currentMax;
+        Iterator<Long> messages = messenger.receiveMessages();
+        while (messages.hasNext()) {
+            max = Math.max(max, messages.next());
+        }
+        if (max > currentMax) {
             vertex.property(CLUSTER_LABEL, max);
             messenger.sendMessage(messageScopeIn, max);
             messenger.sendMessage(messageScopeOut, max);
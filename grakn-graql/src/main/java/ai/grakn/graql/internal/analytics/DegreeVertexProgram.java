@@ -22,6 +22,7 @@ import ai.grakn.concept.LabelId;
 import ai.grakn.util.CommonUtil;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
@@ -30,6 +31,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import static ai.grakn.graql.internal.analytics.Utility.vertexHasSelectedTypeId;
@@ -80,6 +82,11 @@ public class DegreeVertexProgram extends GraknVertexProgram<Long> {
         return memory.isInitialIteration() ? messageScopeSetInAndOut : Collections.emptySet();
     }
 
+    @Override
+    public Optional<MessageCombiner<Long>> getMessageCombiner() {
+        return Optional.of(SUM_COMBINER);
+    }
+
     @Override
     public void safeExecute(final Vertex vertex, Messenger<Long> messenger, final Memory memory) {
         switch (memory.getIteration()) {
@@ -24,15 +24,16 @@ import com.google.common.collect.Sets;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Iterator;
 import java.util.Set;
 
 /**
@@ -60,6 +61,10 @@ public abstract class GraknVertexProgram<T> extends CommonOLAP implements Vertex
     static final MessageScope.Local<?> messageScopeResourceOut = MessageScope.Local.of(
             () -> __.outE(Schema.EdgeLabel.ATTRIBUTE.getLabel()));
 
+    // combiners pre-reduce the messages sent to the same vertex before they are shuffled between partitions
+    static final MessageCombiner<Long> SUM_COMBINER = (a, b) -> a + b;
+    static final MessageCombiner<Long> MAX_COMBINER = (a, b) -> a >= b ? a : b;
+
     @Override
     public Set<MessageScope> getMessageScopes(final Memory memory) {
         return messageScopeSetInAndOut;
@@ -116,6 +121,11 @@ public abstract class GraknVertexProgram<T> extends CommonOLAP implements Vertex
     }
 
     static long getMessageCount(Messenger<Long> messenger) {
-        return IteratorUtils.reduce(messenger.receiveMessages(), 0L, (a, b) -> a + b);
+        long count = 0L;
+        Iterator<Long> messages = messenger.receiveMessages();
+        while (messages.hasNext()) {
+            count += messages.next();
+        }
+        return count;
     }
 }
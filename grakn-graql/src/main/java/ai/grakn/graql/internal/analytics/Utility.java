@@ -28,6 +28,7 @@ import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -116,6 +117,20 @@ public class Utility {
         return map;
     }
 
+    /**
+     * Turns the cluster labels computed by {@link ConnectedComponentVertexProgram}, which are vertex ids, into the
+     * concept ids of the vertices the clusters are labelled with.
+     *
+     * @param clusters a map from cluster labels to the values of the clusters
+     * @param <V>      the type of the values
+     * @return the resulting map
+     */
+    public static <V> Map<Serializable, V> clusterLabelsToConceptIds(Map<Serializable, V> clusters) {
+        Map<Serializable, V> map = new HashMap<>();
+        clusters.forEach((label, value) -> map.put(Schema.PREFIX_VERTEX + label, value));
+        return map;
+    }
+
     /**
      * Check whether it is possible that there is a resource edge between the two given concepts.
      */
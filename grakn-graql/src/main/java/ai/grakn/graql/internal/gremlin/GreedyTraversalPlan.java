@@ -20,11 +20,13 @@
 package ai.grakn.graql.internal.gremlin;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.Label;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.PatternAdmin;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import ai.grakn.graql.internal.gremlin.fragment.Fragments;
 import ai.grakn.graql.internal.gremlin.fragment.InIsaFragment;
 import ai.grakn.graql.internal.gremlin.fragment.InSubFragment;
 import ai.grakn.graql.internal.gremlin.spanningtree.Arborescence;
@@ -164,6 +166,8 @@ public class GreedyTraversalPlan {
         final Set<Fragment> allFragments = query.getEquivalentFragmentSets().stream()
                 .flatMap(EquivalentFragmentSet::stream).collect(Collectors.toSet());
 
+        updateFragmentCostsFromStatistics(allFragments, tx);
+
         allFragments.forEach(fragment -> {
             if (fragment.end() == null) {
                 processFragmentWithFixedCost(plan, allNodes, connectedNodes, nodesWithFixedCost, tx, fragment);
@@ -221,7 +225,12 @@ public class GreedyTraversalPlan {
             // fragments that should be done right away
             plan.add(fragment);
             double logInstanceCount = -1D;
-            if (fragment.getShardCount(tx).isPresent()) {
+            Optional<Long> instanceCount = fragment.getInstanceCount(tx);
+            if (instanceCount.isPresent()) {
+                if (instanceCount.get() > 0) {
+                    logInstanceCount = Math.log(instanceCount.get());
+                }
+            } else if (fragment.getShardCount(tx).isPresent()) {
                 long shardCount = fragment.getShardCount(tx).get();
                 if (shardCount > 0) {
                     logInstanceCount = Math.log(shardCount - 1D + SHARD_LOAD_FACTOR) +
@@ -237,6 +246,13 @@ public class GreedyTraversalPlan {
         }
     }
 
+    // use the statistics of the keyspace, where available, instead of the default fragment cost estimates
+    private static void updateFragmentCostsFromStatistics(Set<Fragment> allFragments, GraknTx tx) {
+        KeyspaceStatistics statistics = KeyspaceStatistics.of(tx.keyspace());
+        Map<Var, Set<Label>> typeLabels = Fragments.instanceTypeLabels(allFragments);
+        allFragments.forEach(fragment -> fragment.updateFragmentCostFromStatistics(tx, statistics, typeLabels));
+    }
+
     private static void processFragmentWithDependencies(Map<NodeId, Node> allNodes, Fragment fragment) {
         // it's either neq or value fragment
         Node start = Node.addIfAbsent(NodeId.NodeType.VAR, fragment.start(), allNodes);
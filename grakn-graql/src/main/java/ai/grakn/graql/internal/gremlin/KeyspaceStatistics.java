@@ -0,0 +1,366 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.Keyspace;
+import ai.grakn.concept.Attribute;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Type;
+import ai.grakn.graql.ValuePredicate;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ * Statistics about the data of a {@link Keyspace} used to estimate the cost of fragments during query planning.
+ * </p>
+ *
+ * <p>
+ * The statistics consist of:
+ *
+ * 1. The number of instances of each {@link Type}. These are provided by engine from the instance counts it keeps
+ *    for sharding and are unknown when running without engine.
+ * 2. The average number of role players of the instances of each {@link ai.grakn.concept.RelationshipType}.
+ * 3. A sample of the values of each {@link ai.grakn.concept.AttributeType}.
+ *
+ * The last two are estimated from a sample of instances taken in the background, in a transaction of its own, the
+ * first time they are needed and again once they expire. Until a sample is taken they are unknown, so planning never
+ * waits for a scan of the instances.
+ * </p>
+ *
+ * @author agent
+ */
+public class KeyspaceStatistics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeyspaceStatistics.class);
+
+    private static final int SAMPLE_SIZE = 200;
+    private static final long SAMPLE_EXPIRY_MINUTES = 10;
+
+    private static final Map<Keyspace, KeyspaceStatistics> statistics = new ConcurrentHashMap<>();
+    private static volatile InstanceCountSource instanceCountSource = null;
+
+    //A single thread takes all the samples, so sampling never competes with queries for more than one thread
+    private static final ExecutorService sampler = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("keyspace-statistics-sampler-%d").setDaemon(true).build());
+
+    private final Keyspace keyspace;
+    private final Map<ConceptId, Long> instanceCounts = new ConcurrentHashMap<>();
+    private final Cache<ConceptId, Double> rolePlayersPerRelationship = CacheBuilder.newBuilder()
+            .expireAfterWrite(SAMPLE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+    private final Cache<ConceptId, ValueSample> valueSamples = CacheBuilder.newBuilder()
+            .expireAfterWrite(SAMPLE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+    private final Set<ConceptId> pendingSamples = ConcurrentHashMap.newKeySet();
+
+    private KeyspaceStatistics(Keyspace keyspace){
+        this.keyspace = keyspace;
+    }
+
+    /**
+     * @param keyspace the {@link Keyspace} to get the statistics of
+     * @return the statistics of the {@link Keyspace}
+     */
+    public static KeyspaceStatistics of(Keyspace keyspace){
+        return statistics.computeIfAbsent(keyspace, KeyspaceStatistics::new);
+    }
+
+    /**
+     * Sets where the current instance counts of {@link Type}s are read from. Engine sets this to the instance counts
+     * it keeps in redis for sharding. Without a source, current instance counts are unknown.
+     *
+     * @param source the source of current instance counts, or null to remove it
+     */
+    public static void setInstanceCountSource(@Nullable InstanceCountSource source){
+        instanceCountSource = source;
+    }
+
+    /**
+     * Forgets the statistics of a {@link Keyspace}, so they are not kept once the {@link Keyspace} is deleted
+     *
+     * @param keyspace the {@link Keyspace} to forget the statistics of
+     */
+    public static void remove(Keyspace keyspace){
+        statistics.remove(keyspace);
+    }
+
+    /**
+     * Records the number of instances of a {@link Type}.
+     *
+     * @param typeId the id of the {@link Type}
+     * @param count the number of direct instances the {@link Type} currently has
+     */
+    public void putInstanceCount(ConceptId typeId, long count){
+        instanceCounts.put(typeId, Math.max(count, 0L));
+    }
+
+    /**
+     * @param typeId the id of the {@link Type}
+     * @return the number of direct instances of the {@link Type}, if known
+     */
+    public Optional<Long> instanceCount(ConceptId typeId){
+        return Optional.ofNullable(instanceCounts.get(typeId));
+    }
+
+    /**
+     * @param tx the transaction used to look up the {@link Type}s and their subtypes
+     * @param labels labels of the {@link Type}s to count the instances of
+     * @return the number of instances of the {@link Type}s including the instances of their subtypes, if the counts
+     * of all of them are known
+     */
+    public Optional<Long> instanceCount(GraknTx tx, Collection<Label> labels){
+        if (instanceCounts.isEmpty()) return Optional.empty();
+
+        return directInstanceCount(types(tx, labels).stream().flatMap(Type::subs).collect(toSet()));
+    }
+
+    /**
+     * The counts are kept up to date by engine as it receives commit logs, so they only trail the committed data
+     * by the commit logs engine has not processed yet. Counts of {@link Type}s whose instances have not changed
+     * since engine started are unknown.
+     *
+     * @param types the {@link Type}s to count the instances of, without their subtypes
+     * @return the number of direct instances of the {@link Type}s, if the counts of all of them are known
+     */
+    public Optional<Long> directInstanceCount(Collection<? extends Type> types){
+        if (instanceCounts.isEmpty() || types.isEmpty()) return Optional.empty();
+
+        long count = 0;
+        for (Type type : types) {
+            Long typeCount = instanceCounts.get(type.getId());
+            if (typeCount == null) {
+                if (type.isAbstract()) continue;
+                return Optional.empty();
+            }
+            count += typeCount;
+        }
+        return Optional.of(count);
+    }
+
+    /**
+     * Reads the counts from the {@link InstanceCountSource} when they are asked for, so they include every commit
+     * log engine has processed. They miss only the commits engine has not post processed yet.
+     *
+     * @param types the {@link Type}s to count the instances of, without their subtypes
+     * @return the current number of direct instances of the {@link Type}s, if there is a source of instance counts
+     */
+    public Optional<Long> currentInstanceCount(Collection<? extends Type> types){
+        InstanceCountSource source = instanceCountSource;
+        if (source == null || types.isEmpty()) return Optional.empty();
+
+        Set<ConceptId> typeIds = types.stream().map(Type::getId).collect(toSet());
+        return Optional.of(source.instanceCounts(keyspace, typeIds).values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    /**
+     * @param tx the transaction the query is planned in
+     * @param labels labels of the {@link ai.grakn.concept.RelationshipType}s
+     * @return the average number of role players of a {@link ai.grakn.concept.Relationship} of the given types,
+     * if all the types have been sampled
+     */
+    public OptionalDouble rolePlayersPerRelationship(GraknTx tx, Collection<Label> labels){
+        List<Type> types = types(tx, labels).stream().filter(Type::isRelationshipType).collect(toList());
+        if (types.isEmpty() || types.size() != labels.size()) return OptionalDouble.empty();
+
+        List<Optional<Double>> averages = types.stream()
+                .map(type -> sampled(tx, type, rolePlayersPerRelationship, KeyspaceStatistics::sampleRolePlayers))
+                .collect(toList());
+        if (!averages.stream().allMatch(Optional::isPresent)) return OptionalDouble.empty();
+
+        return averages.stream().mapToDouble(Optional::get).filter(average -> average > 0D).average();
+    }
+
+    /**
+     * @param tx the transaction the query is planned in
+     * @param labels labels of the {@link ai.grakn.concept.AttributeType}s the values belong to
+     * @param predicate the predicate the values are filtered by
+     * @return the estimated fraction of {@link Attribute}s of the given types satisfying the predicate, if all the
+     * types have been sampled
+     */
+    public OptionalDouble selectivity(GraknTx tx, Collection<Label> labels, ValuePredicate predicate){
+        List<Type> types = types(tx, labels).stream().filter(Type::isAttributeType).collect(toList());
+        if (types.isEmpty() || types.size() != labels.size()) return OptionalDouble.empty();
+
+        List<Optional<ValueSample>> samples = types.stream()
+                .map(type -> sampled(tx, type, valueSamples, ValueSample::sample))
+                .collect(toList());
+        if (!samples.stream().allMatch(Optional::isPresent)) return OptionalDouble.empty();
+
+        double matching = 0D;
+        double total = 0D;
+        for (int i = 0; i < types.size(); i++) {
+            Type type = types.get(i);
+            ValueSample sample = samples.get(i).get();
+            if (sample.isEmpty()) continue;
+
+            OptionalDouble selectivity = sample.selectivity(predicate, instanceCount(tx, type));
+            if (!selectivity.isPresent()) return OptionalDouble.empty();
+
+            double weight = instanceCount(tx, type).map(Long::doubleValue).orElse(1D);
+            matching += weight * selectivity.getAsDouble();
+            total += weight;
+        }
+        return total > 0D ? OptionalDouble.of(matching / total) : OptionalDouble.empty();
+    }
+
+    /**
+     * Looks up the sample of a {@link Type}. If there is none, a sample is taken in the background in a new
+     * transaction, unless one is already being taken.
+     *
+     * @return the sample of the {@link Type}, if it has been taken
+     */
+    private <T> Optional<T> sampled(GraknTx tx, Type type, Cache<ConceptId, T> samples, Function<Type, T> sample){
+        ConceptId typeId = type.getId();
+        T sampled = samples.getIfPresent(typeId);
+        if (sampled != null) return Optional.of(sampled);
+
+        if (pendingSamples.add(typeId)) {
+            GraknSession session = tx.session();
+            Label label = type.getLabel();
+            try {
+                sampler.submit(() -> {
+                    try (GraknTx sampleTx = session.open(GraknTxType.READ)) {
+                        SchemaConcept schemaConcept = sampleTx.getSchemaConcept(label);
+                        if (schemaConcept != null && schemaConcept.isType()) {
+                            samples.put(typeId, sample.apply(schemaConcept.asType()));
+                        }
+                    } catch (RuntimeException e) {
+                        LOG.warn("Could not sample the instances of [" + label + "]", e);
+                    } finally {
+                        pendingSamples.remove(typeId);
+                    }
+                });
+            } catch (RuntimeException e) {
+                pendingSamples.remove(typeId);
+                throw e;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static double sampleRolePlayers(Type type){
+        return type.asRelationshipType().instances()
+                .limit(SAMPLE_SIZE)
+                .mapToInt(rel -> rel.allRolePlayers().values().stream().mapToInt(Set::size).sum())
+                .average().orElse(0D);
+    }
+
+    private Optional<Long> instanceCount(GraknTx tx, Type type){
+        return instanceCount(tx, Collections.singleton(type.getLabel()));
+    }
+
+    private static Set<Type> types(GraknTx tx, Collection<Label> labels){
+        return labels.stream()
+                .map(tx::<SchemaConcept>getSchemaConcept)
+                .filter(schemaConcept -> schemaConcept != null && schemaConcept.isType())
+                .map(SchemaConcept::asType)
+                .collect(toSet());
+    }
+
+    /**
+     * <p>
+     * Source of the current number of direct instances of {@link Type}s.
+     * </p>
+     */
+    public interface InstanceCountSource {
+
+        /**
+         * @param keyspace the {@link Keyspace} the {@link Type}s belong to
+         * @param typeIds the ids of the {@link Type}s
+         * @return the number of direct instances of each {@link Type}
+         */
+        Map<ConceptId, Long> instanceCounts(Keyspace keyspace, Set<ConceptId> typeIds);
+    }
+
+    /**
+     * <p>
+     * Sample of the values of an {@link ai.grakn.concept.AttributeType}. An {@link Attribute} is unique for its
+     * value within its type, so every value in the sample is distinct.
+     * </p>
+     */
+    private static class ValueSample {
+        private final List<Object> values;
+
+        private ValueSample(List<Object> values){
+            this.values = values;
+        }
+
+        static ValueSample sample(Type type){
+            return new ValueSample(type.asAttributeType().instances()
+                    .limit(SAMPLE_SIZE).<Object>map(Attribute::getValue).collect(toList()));
+        }
+
+        boolean isEmpty(){
+            return values.isEmpty();
+        }
+
+        /**
+         * @param predicate the predicate to estimate the selectivity of
+         * @param instanceCount the total number of values, if known
+         * @return the estimated fraction of values satisfying the predicate
+         */
+        OptionalDouble selectivity(ValuePredicate predicate, Optional<Long> instanceCount){
+            // values are unique, so at most one of them is equal to the value
+            if (predicate.equalsValue().isPresent()) {
+                return OptionalDouble.of(1D / Math.max(values.size(), instanceCount.orElse(0L)));
+            }
+
+            Optional<P<Object>> p = predicate.getPredicate();
+            if (!p.isPresent()) return OptionalDouble.empty();
+
+            int matching = 0;
+            try {
+                for (Object value : values) {
+                    if (p.get().test(value)) matching++;
+                }
+            } catch (ClassCastException | IllegalArgumentException e) {
+                return OptionalDouble.empty();
+            }
+            // smooth the estimate so a predicate missing the sample is not assumed to match nothing
+            return OptionalDouble.of((matching + 1D) / (values.size() + 2D));
+        }
+    }
+}
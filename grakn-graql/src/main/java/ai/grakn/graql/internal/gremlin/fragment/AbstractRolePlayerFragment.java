@@ -61,6 +61,16 @@ public abstract class AbstractRolePlayerFragment extends Fragment {
 
     abstract @Nullable ImmutableSet<Label> relationTypeLabels();
 
+    /**
+     * @param relation the variable of the relationship
+     * @param typeLabels labels of the types the variables of the query are known to be instances of
+     * @return the labels of the types of the relationship, if known
+     */
+    final @Nullable Set<Label> relationTypeLabels(Var relation, Map<Var, Set<Label>> typeLabels) {
+        Set<Label> relationTypeLabels = relationTypeLabels();
+        return relationTypeLabels != null ? relationTypeLabels : typeLabels.get(relation);
+    }
+
     final String innerName() {
         Var role = role();
         String roleString = role != null ? " role:" + role.shortName() : "";
@@ -21,8 +21,10 @@ package ai.grakn.graql.internal.gremlin.fragment;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.VarProperty;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.DirectedEdge;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.Node;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.NodeId;
@@ -256,6 +258,24 @@ public abstract class Fragment {
         return Optional.empty();
     }
 
+    /**
+     * Get the number of instances of the types this fragment starts from, if known from the keyspace statistics
+     */
+    public Optional<Long> getInstanceCount(GraknTx tx) {
+        return Optional.empty();
+    }
+
+    /**
+     * Refine the cost of this fragment using the statistics of the keyspace, if any are available.
+     *
+     * @param tx         the transaction the fragment will be executed in
+     * @param statistics the statistics of the keyspace
+     * @param typeLabels labels of the types the variables of the query are known to be instances of
+     */
+    public void updateFragmentCostFromStatistics(GraknTx tx, KeyspaceStatistics statistics,
+                                                 Map<Var, Set<Label>> typeLabels) {
+    }
+
     /**
      * Indicates whether the fragment can be used on an {@link org.apache.tinkerpop.gremlin.structure.Edge} as well as
      * a {@link org.apache.tinkerpop.gremlin.structure.Vertex}.
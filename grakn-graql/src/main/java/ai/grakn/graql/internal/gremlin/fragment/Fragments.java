@@ -37,6 +37,9 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static ai.grakn.util.Schema.EdgeLabel.SUB;
@@ -143,6 +146,23 @@ public class Fragments {
         return new AutoValue_AttributeIndexFragment(varProperty, start, attributeIndex);
     }
 
+    /**
+     * @param fragments the fragments of a conjunction
+     * @return the labels of the types of the variables which are constrained by an isa on a labelled type
+     */
+    public static Map<Var, Set<Label>> instanceTypeLabels(Collection<Fragment> fragments) {
+        Map<Var, Set<Label>> labels = new HashMap<>();
+        fragments.stream()
+                .filter(LabelFragment.class::isInstance)
+                .forEach(fragment -> labels.put(fragment.start(), ((LabelFragment) fragment).labels()));
+
+        Map<Var, Set<Label>> typeLabels = new HashMap<>();
+        fragments.stream()
+                .filter(fragment -> fragment instanceof OutIsaFragment && labels.containsKey(fragment.end()))
+                .forEach(fragment -> typeLabels.put(fragment.start(), labels.get(fragment.end())));
+        return typeLabels;
+    }
+
     static <T> GraphTraversal<T, Vertex> outSubs(GraphTraversal<T, Vertex> traversal) {
         // These traversals make sure to only navigate types by checking they do not have a `THING_TYPE_LABEL_ID` property
         return union(traversal, ImmutableSet.of(
@@ -20,7 +20,9 @@
 package ai.grakn.graql.internal.gremlin.fragment;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.Label;
 import ai.grakn.graql.Var;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import ai.grakn.util.Schema;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableSet;
@@ -33,6 +35,10 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
 
 import static ai.grakn.graql.internal.pattern.Patterns.RELATION_DIRECTION;
 import static ai.grakn.graql.internal.pattern.Patterns.RELATION_EDGE;
@@ -103,4 +109,24 @@ abstract class InRolePlayerFragment extends AbstractRolePlayerFragment {
     public double internalFragmentCost() {
         return COST_RELATIONS_PER_INSTANCE;
     }
+
+    @Override
+    public void updateFragmentCostFromStatistics(GraknTx tx, KeyspaceStatistics statistics,
+                                                 Map<Var, Set<Label>> typeLabels) {
+        Set<Label> relationTypeLabels = relationTypeLabels(end(), typeLabels);
+        Set<Label> rolePlayerTypeLabels = typeLabels.get(start());
+        if (relationTypeLabels == null || rolePlayerTypeLabels == null) return;
+
+        Optional<Long> numRelationships = statistics.instanceCount(tx, relationTypeLabels);
+        Optional<Long> numRolePlayers = statistics.instanceCount(tx, rolePlayerTypeLabels);
+        if (!numRelationships.isPresent() || !numRolePlayers.isPresent() || numRolePlayers.get() == 0) return;
+
+        OptionalDouble rolePlayersPerRelationship = statistics.rolePlayersPerRelationship(tx, relationTypeLabels);
+        if (rolePlayersPerRelationship.isPresent()) {
+            // Assume the role players are spread evenly over the instances of the role player types
+            double relationshipsPerInstance = Math.min(numRelationships.get(),
+                    numRelationships.get() * rolePlayersPerRelationship.getAsDouble() / numRolePlayers.get());
+            setAccurateFragmentCost(Math.log1p(relationshipsPerInstance));
+        }
+    }
 }
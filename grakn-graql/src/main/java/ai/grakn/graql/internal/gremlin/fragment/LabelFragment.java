@@ -22,6 +22,7 @@ import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.graql.Var;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import ai.grakn.graql.internal.util.StringConverter;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableSet;
@@ -83,4 +84,9 @@ abstract class LabelFragment extends Fragment {
                 .mapToLong(schemaConcept -> tx.admin().getShardCount(schemaConcept.asType()))
                 .sum());
     }
+
+    @Override
+    public Optional<Long> getInstanceCount(GraknTx tx) {
+        return KeyspaceStatistics.of(tx.keyspace()).instanceCount(tx, labels());
+    }
 }
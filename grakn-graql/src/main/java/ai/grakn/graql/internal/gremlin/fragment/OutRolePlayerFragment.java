@@ -20,7 +20,9 @@
 package ai.grakn.graql.internal.gremlin.fragment;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.Label;
 import ai.grakn.graql.Var;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import ai.grakn.util.Schema;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableSet;
@@ -33,6 +35,8 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 
 import static ai.grakn.graql.internal.pattern.Patterns.RELATION_DIRECTION;
 import static ai.grakn.graql.internal.pattern.Patterns.RELATION_EDGE;
@@ -105,6 +109,16 @@ abstract class OutRolePlayerFragment extends AbstractRolePlayerFragment {
         return roleLabels() != null ? COST_ROLE_PLAYERS_PER_ROLE : COST_ROLE_PLAYERS_PER_RELATION;
     }
 
+    @Override
+    public void updateFragmentCostFromStatistics(GraknTx tx, KeyspaceStatistics statistics,
+                                                 Map<Var, Set<Label>> typeLabels) {
+        Set<Label> relationTypeLabels = relationTypeLabels(start(), typeLabels);
+        if (roleLabels() == null && relationTypeLabels != null) {
+            statistics.rolePlayersPerRelationship(tx, relationTypeLabels)
+                    .ifPresent(rolePlayers -> setAccurateFragmentCost(Math.log1p(rolePlayers)));
+        }
+    }
+
     @Override
     public boolean canOperateOnEdges() {
         return true;
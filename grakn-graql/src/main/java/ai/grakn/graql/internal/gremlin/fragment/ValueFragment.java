@@ -19,15 +19,18 @@
 package ai.grakn.graql.internal.gremlin.fragment;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.Label;
 import ai.grakn.graql.ValuePredicate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import com.google.auto.value.AutoValue;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 import static ai.grakn.util.CommonUtil.optionalToStream;
@@ -60,6 +63,18 @@ abstract class ValueFragment extends Fragment {
         }
     }
 
+    @Override
+    public void updateFragmentCostFromStatistics(GraknTx tx, KeyspaceStatistics statistics,
+                                                 Map<Var, Set<Label>> typeLabels) {
+        Set<Label> attributeTypeLabels = typeLabels.get(start());
+        if (attributeTypeLabels != null && dependencies().isEmpty()) {
+            statistics.selectivity(tx, attributeTypeLabels, predicate())
+                    .ifPresent(selectivity -> {
+                        if (selectivity > 0D) setAccurateFragmentCost(Math.log(selectivity));
+                    });
+        }
+    }
+
     @Override
     public boolean hasFixedFragmentCost() {
         return predicate().isSpecific() && dependencies().isEmpty();
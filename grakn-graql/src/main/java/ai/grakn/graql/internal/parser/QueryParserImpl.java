@@ -35,6 +35,7 @@ import ai.grakn.graql.internal.antlr.GraqlParser.PatternsContext;
 import ai.grakn.graql.internal.antlr.GraqlParser.QueryContext;
 import ai.grakn.graql.internal.antlr.GraqlParser.QueryEOFContext;
 import ai.grakn.graql.internal.query.aggregate.Aggregates;
+import ai.grakn.graql.internal.template.QueryTemplate;
 import ai.grakn.graql.internal.template.TemplateParser;
 import ai.grakn.graql.macro.Macro;
 import com.google.common.collect.AbstractIterator;
@@ -238,6 +239,14 @@ public class QueryParserImpl implements QueryParser {
     public <T extends Query<?>> Stream<T> parseTemplate(String template, Map<String, Object> data) {
         return parseList(templateParser.parseTemplate(template, data));
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Query<?>> Function<Map<String, Object>, Stream<T>> compileTemplate(String template) {
+        QueryTemplate queryTemplate = QueryTemplate.of(templateParser.compile(template), this, queryBuilder);
+        return data -> (Stream<T>) queryTemplate.apply(data);
+    }
+
     private static GraqlLexer createLexer(CharStream input, GraqlErrorListener errorListener) {
         GraqlLexer lexer = new GraqlLexer(input);
         lexer.removeErrorListeners();
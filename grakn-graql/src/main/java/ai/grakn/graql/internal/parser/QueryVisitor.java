@@ -274,6 +274,10 @@ class QueryVisitor extends GraqlBaseVisitor {
             count = count.in(visitInList(ctx.inList()));
         }
 
+        if (ctx.EXACT() != null) {
+            count = count.exact();
+        }
+
         return count;
     }
 
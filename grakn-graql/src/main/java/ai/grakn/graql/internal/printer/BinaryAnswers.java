@@ -0,0 +1,171 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.printer;
+
+import mjson.Json;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ *     The binary format produced by {@link Printers#binary()} and a decoder for it.
+ * </p>
+ *
+ * <p>
+ *     The format starts with a dictionary of every {@link ai.grakn.concept.Concept} in the result, each written once
+ *     with its id, type label and typed attribute value. The result follows, in which concepts are referred to by
+ *     their index in the dictionary. A collection of {@link ai.grakn.graql.admin.Answer}s is written as columns: a
+ *     header of the vars followed by, for each var, the dictionary index of the concept in every row.
+ *
+ *     Decoding produces the same {@link Json} as {@link Printers#json()} without parsing any text.
+ * </p>
+ *
+ * @author agent
+ */
+public final class BinaryAnswers {
+
+    static final byte[] MAGIC = {'G', 'R', 'K', 'B'};
+    static final byte VERSION = 1;
+
+    // Tags of results
+    static final byte NULL = 0;
+    static final byte TRUE = 1;
+    static final byte FALSE = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte STRING = 5;
+    static final byte CONCEPT = 6;
+    static final byte LIST = 7;
+    static final byte ANSWERS = 8;
+    static final byte JSON = 9;
+
+    // Kinds of concepts
+    static final byte THING = 0;
+    static final byte SCHEMA_CONCEPT = 1;
+
+    static final int ABSENT = -1;
+
+    private BinaryAnswers() {}
+
+    /**
+     * @param bytes a result printed by {@link Printers#binary()}
+     * @return the result as it would have been printed by {@link Printers#json()}
+     */
+    public static Json decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            for (byte magic : MAGIC) {
+                if (in.readByte() != magic) throw new IllegalArgumentException("Not a binary graql result");
+            }
+            byte version = in.readByte();
+            if (version != VERSION) throw new IllegalArgumentException("Unsupported binary graql version " + version);
+
+            int dictionarySize = in.readInt();
+            List<Json> dictionary = new ArrayList<>(dictionarySize);
+            for (int i = 0; i < dictionarySize; i++) {
+                dictionary.add(readConcept(in));
+            }
+            return readValue(in, dictionary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Json readConcept(DataInputStream in) throws IOException {
+        Json json = Json.object("id", readString(in));
+        byte kind = in.readByte();
+        String label = readString(in);
+        if (kind == SCHEMA_CONCEPT) {
+            json.set("name", label);
+            if (in.readBoolean()) json.set("sub", readString(in));
+            if (in.readBoolean()) json.set("when", readString(in));
+            if (in.readBoolean()) json.set("then", readString(in));
+        } else {
+            json.set("isa", label);
+            Json value = readValue(in, null);
+            if (!value.isNull()) json.set("value", value);
+        }
+        return json;
+    }
+
+    private static Json readValue(DataInputStream in, List<Json> dictionary) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return Json.nil();
+            case TRUE:
+                return Json.make(true);
+            case FALSE:
+                return Json.make(false);
+            case LONG:
+                return Json.make(in.readLong());
+            case DOUBLE:
+                return Json.make(in.readDouble());
+            case STRING:
+                return Json.make(readString(in));
+            case CONCEPT:
+                return dictionary.get(in.readInt());
+            case LIST:
+                int size = in.readInt();
+                Json list = Json.array();
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in, dictionary));
+                }
+                return list;
+            case ANSWERS:
+                return readAnswers(in, dictionary);
+            case JSON:
+                return Json.read(readString(in));
+            default:
+                throw new IllegalArgumentException("Unknown binary graql tag " + tag);
+        }
+    }
+
+    private static Json readAnswers(DataInputStream in, List<Json> dictionary) throws IOException {
+        int varCount = in.readInt();
+        String[] vars = new String[varCount];
+        for (int i = 0; i < varCount; i++) {
+            vars[i] = readString(in);
+        }
+
+        int rowCount = in.readInt();
+        List<Json> rows = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            rows.add(Json.object());
+        }
+        for (String var : vars) {
+            for (int row = 0; row < rowCount; row++) {
+                int index = in.readInt();
+                if (index != ABSENT) rows.get(row).set(var, dictionary.get(index));
+            }
+        }
+        return Json.make(rows);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
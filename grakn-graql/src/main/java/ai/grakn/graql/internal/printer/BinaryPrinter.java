@@ -0,0 +1,199 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.printer;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.graql.Pattern;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static ai.grakn.graql.internal.printer.BinaryAnswers.ABSENT;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.ANSWERS;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.CONCEPT;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.DOUBLE;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.FALSE;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.JSON;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.LIST;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.LONG;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.MAGIC;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.NULL;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.SCHEMA_CONCEPT;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.STRING;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.THING;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.TRUE;
+import static ai.grakn.graql.internal.printer.BinaryAnswers.VERSION;
+
+/**
+ * Prints results in the binary format described in {@link BinaryAnswers}. When a string is needed the results are
+ * printed as Json.
+ *
+ * @author agent
+ */
+class BinaryPrinter extends JsonPrinter {
+
+    @Override
+    public byte[] graqlBytes(Object object) {
+        try {
+            Map<ConceptId, Integer> dictionary = new LinkedHashMap<>();
+            List<Concept> concepts = new ArrayList<>();
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            writeValue(new DataOutputStream(body), object, dictionary, concepts);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.size() + 16 * concepts.size());
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(concepts.size());
+            for (Concept concept : concepts) {
+                writeConcept(out, concept);
+            }
+            body.writeTo(out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeValue(DataOutputStream out, @Nullable Object object,
+                            Map<ConceptId, Integer> dictionary, List<Concept> concepts) throws IOException {
+        if (object == null) {
+            out.writeByte(NULL);
+        } else if (object instanceof Concept) {
+            out.writeByte(CONCEPT);
+            out.writeInt(index((Concept) object, dictionary, concepts));
+        } else if (object instanceof Boolean) {
+            out.writeByte((Boolean) object ? TRUE : FALSE);
+        } else if (object instanceof Long || object instanceof Integer) {
+            out.writeByte(LONG);
+            out.writeLong(((Number) object).longValue());
+        } else if (object instanceof Double || object instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) object).doubleValue());
+        } else if (object instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) object);
+        } else if (object instanceof Optional) {
+            writeValue(out, ((Optional<?>) object).orElse(null), dictionary, concepts);
+        } else if (object instanceof Collection && isAnswers((Collection<?>) object)) {
+            writeAnswers(out, (Collection<?>) object, dictionary, concepts);
+        } else if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            out.writeByte(LIST);
+            out.writeInt(collection.size());
+            for (Object item : collection) {
+                writeValue(out, item, dictionary, concepts);
+            }
+        } else {
+            // Anything else is rare and small, so it is not worth a binary representation
+            out.writeByte(JSON);
+            writeString(out, graqlString(object));
+        }
+    }
+
+    private static boolean isAnswers(Collection<?> collection) {
+        return !collection.isEmpty() && collection.stream().allMatch(Answer.class::isInstance);
+    }
+
+    private static void writeAnswers(DataOutputStream out, Collection<?> collection,
+                                     Map<ConceptId, Integer> dictionary, List<Concept> concepts) throws IOException {
+        List<Answer> answers = new ArrayList<>(collection.size());
+        Set<Var> vars = new LinkedHashSet<>();
+        collection.forEach(answer -> {
+            answers.add((Answer) answer);
+            vars.addAll(((Answer) answer).vars());
+        });
+
+        out.writeByte(ANSWERS);
+        out.writeInt(vars.size());
+        for (Var var : vars) {
+            writeString(out, var.getValue());
+        }
+
+        out.writeInt(answers.size());
+        for (Var var : vars) {
+            for (Answer answer : answers) {
+                Concept concept = answer.containsVar(var) ? answer.get(var) : null;
+                out.writeInt(concept == null ? ABSENT : index(concept, dictionary, concepts));
+            }
+        }
+    }
+
+    private static int index(Concept concept, Map<ConceptId, Integer> dictionary, List<Concept> concepts) {
+        return dictionary.computeIfAbsent(concept.getId(), id -> {
+            concepts.add(concept);
+            return concepts.size() - 1;
+        });
+    }
+
+    private void writeConcept(DataOutputStream out, Concept concept) throws IOException {
+        writeString(out, concept.getId().getValue());
+        if (concept.isSchemaConcept()) {
+            SchemaConcept schemaConcept = concept.asSchemaConcept();
+            out.writeByte(SCHEMA_CONCEPT);
+            writeString(out, schemaConcept.getLabel().getValue());
+            SchemaConcept superConcept = schemaConcept.sup();
+            writeOptionalString(out, superConcept == null ? null : superConcept.getLabel().getValue());
+
+            Pattern when = concept.isRule() ? concept.asRule().getWhen() : null;
+            Pattern then = concept.isRule() ? concept.asRule().getThen() : null;
+            writeOptionalString(out, when == null ? null : when.toString());
+            writeOptionalString(out, then == null ? null : then.toString());
+        } else {
+            out.writeByte(THING);
+            writeString(out, concept.asThing().type().getLabel().getValue());
+            Object value = concept.isAttribute() ? concept.asAttribute().getValue() : null;
+            if (value == null || value instanceof Boolean || value instanceof Number || value instanceof String) {
+                writeValue(out, value, null, null);
+            } else {
+                // Dates are sent in the same format as in Json
+                writeValue(out, value.toString(), null, null);
+            }
+        }
+    }
+
+    private static void writeOptionalString(DataOutputStream out, @Nullable String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) writeString(out, string);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
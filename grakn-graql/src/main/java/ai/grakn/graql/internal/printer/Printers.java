@@ -42,6 +42,10 @@ public class Printers {
         return new JsonPrinter();
     }
 
+    public static Printer<Json> binary() {
+        return new BinaryPrinter();
+    }
+
     public static Printer hal(Keyspace keyspace, int limitEmbedded) {
         return new HALPrinter(keyspace, limitEmbedded);
     }
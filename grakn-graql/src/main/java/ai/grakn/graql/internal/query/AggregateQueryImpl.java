@@ -24,7 +24,9 @@ import ai.grakn.graql.AggregateQuery;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.MatchAdmin;
+import ai.grakn.graql.internal.query.aggregate.Aggregates;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -46,8 +48,15 @@ class AggregateQueryImpl<T> implements AggregateQuery<T> {
         return new AggregateQueryImpl<>(match.withTx(tx).admin(), aggregate);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public T execute() {
+        // A count does not need the results if the match can count them without finding them
+        if (aggregate.equals(Aggregates.count())) {
+            Optional<Long> count = match.countWithoutResults();
+            if (count.isPresent()) return (T) count.get();
+        }
+
         return aggregate.apply(match.stream());
     }
 
@@ -33,6 +33,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import static ai.grakn.graql.internal.analytics.Utility.clusterLabelsToConceptIds;
+
 class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuery<T> {
 
     private boolean members = false;
@@ -73,7 +75,7 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
             }
             LOGGER.info("ConnectedComponentsVertexProgram is done in "
                     + (System.currentTimeMillis() - startTime) + " ms");
-            return result.memory().get(ClusterMemberMapReduce.class.getName());
+            return (T) clusterLabelsToConceptIds(result.memory().get(ClusterMemberMapReduce.class.getName()));
         } else {
             if (anySize) {
                 result = getGraphComputer().compute(
@@ -88,7 +90,7 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
             }
             LOGGER.info("ConnectedComponentsVertexProgram is done in "
                     + (System.currentTimeMillis() - startTime) + " ms");
-            return result.memory().get(ClusterSizeMapReduce.class.getName());
+            return (T) clusterLabelsToConceptIds(result.memory().get(ClusterSizeMapReduce.class.getName()));
         }
     }
 
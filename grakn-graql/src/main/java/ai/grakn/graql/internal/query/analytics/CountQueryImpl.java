@@ -25,6 +25,7 @@ import ai.grakn.graql.analytics.CountQuery;
 import ai.grakn.graql.internal.analytics.CountMapReduce;
 import ai.grakn.graql.internal.analytics.CountMapReduceWithAttribute;
 import ai.grakn.graql.internal.analytics.CountVertexProgram;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 
 import java.util.Collection;
@@ -36,6 +37,8 @@ import static ai.grakn.graql.internal.analytics.GraknMapReduce.RESERVED_TYPE_LAB
 
 class CountQueryImpl extends AbstractComputeQuery<Long> implements CountQuery {
 
+    private boolean exact = false;
+
     CountQueryImpl(Optional<GraknTx> graph) {
         this.tx = graph;
     }
@@ -48,6 +51,17 @@ class CountQueryImpl extends AbstractComputeQuery<Long> implements CountQuery {
         initSubGraph();
         getAllSubTypes();
 
+        // the instance counts engine keeps for sharding do not cover attributes, so only use them without attributes
+        if (!exact && !includeAttribute) {
+            Optional<Long> knownCount = KeyspaceStatistics.of(tx.get().keyspace()).currentInstanceCount(subTypes);
+            if (knownCount.isPresent()) {
+                LOGGER.debug("Count = " + knownCount.get());
+                LOGGER.info("Count is answered from the instance counts in "
+                        + (System.currentTimeMillis() - startTime) + " ms");
+                return knownCount.get();
+            }
+        }
+
         if (!selectedTypesHaveInstance()) {
             LOGGER.debug("Count = 0");
             LOGGER.info("CountMapReduce is done in " + (System.currentTimeMillis() - startTime) + " ms");
@@ -91,6 +105,12 @@ class CountQueryImpl extends AbstractComputeQuery<Long> implements CountQuery {
         return true;
     }
 
+    @Override
+    public CountQuery exact() {
+        this.exact = true;
+        return this;
+    }
+
     @Override
     public CountQuery in(String... subTypeLabels) {
         return (CountQuery) super.in(subTypeLabels);
@@ -103,11 +123,33 @@ class CountQueryImpl extends AbstractComputeQuery<Long> implements CountQuery {
 
     @Override
     String graqlString() {
-        return "count" + subtypeString();
+        String string = "count" + subtypeString();
+        if (exact) {
+            string += " exact;";
+        }
+        return string;
     }
 
     @Override
     public CountQuery withTx(GraknTx tx) {
         return (CountQuery) super.withTx(tx);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+
+        CountQueryImpl that = (CountQueryImpl) o;
+
+        return exact == that.exact;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + (exact ? 1 : 0);
+        return result;
+    }
 }
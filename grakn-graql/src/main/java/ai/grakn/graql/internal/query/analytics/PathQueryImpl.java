@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknConfigKey;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
@@ -27,6 +28,7 @@ import ai.grakn.concept.Thing;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.analytics.ClusterQuery;
 import ai.grakn.graql.analytics.PathQuery;
+import ai.grakn.graql.internal.analytics.BidirectionalShortestPath;
 import ai.grakn.graql.internal.analytics.ClusterMemberMapReduce;
 import ai.grakn.graql.internal.analytics.NoResultException;
 import ai.grakn.graql.internal.analytics.ShortestPathVertexProgram;
@@ -70,30 +72,18 @@ class PathQueryImpl extends AbstractComputeQuery<Optional<List<Concept>>> implem
         if (sourceId.equals(destinationId)) {
             return Optional.of(Collections.singletonList(tx.get().getConcept(sourceId)));
         }
-        ComputerResult result;
 
         Set<LabelId> subLabelIds = convertLabelsToIds(subLabels);
 
-        try {
-            result = getGraphComputer().compute(
-                    new ShortestPathVertexProgram(sourceId, destinationId),
-                    new ClusterMemberMapReduce(ShortestPathVertexProgram.FOUND_IN_ITERATION),
-                    subLabelIds);
-        } catch (NoResultException e) {
+        // search within the transaction first, the graph computer is only needed when the search gives up
+        int maxLocalVisits = tx.get().session().config().getProperty(GraknConfigKey.KB_ANALYTICS_PATH_MAX_LOCAL_VISITS);
+        List<ConceptId> path =
+                BidirectionalShortestPath.find(tx.get(), sourceId, destinationId, subLabelIds, maxLocalVisits)
+                        .orElseGet(() -> computePath(subLabelIds));
+        if (path.isEmpty()) {
             LOGGER.info("ShortestPathVertexProgram is done in " + (System.currentTimeMillis() - startTime) + " ms");
             return Optional.empty();
         }
-        Map<Integer, Set<String>> map = result.memory().get(ClusterMemberMapReduce.class.getName());
-        String middlePoint = result.memory().get(ShortestPathVertexProgram.MIDDLE);
-        if (!middlePoint.equals("")) map.put(0, Collections.singleton(middlePoint));
-
-        List<ConceptId> path = new ArrayList<>();
-        path.add(sourceId);
-        path.addAll(map.entrySet().stream()
-                .sorted(Comparator.comparingInt(Map.Entry::getKey))
-                .map(pair -> ConceptId.of(pair.getValue().iterator().next()))
-                .collect(Collectors.toList()));
-        path.add(destinationId);
 
         List<ConceptId> fullPath = new ArrayList<>();
         for (int index = 0; index < path.size() - 1; index++) {
@@ -112,6 +102,30 @@ class PathQueryImpl extends AbstractComputeQuery<Optional<List<Concept>>> implem
         return Optional.of(fullPath.stream().map(tx.get()::<Thing>getConcept).collect(Collectors.toList()));
     }
 
+    private List<ConceptId> computePath(Set<LabelId> subLabelIds) {
+        ComputerResult result;
+        try {
+            result = getGraphComputer().compute(
+                    new ShortestPathVertexProgram(sourceId, destinationId),
+                    new ClusterMemberMapReduce(ShortestPathVertexProgram.FOUND_IN_ITERATION),
+                    subLabelIds);
+        } catch (NoResultException e) {
+            return Collections.emptyList();
+        }
+        Map<Integer, Set<String>> map = result.memory().get(ClusterMemberMapReduce.class.getName());
+        String middlePoint = result.memory().get(ShortestPathVertexProgram.MIDDLE);
+        if (!middlePoint.equals("")) map.put(0, Collections.singleton(middlePoint));
+
+        List<ConceptId> path = new ArrayList<>();
+        path.add(sourceId);
+        path.addAll(map.entrySet().stream()
+                .sorted(Comparator.comparingInt(Map.Entry::getKey))
+                .map(pair -> ConceptId.of(pair.getValue().iterator().next()))
+                .collect(Collectors.toList()));
+        path.add(destinationId);
+        return path;
+    }
+
     @Override
     public PathQuery from(ConceptId sourceId) {
         this.sourceId = sourceId;
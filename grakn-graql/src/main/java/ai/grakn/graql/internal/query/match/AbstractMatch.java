@@ -71,6 +71,29 @@ abstract class AbstractMatch implements MatchAdmin {
         return stream(Optional.empty());
     }
 
+    /**
+     * Execute the query using the given graph, reading at most the given number of results.
+     * @param graph the graph to use to execute the query
+     * @param limit the most results which will be read from the stream
+     * @return a stream of at most the given number of results
+     */
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        return stream(graph).limit(limit);
+    }
+
+    /**
+     * @param graph the graph to use to execute the query
+     * @return the number of results, if it can be counted without finding the results
+     */
+    Optional<Long> countWithoutResults(Optional<GraknTx> graph) {
+        return Optional.empty();
+    }
+
+    @Override
+    public final Optional<Long> countWithoutResults() {
+        return countWithoutResults(Optional.empty());
+    }
+
     /**
      * @param tx the {@link GraknTx} against which the pattern should be validated
      */
@@ -18,20 +18,28 @@
 
 package ai.grakn.graql.internal.query.match;
 
+import ai.grakn.GraknConfigKey;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.Label;
 import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Type;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.Match;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.PatternAdmin;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.admin.VarProperty;
 import ai.grakn.graql.internal.gremlin.GraqlTraversal;
-import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
+import ai.grakn.graql.internal.pattern.property.IsaProperty;
 import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.kb.admin.GraknAdmin;
+import ai.grakn.kb.internal.concept.ParallelShardScan;
 import ai.grakn.util.CommonUtil;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -41,6 +49,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -48,6 +57,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -74,14 +84,67 @@ public class MatchBase extends AbstractMatch {
 
     @Override
     public Stream<Answer> stream(Optional<GraknTx> optionalGraph) {
+        return stream(optionalGraph, Long.MAX_VALUE);
+    }
+
+    /**
+     * A pattern which only matches the instances of a type with many shards is answered by scanning the shards in
+     * parallel, rather than by a gremlin traversal which reads them on one thread.
+     */
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> optionalGraph, long limit) {
         GraknTx graph = optionalGraph.orElseThrow(GraqlQueryException::noTx);
 
         validatePattern(graph);
 
-        GraqlTraversal graqlTraversal = GreedyTraversalPlan.createTraversal(pattern, graph);
-        LOG.trace("Created query plan");
-        LOG.trace(graqlTraversal.toString());
-        return streamWithTraversal(this.getPattern().commonVars(), graph, graqlTraversal);
+        Optional<Type> scannedType = typeScannedByShard(graph);
+        if (scannedType.isPresent()) {
+            Var var = Iterables.getOnlyElement(pattern.getPatterns()).asVarPattern().var();
+            return ParallelShardScan.instanceIds(graph, scannedType.get(), limit)
+                    .map(graph::<Concept>getConcept)
+                    .filter(Objects::nonNull)
+                    .map(concept -> new QueryAnswer(ImmutableMap.of(var, concept)));
+        }
+
+        return QueryPlanCache.of(graph).stream(pattern, graph).limit(limit);
+    }
+
+    @Override
+    Optional<Long> countWithoutResults(Optional<GraknTx> optionalGraph) {
+        GraknTx graph = optionalGraph.orElseThrow(GraqlQueryException::noTx);
+
+        validatePattern(graph);
+
+        return typeScannedByShard(graph).map(type -> ParallelShardScan.count(graph, type));
+    }
+
+    /**
+     * @param graph the graph to get the type from
+     * @return the type the pattern matches the instances of, if the pattern is only an isa whose scan can be split
+     * by shard
+     */
+    private Optional<Type> typeScannedByShard(GraknTx graph) {
+        if (pattern.getPatterns().size() != 1) return Optional.empty();
+
+        PatternAdmin onlyPattern = Iterables.getOnlyElement(pattern.getPatterns());
+        if (!onlyPattern.isVarPattern() || !onlyPattern.asVarPattern().var().isUserDefinedName()) {
+            return Optional.empty();
+        }
+
+        List<VarProperty> properties = onlyPattern.asVarPattern().getProperties().collect(toList());
+        if (properties.size() != 1 || !(properties.get(0) instanceof IsaProperty)) return Optional.empty();
+
+        VarPatternAdmin type = ((IsaProperty) properties.get(0)).type();
+        Optional<Label> label = type.getTypeLabel();
+        if (type.var().isUserDefinedName() || type.getProperties().count() != 1 || !label.isPresent()) {
+            return Optional.empty();
+        }
+
+        SchemaConcept schemaConcept = graph.getSchemaConcept(label.get());
+        if (schemaConcept == null || !schemaConcept.isType()) return Optional.empty();
+
+        Type scannedType = schemaConcept.asType();
+        return ParallelShardScan.canSplit(graph, scannedType) ? Optional.of(scannedType) : Optional.empty();
     }
 
     /**
@@ -94,9 +157,10 @@ public class MatchBase extends AbstractMatch {
         Set<Var> vars = Sets.filter(commonVars, Var::isUserDefinedName);
 
         GraphTraversal<Vertex, Map<String, Element>> traversal = graqlTraversal.getGraphTraversal(graph, vars);
+        boolean lazyConcepts = graph.session().config().getProperty(GraknConfigKey.KB_LAZY_CONCEPTS);
 
         return traversal.toStream()
-                .map(elements -> makeResults(vars, graph, elements))
+                .map(elements -> makeResults(vars, graph, elements, lazyConcepts))
                 .flatMap(CommonUtil::optionalToStream)
                 .distinct()
                 .sequential()
@@ -107,16 +171,18 @@ public class MatchBase extends AbstractMatch {
      * @param vars set of variables of interest
      * @param graph the graph to get results from
      * @param elements a map of vertices and edges where the key is the variable name
+     * @param lazyConcepts whether to build lazy handles instead of full concepts
      * @return a map of concepts where the key is the variable name
      */
-    private static Optional<Map<Var, Concept>> makeResults(Set<Var> vars, GraknTx graph, Map<String, Element> elements) {
+    private static Optional<Map<Var, Concept>> makeResults(Set<Var> vars, GraknTx graph, Map<String, Element> elements, boolean lazyConcepts) {
         Map<Var, Concept> map = new HashMap<>();
         for (Var var : vars) {
             Element element = elements.get(var.name());
             if (element == null) {
                 throw GraqlQueryException.unexpectedResult(var);
             } else {
-                Optional<Concept> concept = buildConcept(graph.admin(), element);
+                Optional<Concept> concept = lazyConcepts ?
+                        buildConceptHandle(graph.admin(), element) : buildConcept(graph.admin(), element);
 
                 if(!concept.isPresent()) return Optional.empty();
                 map.put(var, concept.get());
@@ -134,6 +200,14 @@ public class MatchBase extends AbstractMatch {
         }
     }
 
+    private static Optional<Concept> buildConceptHandle(GraknAdmin graph, Element element) {
+        if (element instanceof Vertex) {
+            return graph.buildConceptHandle((Vertex) element);
+        } else {
+            return graph.buildConceptHandle((Edge) element);
+        }
+    }
+
     @Override
     public Set<SchemaConcept> getSchemaConcepts(GraknTx tx) {
         return pattern.varPatterns().stream()
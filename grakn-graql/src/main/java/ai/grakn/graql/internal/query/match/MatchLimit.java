@@ -42,7 +42,7 @@ class MatchLimit extends MatchModifier {
 
     @Override
     public Stream<Answer> stream(Optional<GraknTx> graph) {
-        return inner.stream(graph).limit(limit);
+        return inner.stream(graph, limit);
     }
 
     @Override
@@ -48,6 +48,24 @@ class MatchTx extends MatchModifier {
         return inner.stream(Optional.of(this.tx));
     }
 
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        if (graph.isPresent()) {
+            throw GraqlQueryException.multipleTxs();
+        }
+
+        return inner.stream(Optional.of(this.tx), limit);
+    }
+
+    @Override
+    Optional<Long> countWithoutResults(Optional<GraknTx> graph) {
+        if (graph.isPresent()) {
+            throw GraqlQueryException.multipleTxs();
+        }
+
+        return inner.countWithoutResults(Optional.of(this.tx));
+    }
+
     @Override
     public Optional<GraknTx> tx() {
         return Optional.of(tx);
@@ -0,0 +1,207 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.match;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.PatternAdmin;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.admin.VarProperty;
+import ai.grakn.graql.internal.gremlin.GraqlTraversal;
+import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.pattern.property.IdProperty;
+import ai.grakn.kb.admin.GraknAdmin;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ * Session-wide cache of query plans for plain {@link ai.grakn.graql.Match} queries.
+ *
+ * Plans are keyed by the pattern with the concept ids of its variables abstracted away, so queries which differ only
+ * in the ids they look up share a plan. On a cache hit the id fragments of the cached {@link GraqlTraversal} are
+ * rebound to the ids of the provided pattern. Only ids given by a single id property of a named variable are
+ * abstracted, all other ids are part of the key.
+ *
+ * All cached plans are discarded when the schema version of the transaction changes.
+ * </p>
+ *
+ * @author agent
+ */
+public class QueryPlanCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryPlanCache.class);
+    private static final int MAX_PLANS = 1000;
+    private static final IdProperty ID_PLACEHOLDER = IdProperty.of(ConceptId.of("?"));
+
+    //One plan cache per transaction object, transaction objects are shared by all transactions of a session
+    private static final Cache<GraknAdmin, QueryPlanCache> planCaches = CacheBuilder.newBuilder().weakKeys().build();
+
+    private static final AtomicLong totalHits = new AtomicLong(0);
+    private static final AtomicLong totalMisses = new AtomicLong(0);
+
+    private final Cache<Conjunction<PatternAdmin>, GraqlTraversal> plans = CacheBuilder.newBuilder()
+            .maximumSize(MAX_PLANS)
+            .build();
+
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong schemaVersion;
+
+    private QueryPlanCache(long schemaVersion){
+        this.schemaVersion = new AtomicLong(schemaVersion);
+    }
+
+    /**
+     * @param tx transaction the plan cache is requested for
+     * @return the plan cache shared by all transactions of the session the transaction belongs to
+     */
+    public static QueryPlanCache of(GraknTx tx){
+        GraknAdmin admin = tx.admin();
+        return planCaches.asMap().computeIfAbsent(admin, k -> new QueryPlanCache(admin.schemaVersion()));
+    }
+
+    /**
+     * @return number of queries in this process which reused a cached plan
+     */
+    public static long totalHitCount(){ return totalHits.get();}
+
+    /**
+     * @return number of queries in this process for which a new plan had to be created
+     */
+    public static long totalMissCount(){ return totalMisses.get();}
+
+    /**
+     * @return number of queries which reused a cached plan
+     */
+    public long hitCount(){ return hits.get();}
+
+    /**
+     * @return number of queries for which a new plan had to be created
+     */
+    public long missCount(){ return misses.get();}
+
+    /**
+     * @return number of plans currently cached
+     */
+    public long size(){ return plans.size();}
+
+    /**
+     * @param pattern conjunctive pattern to be matched
+     * @param tx transaction to execute the pattern in
+     * @return answer stream of the pattern, executed with a cached plan if possible
+     */
+    Stream<Answer> stream(Conjunction<PatternAdmin> pattern, GraknTx tx){
+        invalidateIfSchemaChanged(tx);
+
+        Map<Var, ConceptId> ids = abstractedIds(pattern);
+        Conjunction<PatternAdmin> key = ids.isEmpty()? pattern : withoutIds(pattern, ids.keySet());
+
+        GraqlTraversal traversal = plans.getIfPresent(key);
+        if (traversal != null){
+            hits.incrementAndGet();
+            totalHits.incrementAndGet();
+            if (!ids.isEmpty()) traversal = traversal.transform(ids);
+        } else {
+            misses.incrementAndGet();
+            totalMisses.incrementAndGet();
+            traversal = createTraversal(pattern, tx);
+            //id fragments can only be rebound in plans of a single conjunction
+            if (ids.isEmpty() || traversal.fragments().size() == 1) plans.put(key, traversal);
+        }
+        return MatchBase.streamWithTraversal(pattern.commonVars(), tx, traversal);
+    }
+
+    private static GraqlTraversal createTraversal(Conjunction<PatternAdmin> pattern, GraknTx tx){
+        GraqlTraversal traversal = GreedyTraversalPlan.createTraversal(pattern, tx);
+        LOG.trace("Created query plan");
+        LOG.trace(traversal.toString());
+        return traversal;
+    }
+
+    private void invalidateIfSchemaChanged(GraknTx tx){
+        long currentVersion = tx.admin().schemaVersion();
+        long cachedVersion = schemaVersion.get();
+        if (currentVersion != cachedVersion && schemaVersion.compareAndSet(cachedVersion, currentVersion)){
+            plans.invalidateAll();
+        }
+    }
+
+    /**
+     * @return ids of the named variables which have a single id property in the whole pattern, placed directly on
+     * one of the top level variable patterns
+     */
+    private static Map<Var, ConceptId> abstractedIds(Conjunction<PatternAdmin> pattern){
+        Map<Var, List<ConceptId>> idsOfVars = new HashMap<>();
+        pattern.getPatterns().stream()
+                .filter(PatternAdmin::isVarPattern)
+                .flatMap(p -> p.asVarPattern().implicitInnerVarPatterns().stream())
+                .forEach(v -> v.getProperties(IdProperty.class).forEach(id ->
+                        idsOfVars.computeIfAbsent(v.var(), k -> new ArrayList<>()).add(id.id())
+                ));
+
+        Set<Var> topLevelIdVars = pattern.getPatterns().stream()
+                .filter(PatternAdmin::isVarPattern)
+                .map(PatternAdmin::asVarPattern)
+                .filter(v -> v.hasProperty(IdProperty.class))
+                .map(VarPatternAdmin::var)
+                .collect(toSet());
+
+        Map<Var, ConceptId> ids = new HashMap<>();
+        idsOfVars.forEach((var, varIds) -> {
+            if (var.isUserDefinedName() && varIds.size() == 1 && topLevelIdVars.contains(var)) {
+                ids.put(var, varIds.get(0));
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * @return the pattern with the id properties of the given top level variables replaced by a placeholder
+     */
+    private static Conjunction<PatternAdmin> withoutIds(Conjunction<PatternAdmin> pattern, Set<Var> vars){
+        return Patterns.conjunction(pattern.getPatterns().stream()
+                .map(p -> {
+                    if (!p.isVarPattern() || !vars.contains(p.asVarPattern().var())) return p;
+                    VarPatternAdmin varPattern = p.asVarPattern();
+                    if (!varPattern.hasProperty(IdProperty.class)) return p;
+                    Set<VarProperty> properties = varPattern.getProperties()
+                            .map(property -> property instanceof IdProperty? ID_PLACEHOLDER : property)
+                            .collect(toSet());
+                    return (PatternAdmin) Patterns.varPattern(varPattern.var(), properties);
+                })
+                .collect(toSet()));
+    }
+}
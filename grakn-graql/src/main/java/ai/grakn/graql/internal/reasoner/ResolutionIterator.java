@@ -21,6 +21,7 @@ package ai.grakn.graql.internal.reasoner;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.graql.internal.reasoner.cache.QueryCache;
+import ai.grakn.graql.internal.reasoner.cache.SessionQueryCache;
 import ai.grakn.graql.internal.reasoner.iterator.ReasonerQueryIterator;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
@@ -29,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.Stack;
@@ -37,6 +39,13 @@ import java.util.Stack;
  *
  * <p>
  * Iterator for query answers maintaining the iterative behaviour of the QSQ scheme.
+ *
+ * If the query requires reiteration, iterations are evaluated semi-naively: rules which were already applied to a
+ * query in the previous iteration are only evaluated for derivations involving answers recorded in the cache in the
+ * current or previous iteration. The fixpoint is reached when an iteration records no new answers in the cache.
+ *
+ * Atomic queries are answered from the {@link SessionQueryCache} if it holds up to date answers to them. Otherwise
+ * the answers are recorded in the {@link SessionQueryCache} once they are fully computed.
  * </p>
  *
  * @author Kasper Piskorski
@@ -45,9 +54,8 @@ import java.util.Stack;
 public class ResolutionIterator extends ReasonerQueryIterator {
 
     private int iter = 0;
-    private long oldAns = 0;
     private final ReasonerQueryImpl query;
-    private final Set<Answer> answers = new HashSet<>();
+    private Set<ReasonerAtomicQuery> subGoals = new HashSet<>();
 
     private final QueryCache<ReasonerAtomicQuery> cache = new QueryCache<>();
     private final Stack<ResolutionState> states = new Stack<>();
@@ -55,15 +63,30 @@ public class ResolutionIterator extends ReasonerQueryIterator {
     private Answer nextAnswer = null;
     private final boolean reiterationRequired;
 
+    private final SessionQueryCache sessionCache;
+    //answers from the session cache, null if the query is resolved
+    private Iterator<Answer> cachedAnswers = null;
+    //answers to be recorded in the session cache, null if the answers are not recordable
+    private Set<Answer> answers = null;
+
     private static final Logger LOG = LoggerFactory.getLogger(ReasonerQueryImpl.class);
 
     public ResolutionIterator(ReasonerQueryImpl q){
         this.query = q;
         this.reiterationRequired = q.requiresReiteration();
-        states.push(query.subGoal(new QueryAnswer(), new UnifierImpl(), null, new HashSet<>(), cache));
+        this.sessionCache = SessionQueryCache.of(q.tx());
+        if (query instanceof ReasonerAtomicQuery){
+            ReasonerAtomicQuery atomicQuery = (ReasonerAtomicQuery) query;
+            sessionCache.getAnswers(atomicQuery).ifPresent(ans -> cachedAnswers = ans.iterator());
+            if (cachedAnswers == null && sessionCache.isRecordable(atomicQuery)) answers = new HashSet<>();
+        }
+        if (cachedAnswers == null) {
+            states.push(query.subGoal(new QueryAnswer(), new UnifierImpl(), null, subGoals, cache));
+        }
     }
 
     private Answer findNextAnswer(){
+        if (cachedAnswers != null) return cachedAnswers.hasNext()? cachedAnswers.next() : null;
         while(!states.isEmpty()) {
             ResolutionState state = states.pop();
 
@@ -83,7 +106,6 @@ public class ResolutionIterator extends ReasonerQueryIterator {
     @Override
     public Answer next(){
         if (nextAnswer == null) throw new NoSuchElementException();
-        answers.add(nextAnswer);
         return nextAnswer;
     }
 
@@ -94,20 +116,25 @@ public class ResolutionIterator extends ReasonerQueryIterator {
     @Override
     public boolean hasNext() {
         nextAnswer = findNextAnswer();
-        if (nextAnswer != null) return true;
+        if (nextAnswer != null) {
+            if (answers != null) answers.add(nextAnswer);
+            return true;
+        }
 
         //iter finished
-        if (reiterationRequired) {
-            long dAns = answers.size() - oldAns;
-            if (dAns != 0 || iter == 0) {
-                LOG.debug("iter: " + iter + " answers: " + answers.size() + " dAns = " + dAns);
-                iter++;
-                states.push(query.subGoal(new QueryAnswer(), new UnifierImpl(), null, new HashSet<>(), cache));
-                oldAns = answers.size();
-                return hasNext();
-            }
+        if (cachedAnswers == null && reiterationRequired && (iter == 0 || cache.hasNewAnswers())) {
+            LOG.debug("iter: " + iter + " dAns = " + cache.newAnswerSize());
+            iter++;
+            cache.nextIteration(subGoals);
+            subGoals = new HashSet<>();
+            states.push(query.subGoal(new QueryAnswer(), new UnifierImpl(), null, subGoals, cache));
+            return hasNext();
         }
 
+        if (answers != null) {
+            sessionCache.record((ReasonerAtomicQuery) query, answers);
+            answers = null;
+        }
         return false;
     }
 }
@@ -39,6 +39,7 @@ import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.Predicate;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
+import ai.grakn.graql.internal.reasoner.rule.RuleCache;
 import ai.grakn.graql.internal.reasoner.rule.RuleUtils;
 import ai.grakn.util.ErrorMessage;
 import com.google.common.collect.Lists;
@@ -204,12 +205,14 @@ public abstract class Atom extends AtomicBase {
      */
     public Stream<InferenceRule> getApplicableRules() {
         if (applicableRules == null) {
-            applicableRules = new HashSet<>();
+            RuleCache ruleCache = RuleCache.of(tx());
+            Set<InferenceRule> rules = new HashSet<>();
             getPotentialRules()
-                    .map(rule -> new InferenceRule(rule, tx()))
+                    .map(rule -> ruleCache.getRule(rule, tx()))
                     .filter(this::isRuleApplicable)
                     .map(r -> r.rewrite(this))
-                    .forEach(applicableRules::add);
+                    .forEach(rules::add);
+            applicableRules = rules;
         }
         return applicableRules.stream();
     }
@@ -28,7 +28,9 @@ import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.graql.internal.reasoner.utils.Pair;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -37,6 +39,11 @@ import java.util.stream.Stream;
  *
  * <p>
  * Container class for storing performed query resolutions.
+ *
+ * When used in iterative resolution, the cache additionally keeps track of the answers recorded in the current and
+ * the previous iteration (the delta) and of the queries evaluated in the previous iteration. This allows rules
+ * to be evaluated semi-naively: a rule which was already applied to the same query in the previous iteration
+ * can only produce new answers from derivations involving at least one answer from the delta.
  * </p>
  *
  * @param <Q> the type of query that is being cached
@@ -46,6 +53,13 @@ import java.util.stream.Stream;
  */
 public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswers> {
 
+    //answers recorded in the current and previous iteration, null if iterations are not tracked
+    private Map<Q, QueryAnswers> delta = null;
+    private Map<Q, QueryAnswers> previousDelta = null;
+    private Set<Q> previousQueries = null;
+    private boolean materialised = false;
+    private boolean previouslyMaterialised = false;
+
     public QueryCache(){
         super();
     }
@@ -55,11 +69,13 @@ public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswe
         CacheEntry<Q, QueryAnswers> match =  this.get(query);
         if (match != null) {
             Q equivalentQuery = match.query();
+            QueryAnswers cachedAnswers = match.cachedElement();
             QueryAnswers unifiedAnswers = QueryAnswers.getUnifiedAnswers(equivalentQuery, query, answers);
-            this.get(query).cachedElement().addAll(unifiedAnswers);
+            unifiedAnswers.forEach(a -> addAnswer(equivalentQuery, cachedAnswers, a));
             return getAnswers(query);
         }
         this.put(query, answers);
+        answers.forEach(a -> recordDelta(query, a));
         return answers;
     }
 
@@ -72,10 +88,11 @@ public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswe
             Q equivalentQuery = match.query();
             QueryAnswers answers = match.cachedElement();
             QueryAnswers unifiedAnswers = newAnswers.unify(query.getMultiUnifier(equivalentQuery));
-            answers.addAll(unifiedAnswers);
+            unifiedAnswers.forEach(a -> addAnswer(equivalentQuery, answers, a));
             return answers.stream();
         }
         this.put(query, newAnswers);
+        newAnswers.forEach(a -> recordDelta(query, a));
         return newAnswers.stream();
     }
 
@@ -97,9 +114,10 @@ public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswe
             Q equivalentQuery = match.query();
             QueryAnswers answers = match.cachedElement();
             MultiUnifier multiUnifier = query.getMultiUnifier(equivalentQuery);
-            answer.unify(multiUnifier).forEach(answers::add);
+            answer.unify(multiUnifier).forEach(a -> addAnswer(equivalentQuery, answers, a));
         } else {
             this.put(query, new QueryAnswers(answer));
+            recordDelta(query, answer);
         }
         return answer;
     }
@@ -115,14 +133,93 @@ public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswe
         if(answer.isEmpty()) return answer;
         CacheEntry<Q, QueryAnswers> match =  this.get(query);
         if (match != null) {
+            Q equivalentQuery = match.query();
             QueryAnswers answers = match.cachedElement();
-            answer.unify(unifier).forEach(answers::add);
+            answer.unify(unifier).forEach(a -> addAnswer(equivalentQuery, answers, a));
         } else {
             this.put(query, new QueryAnswers(answer));
+            recordDelta(query, answer);
         }
         return answer;
     }
 
+    private void addAnswer(Q equivalentQuery, QueryAnswers answers, Answer answer){
+        if (answers.add(answer)) recordDelta(equivalentQuery, answer);
+    }
+
+    private void recordDelta(Q equivalentQuery, Answer answer){
+        if (delta != null) delta.computeIfAbsent(equivalentQuery, q -> new QueryAnswers()).add(answer);
+    }
+
+    /**
+     * starts a new iteration of iterative resolution, answers recorded from now on together with the answers
+     * recorded in the iteration which has just finished form the delta of the cache
+     * @param evaluatedQueries queries which were fully evaluated (including their rules) in the finished iteration
+     */
+    public void nextIteration(Set<Q> evaluatedQueries){
+        previousQueries = evaluatedQueries;
+        previousDelta = delta;
+        delta = new HashMap<>();
+        previouslyMaterialised = materialised;
+        materialised = false;
+    }
+
+    /**
+     * @return true if new answers were recorded in the current iteration or if iterations are not tracked
+     */
+    public boolean hasNewAnswers(){
+        return delta == null || !delta.isEmpty();
+    }
+
+    /**
+     * @return number of answers recorded in the current iteration
+     */
+    public long newAnswerSize(){
+        return delta != null? delta.values().stream().mapToLong(QueryAnswers::size).sum() : 0;
+    }
+
+    /**
+     * acknowledge that answers were inserted into the graph in the current iteration, answers which are read
+     * from the graph can then differ between iterations
+     */
+    public void recordMaterialisation(){
+        materialised = true;
+    }
+
+    /**
+     * @param query query to which rules are applied
+     * @return true if the rules of the query were already applied to it in the previous iteration, in which case only
+     * derivations involving answers from the delta can produce new answers
+     */
+    public boolean isIncremental(Q query){
+        return previousQueries != null
+                && !materialised
+                && !previouslyMaterialised
+                && previousQueries.contains(query);
+    }
+
+    /**
+     * @param query query the answer was recorded for
+     * @param answer recorded answer
+     * @param unifier unifier the answer was recorded with
+     * @return true if the answer belongs to the delta, i.e. it was not known before the previous iteration
+     */
+    public boolean isDelta(Q query, Answer answer, MultiUnifier unifier){
+        if (previousDelta == null) return true;
+        CacheEntry<Q, QueryAnswers> match =  this.get(query);
+        if (match == null) return true;
+
+        Q equivalentQuery = match.query();
+        QueryAnswers answers = match.cachedElement();
+        QueryAnswers recent = delta.get(equivalentQuery);
+        QueryAnswers previous = previousDelta.get(equivalentQuery);
+        List<Answer> unifiedAnswers = answer.unify(unifier).collect(Collectors.toList());
+        return unifiedAnswers.isEmpty()
+                || unifiedAnswers.stream().anyMatch(a -> !answers.contains(a)
+                        || (recent != null && recent.contains(a))
+                        || (previous != null && previous.contains(a)));
+    }
+
     @Override
     public QueryAnswers getAnswers(Q query) {
         return getAnswersWithUnifier(query).getKey();
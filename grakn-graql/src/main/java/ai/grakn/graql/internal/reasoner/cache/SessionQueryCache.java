@@ -0,0 +1,308 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.cache;
+
+import ai.grakn.GraknConfigKey;
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.reasoner.atom.Atom;
+import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
+import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
+import ai.grakn.graql.internal.reasoner.rule.RuleUtils;
+import ai.grakn.kb.admin.GraknAdmin;
+import ai.grakn.util.Schema;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ * Session-wide cache of complete answers to atomic queries.
+ *
+ * Answers are stored as concept ids together with the pattern of the atomic query they answer, so that nothing bound
+ * to a transaction is shared by transactions. Entries are grouped by the alpha-equivalence hash of their query. On a
+ * lookup the pattern of each entry in the group is built into a query in the transaction of the lookup, and the
+ * answers of an alpha-equivalent query are unified with the variables of the provided query. Cached answers are not
+ * explained.
+ *
+ * Every entry records the data version at which it was computed together with the types its answers depend on:
+ * the types of the query and of the bodies of all rules reachable from it. An entry is stale once a commit changes
+ * the instances of any of these types. All entries are discarded when the schema version changes, which covers
+ * changes to rules. Transactions which changed the schema or data bypass the cache, as their changes are not
+ * reflected by the versions until they are committed.
+ *
+ * The versions only change on commits made through the same session. Commits made by other sessions or clients
+ * are not seen, so entries also expire {@link GraknConfigKey#REASONER_ANSWER_CACHE_TIMEOUT_MS} after they were
+ * recorded, which bounds how long answers missing those commits can be served.
+ *
+ * The cache holds at most {@link GraknConfigKey#REASONER_ANSWER_CACHE_SIZE} answers and is disabled if the size is 0.
+ * </p>
+ *
+ * @author agent
+ */
+public class SessionQueryCache {
+
+    //One answer cache per transaction object, transaction objects are shared by all transactions of a session
+    private static final Cache<GraknAdmin, SessionQueryCache> queryCaches = CacheBuilder.newBuilder().weakKeys().build();
+
+    private final long maxAnswers;
+    //entries keyed by the alpha-equivalence hash of their query
+    private final Cache<Integer, List<CachedAnswers>> answers;
+
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong schemaVersion;
+
+    private SessionQueryCache(long schemaVersion, long maxAnswers, long timeoutMs){
+        this.schemaVersion = new AtomicLong(schemaVersion);
+        this.maxAnswers = maxAnswers;
+        this.answers = CacheBuilder.newBuilder()
+                .maximumWeight(maxAnswers)
+                .weigher((Integer hash, List<CachedAnswers> entries) ->
+                        entries.stream().mapToInt(entry -> entry.size() + 1).sum())
+                .expireAfterWrite(timeoutMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * @param tx transaction the answer cache is requested for
+     * @return the answer cache shared by all transactions of the session the transaction belongs to
+     */
+    public static SessionQueryCache of(GraknTx tx){
+        GraknAdmin admin = tx.admin();
+        return queryCaches.asMap().computeIfAbsent(admin, k -> new SessionQueryCache(
+                admin.schemaVersion(),
+                tx.session().config().getProperty(GraknConfigKey.REASONER_ANSWER_CACHE_SIZE),
+                tx.session().config().getProperty(GraknConfigKey.REASONER_ANSWER_CACHE_TIMEOUT_MS))
+        );
+    }
+
+    /**
+     * @return number of queries answered from the cache
+     */
+    public long hitCount(){ return hits.get();}
+
+    /**
+     * @return number of queries which could not be answered from the cache
+     */
+    public long missCount(){ return misses.get();}
+
+    /**
+     * @return number of answers currently cached
+     */
+    public long size(){
+        return answers.asMap().values().stream().flatMap(List::stream).mapToLong(CachedAnswers::size).sum();
+    }
+
+    /**
+     * @param query atomic query of interest
+     * @return true if complete answers to the query can be recorded in the cache
+     */
+    public boolean isRecordable(ReasonerAtomicQuery query){
+        return isValid(query.tx()) && dependencies(query).isPresent();
+    }
+
+    /**
+     * @param query atomic query to be answered
+     * @return complete answers to the query unified with the query if an alpha-equivalent query is cached and its
+     * answers are up to date, empty otherwise
+     */
+    public Optional<QueryAnswers> getAnswers(ReasonerAtomicQuery query){
+        if (!isValid(query.tx())) return Optional.empty();
+
+        List<CachedAnswers> entries = answers.getIfPresent(query.hashCode());
+        if (entries != null) {
+            for (CachedAnswers entry : entries) {
+                ReasonerAtomicQuery cachedQuery = entry.query(query.tx());
+                if (!cachedQuery.equals(query)) continue;
+
+                Optional<QueryAnswers> cachedAnswers = entry.getAnswers(cachedQuery, query);
+                if (cachedAnswers.isPresent()) {
+                    hits.incrementAndGet();
+                } else {
+                    misses.incrementAndGet();
+                    remove(query.hashCode(), entry);
+                }
+                return cachedAnswers;
+            }
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * record complete answers to a query
+     * @param query answered atomic query
+     * @param queryAnswers all answers to the query
+     */
+    public void record(ReasonerAtomicQuery query, Collection<Answer> queryAnswers){
+        if (queryAnswers.size() > maxAnswers || !isValid(query.tx())) return;
+        dependencies(query).ifPresent(types -> {
+            GraknAdmin admin = query.tx().admin();
+            CachedAnswers entry = new CachedAnswers(query, queryAnswers, types, admin.schemaVersion(), admin.dataVersion());
+            answers.asMap().compute(query.hashCode(), (hash, entries) -> {
+                ImmutableList.Builder<CachedAnswers> updated = ImmutableList.builder();
+                if (entries != null) entries.stream().filter(e -> !e.query(query.tx()).equals(query)).forEach(updated::add);
+                return updated.add(entry).build();
+            });
+        });
+    }
+
+    private void remove(int hash, CachedAnswers stale){
+        answers.asMap().computeIfPresent(hash, (h, entries) -> {
+            List<CachedAnswers> remaining = entries.stream().filter(e -> e != stale).collect(toList());
+            return remaining.isEmpty() ? null : ImmutableList.copyOf(remaining);
+        });
+    }
+
+    /**
+     * @param query atomic query of interest
+     * @return labels of the types the answers of the query depend on or empty if they depend on untyped patterns
+     */
+    private static Optional<Set<Label>> dependencies(ReasonerAtomicQuery query){
+        Set<SchemaConcept> types = new HashSet<>();
+        Set<ReasonerQueryImpl> queries = new HashSet<>();
+        queries.add(query);
+        for (InferenceRule rule : RuleUtils.getDependentRules(query)) {
+            queries.add(rule.getHead());
+            queries.add(rule.getBody());
+        }
+        for (ReasonerQueryImpl q : queries) {
+            for (Atom atom : q.getAtoms(Atom.class).collect(toSet())) {
+                SchemaConcept type = atom.getSchemaConcept();
+                if (type == null) return Optional.empty();
+                types.add(type);
+            }
+        }
+
+        Set<Label> labels = new HashSet<>();
+        types.forEach(type -> {
+            labels.add(type.getLabel());
+            //attribute ownership is stored in implicit relationships
+            if (type.isAttributeType()) {
+                labels.add(Schema.ImplicitType.HAS.getLabel(type.getLabel()));
+                labels.add(Schema.ImplicitType.KEY.getLabel(type.getLabel()));
+            }
+        });
+        return Optional.of(labels);
+    }
+
+    /**
+     * @param tx transaction the cache is accessed from
+     * @return true if the cache can be used in the transaction, cached answers are discarded if the schema
+     * version has changed
+     */
+    private boolean isValid(GraknTx tx){
+        if (maxAnswers == 0) return false;
+        GraknAdmin admin = tx.admin();
+        if (admin.isSchemaMutated() || admin.isDataMutated()) return false;
+
+        long currentVersion = admin.schemaVersion();
+        long cachedVersion = schemaVersion.get();
+        if (currentVersion != cachedVersion && schemaVersion.compareAndSet(cachedVersion, currentVersion)){
+            answers.invalidateAll();
+        }
+        return true;
+    }
+
+    /**
+     * <p>
+     * Complete answers to a single atomic query together with the data they were computed from.
+     * </p>
+     */
+    private static class CachedAnswers {
+        private final Conjunction<VarPatternAdmin> pattern;
+        private final Set<Map<Var, ConceptId>> answers;
+        private final Set<Label> types;
+        private final long schemaVersion;
+        private final long dataVersion;
+
+        CachedAnswers(ReasonerAtomicQuery query, Collection<Answer> answers, Set<Label> types, long schemaVersion, long dataVersion){
+            this.pattern = Patterns.conjunction(query.getPattern().varPatterns());
+            this.answers = answers.stream()
+                    .map(ans -> {
+                        Map<Var, ConceptId> ids = new HashMap<>();
+                        ans.entrySet().forEach(e -> ids.put(e.getKey(), e.getValue().getId()));
+                        return ids;
+                    })
+                    .collect(toSet());
+            this.types = types;
+            this.schemaVersion = schemaVersion;
+            this.dataVersion = dataVersion;
+        }
+
+        int size(){ return answers.size();}
+
+        /**
+         * @param tx transaction the query is built in
+         * @return the query the answers belong to, built in the given transaction
+         */
+        ReasonerAtomicQuery query(GraknTx tx){
+            return ReasonerQueries.atomic(pattern, tx);
+        }
+
+        /**
+         * @param query the query the answers belong to, built in the transaction of the parent query
+         * @param parent alpha-equivalent query to be answered
+         * @return answers unified with the parent query or empty if the answers are stale
+         */
+        Optional<QueryAnswers> getAnswers(ReasonerAtomicQuery query, ReasonerAtomicQuery parent){
+            GraknAdmin admin = parent.tx().admin();
+            if (admin.schemaVersion() != schemaVersion) return Optional.empty();
+            if (types.stream().anyMatch(type -> admin.dataVersion(type) > dataVersion)) return Optional.empty();
+
+            QueryAnswers queryAnswers = new QueryAnswers();
+            for (Map<Var, ConceptId> ids : answers) {
+                Map<Var, Concept> concepts = new HashMap<>();
+                for (Map.Entry<Var, ConceptId> e : ids.entrySet()) {
+                    Concept concept = parent.tx().getConcept(e.getValue());
+                    if (concept == null) return Optional.empty();
+                    concepts.put(e.getKey(), concept);
+                }
+                queryAnswers.add(new QueryAnswer(concepts));
+            }
+            return Optional.of(queryAnswers.unify(query.getMultiUnifier(parent)));
+        }
+    }
+}
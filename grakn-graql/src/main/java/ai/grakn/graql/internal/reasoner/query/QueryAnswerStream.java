@@ -28,13 +28,19 @@ import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
 import ai.grakn.graql.internal.reasoner.iterator.LazyAnswerIterator;
 import ai.grakn.graql.internal.reasoner.iterator.LazyIterator;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import ai.grakn.graql.internal.reasoner.utils.Pair;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
@@ -165,21 +171,62 @@ public class QueryAnswerStream {
      * @return joined stream
      */
     public static Stream<Answer> join(Stream<Answer> stream, Stream<Answer> stream2, ImmutableSet<Var> joinVars) {
-        LazyAnswerIterator l2 = new LazyAnswerIterator(stream2);
-        return stream.flatMap(a1 -> {
-            Stream<Answer> answerStream = l2.stream();
-            answerStream = answerStream.filter(ans -> {
-                for(Var v: joinVars) {
-                    if (!ans.get(v).equals(a1.get(v))) {
-                        return false;
-                    }
-                }
-                return true;
-            });
-            return answerStream.map(a -> a.merge(a1));
+        return join(stream, stream2, joinVars, Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * lazy stream join with quasi- sideways information propagation, streams with common variables are hash joined
+     * with the operand estimated to be smaller used as the build side - the right one if the estimates are not known
+     * @param stream left stream operand
+     * @param stream2 right stream operand
+     * @param joinVars intersection on variables of two streams
+     * @param size estimated number of answers of the left operand, if known
+     * @param size2 estimated number of answers of the right operand, if known
+     * @return joined stream
+     */
+    public static Stream<Answer> join(Stream<Answer> stream, Stream<Answer> stream2, ImmutableSet<Var> joinVars,
+                                      Optional<Long> size, Optional<Long> size2) {
+        if (joinVars.isEmpty()){
+            LazyAnswerIterator l2 = new LazyAnswerIterator(stream2);
+            return stream.flatMap(a1 -> l2.stream().map(a -> a.merge(a1)));
+        }
+        //the right operand is deduplicated in the same way as by the lazy iterator of the nested loop join above
+        Stream<Answer> distinctStream2 = stream2.distinct();
+        boolean buildLeft = size.isPresent() && size2.isPresent() && size.get() < size2.get();
+        return buildLeft?
+                hashJoin(distinctStream2, stream, joinVars, (probe, build) -> probe.merge(build)) :
+                hashJoin(stream, distinctStream2, joinVars, (probe, build) -> build.merge(probe));
+    }
+
+    /**
+     * lazy hash join - the build operand is indexed by the concepts bound to join vars, the index is built on first
+     * access so that the build operand is not consumed if the probe one is empty
+     * @param probe stream operand whose answers are looked up in the index
+     * @param build stream operand the index is built from
+     * @param joinVars non-empty intersection on variables of two streams
+     * @param merge function merging a probe answer with a matching build answer
+     * @return joined stream
+     */
+    private static Stream<Answer> hashJoin(Stream<Answer> probe, Stream<Answer> build, ImmutableSet<Var> joinVars,
+                                           BiFunction<Answer, Answer, Answer> merge) {
+        Supplier<Map<List<Concept>, List<Answer>>> buildSide = Suppliers.memoize(() -> {
+            Map<List<Concept>, List<Answer>> index = new HashMap<>();
+            build.forEach(ans -> index.computeIfAbsent(joinKey(ans, joinVars), k -> new ArrayList<>()).add(ans));
+            return index;
+        });
+        return probe.flatMap(a1 -> {
+            List<Answer> matchAnswers = buildSide.get().get(joinKey(a1, joinVars));
+            if (matchAnswers == null) return Stream.empty();
+            return matchAnswers.stream().map(a -> merge.apply(a1, a));
         });
     }
 
+    private static List<Concept> joinKey(Answer answer, ImmutableSet<Var> joinVars){
+        List<Concept> key = new ArrayList<>(joinVars.size());
+        for(Var v : joinVars) key.add(answer.get(v));
+        return key;
+    }
+
     /**
      * lazy stream join with fast lookup from inverse answer map
      * @param stream left stream operand
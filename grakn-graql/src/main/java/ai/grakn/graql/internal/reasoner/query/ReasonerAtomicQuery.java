@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.reasoner.query;
 
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.SchemaConcept;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
@@ -31,6 +32,7 @@ import ai.grakn.graql.admin.ReasonerQuery;
 import ai.grakn.graql.admin.Unifier;
 import ai.grakn.graql.admin.UnifierComparison;
 import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.graql.internal.reasoner.MultiUnifierImpl;
 import ai.grakn.graql.internal.reasoner.UnifierImpl;
@@ -40,6 +42,7 @@ import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
 import ai.grakn.graql.internal.reasoner.cache.Cache;
 import ai.grakn.graql.internal.reasoner.cache.LazyQueryCache;
 import ai.grakn.graql.internal.reasoner.cache.QueryCache;
+import ai.grakn.graql.internal.reasoner.cache.SessionQueryCache;
 import ai.grakn.graql.internal.reasoner.explanation.RuleExplanation;
 import ai.grakn.graql.internal.reasoner.iterator.ReasonerQueryIterator;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
@@ -61,6 +64,7 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -139,6 +143,16 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
         return atom;
     }
 
+    /**
+     * @return number of instances of the type of the atom of this query, used as an estimate of the number of its
+     * answers, if the type is known and its instances have been counted
+     */
+    Optional<Long> estimatedAnswerCount(){
+        SchemaConcept type = getAtom().getSchemaConcept();
+        if (type == null || !type.isType()) return Optional.empty();
+        return KeyspaceStatistics.of(tx().keyspace()).instanceCount(tx(), Collections.singleton(type.getLabel()));
+    }
+
     @Override
     public Set<Atom> selectAtoms() {
         Set<Atom> selectedAtoms = super.selectAtoms();
@@ -310,9 +324,20 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
 
     @Override
     public Pair<Iterator<ResolutionState>, MultiUnifier> queryStateIterator(QueryStateBase parent, Set<ReasonerAtomicQuery> subGoals, QueryCache<ReasonerAtomicQuery> cache) {
+        //complete answers from the session cache need not be resolved further
+        if (!subGoals.contains(this) && !cache.contains(this)) {
+            SessionQueryCache.of(tx()).getAnswers(this).ifPresent(answers -> {
+                cache.record(this, answers);
+                subGoals.add(this);
+            });
+        }
+
         Pair<Stream<Answer>, MultiUnifier> cacheEntry = cache.getAnswerStreamWithUnifier(this);
         MultiUnifier cacheUnifier = cacheEntry.getValue().inverse();
+        //if the parent rule was applied in the previous iteration, answers known before it were already used
+        boolean incremental = parent.isIncremental();
         Iterator<AnswerState> dbIterator = cacheEntry.getKey()
+                .filter(a -> !incremental || cache.isDelta(this, a, cacheUnifier))
                 .map(a -> a.explain(a.getExplanation().setQuery(this)))
                 .map(ans -> new AnswerState(ans, parent.getUnifier(), parent))
                 .iterator();
@@ -78,6 +78,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import java.util.function.BiFunction;
@@ -502,17 +503,32 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         Iterator<ReasonerAtomicQuery> qit = queries.iterator();
         ReasonerAtomicQuery childAtomicQuery = qit.next();
         Stream<Answer> join = childAtomicQuery.answerStream(subGoals, cache, dCache, false);
+        Optional<Long> joinSize = childAtomicQuery.estimatedAnswerCount();
         Set<Var> joinedVars = childAtomicQuery.getVarNames();
         while(qit.hasNext()){
             childAtomicQuery = qit.next();
             Set<Var> joinVars = Sets.intersection(joinedVars, childAtomicQuery.getVarNames());
             Stream<Answer> localSubs = childAtomicQuery.answerStream(subGoals, cache, dCache, false);
-            join = join(join, localSubs, ImmutableSet.copyOf(joinVars));
+            Optional<Long> localSize = childAtomicQuery.estimatedAnswerCount();
+            join = join(join, localSubs, ImmutableSet.copyOf(joinVars), joinSize, localSize);
+            joinSize = joinedSize(joinSize, localSize, joinVars);
             joinedVars.addAll(childAtomicQuery.getVarNames());
         }
         return join;
     }
 
+    /**
+     * @return estimated number of answers of a join of operands of the given estimated sizes - the smaller of the two
+     * if they share variables and their product otherwise, if both are known
+     */
+    private static Optional<Long> joinedSize(Optional<Long> size, Optional<Long> size2, Set<Var> joinVars){
+        if (!size.isPresent() || !size2.isPresent()) return Optional.empty();
+        long s1 = size.get();
+        long s2 = size2.get();
+        if (!joinVars.isEmpty()) return Optional.of(Math.min(s1, s2));
+        return Optional.of(s2 == 0 || s1 <= Long.MAX_VALUE / s2? s1 * s2 : Long.MAX_VALUE);
+    }
+
     private Stream<Answer> differentialJoin(Set<ReasonerAtomicQuery> subGoals,
                                             Cache<ReasonerAtomicQuery, ?> cache,
                                             Cache<ReasonerAtomicQuery, ?> dCache){
@@ -580,13 +596,16 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         Iterator<Atom> atIt = positive.selectAtoms().iterator();
         ReasonerAtomicQuery atomicQuery = new ReasonerAtomicQuery(atIt.next());
         Stream<Answer> answerStream = atomicQuery.resolveAndMaterialise(cache, dCache);
+        Optional<Long> answerSize = atomicQuery.estimatedAnswerCount();
         Set<Var> joinedVars = atomicQuery.getVarNames();
 
         while (atIt.hasNext()) {
             atomicQuery = new ReasonerAtomicQuery(atIt.next());
             Stream<Answer> subAnswerStream = atomicQuery.resolveAndMaterialise(cache, dCache);
+            Optional<Long> subAnswerSize = atomicQuery.estimatedAnswerCount();
             Set<Var> joinVars = Sets.intersection(joinedVars, atomicQuery.getVarNames());
-            answerStream = join(answerStream, subAnswerStream, ImmutableSet.copyOf(joinVars));
+            answerStream = join(answerStream, subAnswerStream, ImmutableSet.copyOf(joinVars), answerSize, subAnswerSize);
+            answerSize = joinedSize(answerSize, subAnswerSize, joinVars);
             joinedVars.addAll(atomicQuery.getVarNames());
         }
 
@@ -639,10 +658,13 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         Iterator<QueryStateBase> subGoalIterator;
 
         if(!this.isRuleResolvable()) {
-            dbIterator = this.getQuery().stream()
-                    .map(ans -> ans.explain(new JoinExplanation(this, ans)))
-                    .map(ans -> new AnswerState(ans, parent.getUnifier(), parent))
-                    .iterator();
+            //answers read from the graph do not change between incremental iterations
+            dbIterator = parent.isIncremental()?
+                    Collections.emptyIterator() :
+                    this.getQuery().stream()
+                            .map(ans -> ans.explain(new JoinExplanation(this, ans)))
+                            .map(ans -> new AnswerState(ans, parent.getUnifier(), parent))
+                            .iterator();
             subGoalIterator = Collections.emptyIterator();
         } else {
             dbIterator = Collections.emptyIterator();
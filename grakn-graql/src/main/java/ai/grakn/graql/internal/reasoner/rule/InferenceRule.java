@@ -81,7 +81,7 @@ public class InferenceRule {
         this.head = ReasonerQueries.atomic(conjunction(rule.getThen().admin()), tx);
     }
 
-    private InferenceRule(ReasonerAtomicQuery head, ReasonerQueryImpl body, ConceptId ruleId, GraknTx tx){
+    InferenceRule(ReasonerAtomicQuery head, ReasonerQueryImpl body, ConceptId ruleId, GraknTx tx){
         this.tx = tx;
         this.ruleId = ruleId;
         this.head = head;
@@ -126,7 +126,7 @@ public class InferenceRule {
         return priority;
     }
 
-    private Conjunction<VarPatternAdmin> conjunction(PatternAdmin pattern){
+    static Conjunction<VarPatternAdmin> conjunction(PatternAdmin pattern){
         Set<VarPatternAdmin> vars = pattern
                 .getDisjunctiveNormalForm().getPatterns()
                 .stream().flatMap(p -> p.getPatterns().stream()).collect(toSet());
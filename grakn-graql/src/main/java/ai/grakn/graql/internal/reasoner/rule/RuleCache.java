@@ -0,0 +1,222 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.rule;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Rule;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.PatternAdmin;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.kb.admin.GraknAdmin;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ * Session-wide cache of compiled {@link Rule}s.
+ *
+ * Rules are stored as pattern strings which have to be parsed and converted to reasoner queries before they can
+ * take part in resolution. The cache keeps the parsed head and body patterns of every rule, so that the patterns are
+ * parsed once per rule rather than once per atom, and the ids of the rules reachable from a query pattern in the
+ * rule graph.
+ *
+ * Reasoner queries fill in state lazily and are bound to the transaction which created them, so only patterns and
+ * ids are shared. Every transaction builds its own reasoner queries from them.
+ *
+ * All cached rules are discarded when the schema version of the transaction changes. Every entry records the schema
+ * version it was compiled at and is only used at that version, so entries compiled by a transaction which raced with
+ * a schema change are never used. Transactions which mutated the schema bypass the cache, as their changes are not
+ * reflected by the schema version until they are committed.
+ * </p>
+ *
+ * @author agent
+ */
+public class RuleCache {
+
+    private static final int MAX_RULES = 10000;
+    private static final int MAX_DEPENDENCIES = 1000;
+
+    //One rule cache per transaction object, transaction objects are shared by all transactions of a session
+    private static final Cache<GraknAdmin, RuleCache> ruleCaches = CacheBuilder.newBuilder().weakKeys().build();
+
+    private final Cache<ConceptId, Versioned<CompiledRule>> rules = CacheBuilder.newBuilder()
+            .maximumSize(MAX_RULES)
+            .build();
+    private final Cache<Conjunction<PatternAdmin>, Versioned<Set<ConceptId>>> dependentRules = CacheBuilder.newBuilder()
+            .maximumSize(MAX_DEPENDENCIES)
+            .build();
+
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private long schemaVersion;
+
+    private RuleCache(long schemaVersion){
+        this.schemaVersion = schemaVersion;
+    }
+
+    /**
+     * @param tx transaction the rule cache is requested for
+     * @return the rule cache shared by all transactions of the session the transaction belongs to
+     */
+    public static RuleCache of(GraknTx tx){
+        GraknAdmin admin = tx.admin();
+        return ruleCaches.asMap().computeIfAbsent(admin, k -> new RuleCache(admin.schemaVersion()));
+    }
+
+    /**
+     * @return number of rules which were reused from the cache
+     */
+    public long hitCount(){ return hits.get();}
+
+    /**
+     * @return number of rules which had to be compiled
+     */
+    public long missCount(){ return misses.get();}
+
+    /**
+     * @return number of compiled rules currently cached
+     */
+    public long size(){ return rules.size();}
+
+    /**
+     * @param rule rule of interest
+     * @param tx transaction the rule is used in
+     * @return inference rule corresponding to the provided rule, parsed once per schema version
+     */
+    public InferenceRule getRule(Rule rule, GraknTx tx){
+        OptionalLong version = validVersion(tx);
+        if (!version.isPresent()){
+            misses.incrementAndGet();
+            return new InferenceRule(rule, tx);
+        }
+
+        CompiledRule compiled = Versioned.at(rules.getIfPresent(rule.getId()), version.getAsLong());
+        if (compiled != null){
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            compiled = new CompiledRule(rule);
+            rules.put(rule.getId(), new Versioned<>(compiled, version.getAsLong()));
+        }
+        return compiled.instantiate(tx);
+    }
+
+    /**
+     * @param query top query
+     * @return all rules that are reachable from the query in the rule graph
+     */
+    Set<InferenceRule> getDependentRules(ReasonerQueryImpl query){
+        OptionalLong version = validVersion(query.tx());
+        if (!version.isPresent()) return RuleUtils.computeDependentRules(query);
+
+        Conjunction<PatternAdmin> key = query.getPattern();
+        Set<ConceptId> dependencies = Versioned.at(dependentRules.getIfPresent(key), version.getAsLong());
+        if (dependencies == null){
+            Set<InferenceRule> rules = RuleUtils.computeDependentRules(query);
+            dependentRules.put(key, new Versioned<>(
+                    rules.stream().map(InferenceRule::getRuleId).collect(toSet()), version.getAsLong()));
+            return rules;
+        }
+
+        GraknTx tx = query.tx();
+        return dependencies.stream()
+                .map(tx::<Rule>getConcept)
+                .filter(Objects::nonNull)
+                .map(rule -> getRule(rule, tx))
+                .collect(toSet());
+    }
+
+    /**
+     * @param tx transaction the cache is accessed from
+     * @return the schema version of the cached rules which can be used in the transaction, or empty if the cache
+     * cannot be used, cached rules are discarded if the schema version has changed
+     */
+    private synchronized OptionalLong validVersion(GraknTx tx){
+        GraknAdmin admin = tx.admin();
+        if (admin.isSchemaMutated()) return OptionalLong.empty();
+
+        long currentVersion = admin.schemaVersion();
+        if (currentVersion != schemaVersion){
+            rules.invalidateAll();
+            dependentRules.invalidateAll();
+            schemaVersion = currentVersion;
+        }
+        return OptionalLong.of(currentVersion);
+    }
+
+    /**
+     * <p>
+     * Cached value together with the schema version it was computed at.
+     * </p>
+     *
+     * @param <T> type of the cached value
+     */
+    private static class Versioned<T> {
+        private final T value;
+        private final long schemaVersion;
+
+        Versioned(T value, long schemaVersion){
+            this.value = value;
+            this.schemaVersion = schemaVersion;
+        }
+
+        /**
+         * @return the cached value if it was computed at the given schema version, otherwise null
+         */
+        static <T> T at(Versioned<T> versioned, long schemaVersion){
+            return versioned != null && versioned.schemaVersion == schemaVersion ? versioned.value : null;
+        }
+    }
+
+    /**
+     * <p>
+     * Head and body patterns of a single rule parsed from its stored patterns. Patterns are immutable and not bound
+     * to a transaction, so they can be shared by all transactions of the session.
+     * </p>
+     */
+    private static class CompiledRule {
+        private final ConceptId ruleId;
+        private final Conjunction<VarPatternAdmin> body;
+        private final Conjunction<VarPatternAdmin> head;
+
+        CompiledRule(Rule rule){
+            this.ruleId = rule.getId();
+            this.body = InferenceRule.conjunction(rule.getWhen().admin());
+            this.head = InferenceRule.conjunction(rule.getThen().admin());
+        }
+
+        /**
+         * @param tx transaction the rule is used in
+         * @return new inference rule with its own head and body queries built in the given transaction
+         */
+        InferenceRule instantiate(GraknTx tx){
+            return new InferenceRule(ReasonerQueries.atomic(head, tx), ReasonerQueries.create(body, tx), ruleId, tx);
+        }
+    }
+}
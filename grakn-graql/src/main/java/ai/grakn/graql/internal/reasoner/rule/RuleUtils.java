@@ -146,6 +146,14 @@ public class RuleUtils {
      * @return all rules that are reachable from the entry types
      */
     public static Set<InferenceRule> getDependentRules(ReasonerQueryImpl query){
+        return RuleCache.of(query.tx()).getDependentRules(query);
+    }
+
+    /**
+     * @param query top query
+     * @return all rules that are reachable from the entry types, computed by traversing the rule graph
+     */
+    static Set<InferenceRule> computeDependentRules(ReasonerQueryImpl query){
         final Equivalence<Atom> equivalence = new Equivalence<Atom>(){
             @Override
             protected boolean doEquivalent(Atom a1, Atom a2) {return a1.isAlphaEquivalent(a2);}
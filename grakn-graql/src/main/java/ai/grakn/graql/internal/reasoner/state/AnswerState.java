@@ -35,15 +35,21 @@ public class AnswerState extends ResolutionState {
 
     private final InferenceRule rule;
     private final Unifier unifier;
+    private final boolean isDelta;
 
     public AnswerState(Answer sub, Unifier u, QueryStateBase parent) {
         this(sub, u, parent, null);
     }
 
     AnswerState(Answer sub, Unifier u, QueryStateBase parent, InferenceRule rule) {
+        this(sub, u, parent, rule, true);
+    }
+
+    AnswerState(Answer sub, Unifier u, QueryStateBase parent, InferenceRule rule, boolean isDelta) {
         super(sub, parent);
         this.unifier = u;
         this.rule = rule;
+        this.isDelta = isDelta;
     }
 
     @Override
@@ -58,5 +64,10 @@ public class AnswerState extends ResolutionState {
 
     Unifier getUnifier(){ return unifier;}
 
+    /**
+     * @return false if the answer is known to have been found before the previous iteration of resolution
+     */
+    boolean isDelta(){ return isDelta;}
+
     Answer getAnswer(){ return getParentState().consumeAnswer(this);}
 }
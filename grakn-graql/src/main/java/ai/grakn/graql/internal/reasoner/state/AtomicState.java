@@ -61,7 +61,8 @@ public class AtomicState extends QueryState<ReasonerAtomicQuery>{
         if (state.getRule() != null && query.getAtom().requiresRoleExpansion()){
             return new RoleExpansionState(answer, getUnifier(), query.getAtom().getRoleExpansionVariables(), getParentState());
         }
-        return new AnswerState(answer, getUnifier(), getParentState());
+        boolean isDelta = getCache().isDelta(query, answer, getCacheUnifier());
+        return new AnswerState(answer, getUnifier(), getParentState(), null, isDelta);
     }
 
     @Override
@@ -122,6 +123,7 @@ public class AtomicState extends QueryState<ReasonerAtomicQuery>{
         if (headAnswer.isEmpty()
                 && queryAnswer.isEmpty()) {
             Answer materialisedSub = ruleHead.materialise(answer).findFirst().orElse(null);
+            cache.recordMaterialisation();
             if (!queryEquivalentToHead) cache.recordAnswer(ruleHead, materialisedSub);
             answer = materialisedSub
                     .project(queryVars)
@@ -41,6 +41,8 @@ public class CumulativeState extends QueryStateBase{
 
     private final LinkedList<ReasonerQueryImpl> subQueries;
     private final Iterator<QueryState> feederStateIterator;
+    private final boolean incremental;
+    private final boolean hasDelta;
 
     public CumulativeState(LinkedList<ReasonerQueryImpl> qs,
                            Answer sub,
@@ -48,7 +50,20 @@ public class CumulativeState extends QueryStateBase{
                            QueryStateBase parent,
                            Set<ReasonerAtomicQuery> subGoals,
                            QueryCache<ReasonerAtomicQuery> cache) {
+        this(qs, sub, u, parent, subGoals, cache, parent != null && parent.isIncremental(), false);
+    }
+
+    private CumulativeState(LinkedList<ReasonerQueryImpl> qs,
+                            Answer sub,
+                            Unifier u,
+                            QueryStateBase parent,
+                            Set<ReasonerAtomicQuery> subGoals,
+                            QueryCache<ReasonerAtomicQuery> cache,
+                            boolean incremental,
+                            boolean hasDelta) {
         super(sub, u, parent, subGoals, cache);
+        this.incremental = incremental;
+        this.hasDelta = hasDelta;
         this.subQueries = new LinkedList<>(qs);
         this.feederStateIterator = !subQueries.isEmpty()?
                 subQueries.removeFirst().subGoals(sub, u, this, subGoals, cache).iterator() :
@@ -58,10 +73,13 @@ public class CumulativeState extends QueryStateBase{
     @Override
     public ResolutionState propagateAnswer(AnswerState state) {
         Answer answer = getSubstitution().merge(state.getSubstitution(), true);
+        boolean delta = hasDelta || state.isDelta();
         if (subQueries.isEmpty()){
+            //derivations not involving any answer from the delta were already made in the previous iteration
+            if (incremental && !delta) return null;
             return new AnswerState(answer, getUnifier(), getParentState());
         }
-        return new CumulativeState(subQueries, answer, getUnifier(), getParentState(), getVisitedSubGoals(), getCache());
+        return new CumulativeState(subQueries, answer, getUnifier(), getParentState(), getVisitedSubGoals(), getCache(), incremental, delta);
     }
 
     @Override
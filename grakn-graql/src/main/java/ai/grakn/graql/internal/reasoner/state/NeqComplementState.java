@@ -80,7 +80,7 @@ public class NeqComplementState extends AtomicState {
                 .filter(p -> !p.isSatisfied(fullAnswer))
                 .findFirst().isPresent();
         return isNeqSatisfied?
-                new AnswerState(state.getSubstitution(), getUnifier(), getParentState()) :
+                new AnswerState(state.getSubstitution(), getUnifier(), getParentState(), null, state.isDelta()) :
                 null;
     }
 
@@ -61,6 +61,11 @@ public abstract class QueryStateBase extends ResolutionState {
      */
     public Unifier getUnifier(){ return unifier;}
 
+    /**
+     * @return true if only derivations involving answers from the delta of the cache need to be considered in this state
+     */
+    public boolean isIncremental(){ return false;}
+
     /**
      * propagates the answer state up the tree and acknowledges (caches) its substitution
      * @param state to propagate
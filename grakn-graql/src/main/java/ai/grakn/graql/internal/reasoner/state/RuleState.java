@@ -45,6 +45,12 @@ public class RuleState extends ConjunctiveState{
 
     public InferenceRule getRule(){ return rule;}
 
+    @Override
+    public boolean isIncremental(){
+        QueryStateBase parent = getParentState();
+        return parent instanceof AtomicState && getCache().isIncremental(((AtomicState) parent).getQuery());
+    }
+
     @Override
     ResolutionState propagateAnswer(AnswerState state){
         Answer answer = state.getAnswer();
@@ -0,0 +1,106 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.template;
+
+import ai.grakn.graql.internal.antlr.GraqlTemplateParser;
+import ai.grakn.graql.macro.Macro;
+import ai.grakn.util.StringUtil;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A Graql template which has been lexed and parsed once, so it can be resolved against many sets of data.
+ *
+ * @author agent
+ */
+public class CompiledTemplate {
+
+    private final CommonTokenStream tokens;
+    private final ParseTree tree;
+    private final Map<String, Macro<?>> macros;
+
+    CompiledTemplate(CommonTokenStream tokens, ParseTree tree, Map<String, Macro<?>> macros){
+        this.tokens = tokens;
+        this.tree = tree;
+        this.macros = macros;
+    }
+
+    /**
+     * Resolve the template.
+     * @param data data to use in template
+     * @return resolved graql query string
+     */
+    public String render(Map<String, Object> data){
+        TemplateVisitor visitor = new TemplateVisitor(tokens, data, macros);
+        return visitor.visit(tree).toString();
+    }
+
+    /**
+     * @return true if the template contains no statements or resolved variables, so the structure of the resolved
+     * query does not depend on the data
+     */
+    boolean isStatic(){
+        return isStatic(tree);
+    }
+
+    /**
+     * Resolve the template without data, replacing every value with a quoted placeholder.
+     * @param values filled with the expressions of the values, in the order of their placeholders
+     * @param placeholder the placeholder of the value at the given index
+     * @return resolved graql query string
+     */
+    String renderPlaceholders(List<GraqlTemplateParser.UntypedExpressionContext> values, IntFunction<String> placeholder){
+        TemplateVisitor visitor = new TemplateVisitor(tokens, Collections.emptyMap(), macros){
+            @Override
+            public String visitEscapedExpression(GraqlTemplateParser.EscapedExpressionContext ctx) {
+                values.add(ctx.untypedExpression());
+                return StringUtil.quoteString(placeholder.apply(values.size() - 1));
+            }
+        };
+        return visitor.visit(tree).toString();
+    }
+
+    /**
+     * Evaluate value expressions found by {@link #renderPlaceholders(List, IntFunction)} against the given data.
+     * @return the value of every expression, which may be null when it is missing from the data
+     */
+    List<Object> evaluate(List<GraqlTemplateParser.UntypedExpressionContext> values, Map<String, Object> data){
+        TemplateVisitor visitor = new TemplateVisitor(tokens, data, macros);
+        return values.stream().map(value -> (Object) visitor.visit(value)).collect(toList());
+    }
+
+    private static boolean isStatic(ParseTree tree){
+        if(tree instanceof GraqlTemplateParser.StatementContext || tree instanceof GraqlTemplateParser.VarResolvedContext){
+            return false;
+        }
+
+        for(int i = 0; i < tree.getChildCount(); i++){
+            if(!isStatic(tree.getChild(i))) return false;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.template;
+
+import ai.grakn.exception.GraqlSyntaxException;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.Match;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.QueryParser;
+import ai.grakn.graql.admin.InsertQueryAdmin;
+import ai.grakn.graql.admin.PatternAdmin;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.admin.VarProperty;
+import ai.grakn.graql.internal.antlr.GraqlTemplateParser;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.pattern.property.HasAttributeProperty;
+import ai.grakn.graql.internal.pattern.property.ValueProperty;
+import ai.grakn.util.StringUtil;
+import com.google.common.collect.ImmutableSet;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ *     A {@link CompiledTemplate} which resolves data straight into {@link Query}s.
+ * </p>
+ *
+ * <p>
+ *     When the structure of a template does not depend on the data and it produces only {@link InsertQuery}s, it is
+ *     resolved once with a placeholder for every value and parsed into queries. Resolving data then only evaluates
+ *     the values and binds them into copies of those queries, without rendering or parsing any Graql.
+ *
+ *     Values can only be bound where they are compared for equality, such as in {@code has name <name>}. Templates
+ *     using values anywhere else, and data with values that have no literal Graql representation, such as dates or
+ *     unescaped macro results, are rendered and parsed the same way as {@link QueryParser#parseTemplate(String, Map)}.
+ * </p>
+ *
+ * @author agent
+ */
+public class QueryTemplate implements Function<Map<String, Object>, Stream<Query<?>>> {
+
+    private final CompiledTemplate template;
+    private final QueryParser parser;
+    private final QueryBuilder queryBuilder;
+
+    private final String placeholderPrefix = "template-value-" + UUID.randomUUID() + "-";
+    private final Map<Object, Integer> placeholders = new HashMap<>();
+    private final List<GraqlTemplateParser.UntypedExpressionContext> values = new ArrayList<>();
+    private final @Nullable List<InsertQueryAdmin> queries;
+
+    private QueryTemplate(CompiledTemplate template, QueryParser parser, QueryBuilder queryBuilder) {
+        this.template = template;
+        this.parser = parser;
+        this.queryBuilder = queryBuilder;
+        this.queries = compileQueries();
+    }
+
+    /**
+     * @param template the parsed template
+     * @param parser the parser used to parse the resolved template
+     * @param queryBuilder the query builder the parser creates queries with
+     * @return a function resolving data into queries with the given template
+     */
+    public static QueryTemplate of(CompiledTemplate template, QueryParser parser, QueryBuilder queryBuilder) {
+        return new QueryTemplate(template, parser, queryBuilder);
+    }
+
+    /**
+     * @return true if values are bound straight into queries, rather than resolving the template into a string
+     */
+    public boolean bindsValues() {
+        return queries != null;
+    }
+
+    @Override
+    public Stream<Query<?>> apply(Map<String, Object> data) {
+        Optional<Object[]> bound = bindsValues() ? graqlValues(template.evaluate(values, data)) : Optional.empty();
+
+        if (bound.isPresent()) {
+            Object[] boundValues = bound.get();
+            List<Query<?>> result = queries.stream().map(query -> bind(query, boundValues, new HashSet<>())).collect(toList());
+            return result.stream();
+        } else {
+            return parser.parseList(template.render(data));
+        }
+    }
+
+    @Nullable
+    private List<InsertQueryAdmin> compileQueries() {
+        if (!template.isStatic()) return null;
+
+        List<Query<?>> parsed;
+        try {
+            String resolved = template.renderPlaceholders(values, this::placeholder);
+            parsed = parser.<Query<?>>parseList(resolved).collect(toList());
+        } catch (GraqlSyntaxException e) {
+            // A value is used somewhere Graql does not accept a string, so it can only be resolved as text
+            return null;
+        }
+
+        if (!parsed.stream().allMatch(InsertQuery.class::isInstance)) return null;
+
+        List<InsertQueryAdmin> inserts = parsed.stream().map(query -> ((InsertQuery) query).admin()).collect(toList());
+
+        // Binding the placeholders themselves must find every one of them and give back the very same queries
+        Object[] placeholderValues = IntStream.range(0, values.size()).mapToObj(this::placeholder).toArray();
+        IntStream.range(0, placeholderValues.length).forEach(i -> placeholders.put(placeholderValues[i], i));
+        Set<Integer> found = new HashSet<>();
+        List<InsertQuery> rebound = inserts.stream().map(query -> bind(query, placeholderValues, found)).collect(toList());
+
+        if (found.size() != values.size() || !rebound.equals(parsed) || !rebound.toString().equals(parsed.toString())) {
+            return null;
+        }
+
+        return inserts;
+    }
+
+    private String placeholder(int index) {
+        return placeholderPrefix + index;
+    }
+
+    /**
+     * Converts values to what Graql would parse them as, or nothing if any value cannot be written as a literal
+     */
+    private static Optional<Object[]> graqlValues(List<Object> values) {
+        Object[] converted = new Object[values.size()];
+
+        for (int i = 0; i < converted.length; i++) {
+            Object value = values.get(i);
+            if (value instanceof String || value instanceof Long || value instanceof Boolean) {
+                converted[i] = value;
+            } else if (value instanceof Integer) {
+                converted[i] = ((Integer) value).longValue();
+            } else if (value instanceof Double && Double.isFinite((Double) value)) {
+                // Doubles are printed with limited precision, which we must reproduce
+                converted[i] = Double.valueOf(StringUtil.valueToString(value));
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(converted);
+    }
+
+    private InsertQuery bind(InsertQueryAdmin query, Object[] boundValues, Set<Integer> found) {
+        List<VarPatternAdmin> vars = query.varPatterns().stream()
+                .map(var -> bind(var, boundValues, found)).collect(toList());
+
+        Optional<? extends Match> match = query.match();
+
+        if (match.isPresent()) {
+            Set<PatternAdmin> patterns = bindAll(match.get().admin().getPattern().getPatterns(), boundValues, found);
+            return queryBuilder.match(patterns).insert(vars);
+        } else {
+            return queryBuilder.insert(vars);
+        }
+    }
+
+    private PatternAdmin bind(PatternAdmin pattern, Object[] boundValues, Set<Integer> found) {
+        if (pattern.isVarPattern()) {
+            return bind(pattern.asVarPattern(), boundValues, found);
+        } else if (pattern.isConjunction()) {
+            return Patterns.conjunction(bindAll(pattern.asConjunction().getPatterns(), boundValues, found));
+        } else {
+            return Patterns.disjunction(bindAll(pattern.asDisjunction().getPatterns(), boundValues, found));
+        }
+    }
+
+    private Set<PatternAdmin> bindAll(Set<? extends PatternAdmin> patterns, Object[] boundValues, Set<Integer> found) {
+        return patterns.stream().map(pattern -> bind(pattern, boundValues, found)).collect(toSet());
+    }
+
+    private VarPatternAdmin bind(VarPatternAdmin var, Object[] boundValues, Set<Integer> found) {
+        ImmutableSet.Builder<VarProperty> properties = ImmutableSet.builder();
+        var.getProperties().forEach(property -> properties.add(bind(property, boundValues, found)));
+        return Patterns.varPattern(var.var(), properties.build());
+    }
+
+    private VarProperty bind(VarProperty property, Object[] boundValues, Set<Integer> found) {
+        if (property instanceof ValueProperty) {
+            Optional<Object> value = ((ValueProperty) property).predicate().equalsValue();
+            Integer index = value.map(placeholders::get).orElse(null);
+            if (index == null) return property;
+
+            found.add(index);
+            return ValueProperty.of(Graql.eq(boundValues[index]));
+        } else if (property instanceof HasAttributeProperty) {
+            HasAttributeProperty has = (HasAttributeProperty) property;
+            return HasAttributeProperty.of(
+                    has.type(), bind(has.attribute(), boundValues, found), bind(has.relationship(), boundValues, found)
+            );
+        } else {
+            return property;
+        }
+    }
+}
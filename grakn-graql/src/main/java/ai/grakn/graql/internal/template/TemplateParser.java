@@ -35,6 +35,7 @@ import ai.grakn.graql.internal.template.macro.SplitMacro;
 import ai.grakn.graql.internal.template.macro.StringMacro;
 import ai.grakn.graql.internal.template.macro.UpperMacro;
 import ai.grakn.graql.macro.Macro;
+import com.google.common.collect.ImmutableMap;
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -81,16 +82,23 @@ public class TemplateParser {
      * @return resolved graql query string
      */
     public String parseTemplate(String templateString, Map<String, Object> data){
+        return compile(templateString).render(data);
+    }
+
+    /**
+     * Parse a graql template once, so it can be resolved against many sets of data.
+     * @param templateString a string representing a graql template
+     * @return the parsed template, using the macros registered at this point
+     */
+    public CompiledTemplate compile(String templateString){
         GraqlErrorListener errorListener = GraqlErrorListener.of(templateString);
 
         CommonTokenStream tokens = lexGraqlTemplate(templateString, errorListener);
         ParseTree tree = parseGraqlTemplate(tokens, errorListener);
 
-        TemplateVisitor visitor = new TemplateVisitor(tokens, data, macros);
-        return visitor.visit(tree).toString();
+        return new CompiledTemplate(tokens, tree, ImmutableMap.copyOf(macros));
     }
 
-
     private CommonTokenStream lexGraqlTemplate(String templateString, GraqlErrorListener errorListener){
         ANTLRInputStream inputStream = new ANTLRInputStream(templateString);
         GraqlTemplateLexer lexer = new GraqlTemplateLexer(inputStream);
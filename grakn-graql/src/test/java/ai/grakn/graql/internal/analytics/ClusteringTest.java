@@ -165,6 +165,10 @@ public class ClusteringTest {
             memberMap = Graql.compute().withTx(graph).cluster().in().members().execute();
             assertEquals(1, memberMap.size());
             assertEquals(7, memberMap.values().iterator().next().size());
+
+            // the cluster is labelled with the concept id of one of its members
+            Map.Entry<String, Set<String>> cluster = memberMap.entrySet().iterator().next();
+            assertTrue(cluster.getValue().contains(cluster.getKey()));
         }
 
         // add different resources. This may change existing cluster labels.
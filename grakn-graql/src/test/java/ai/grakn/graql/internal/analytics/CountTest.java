@@ -23,12 +23,14 @@ import ai.grakn.GraknTx;
 import ai.grakn.GraknTxType;
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.graql.Graql;
+import ai.grakn.graql.internal.gremlin.KeyspaceStatistics;
 import ai.grakn.test.rule.SessionContext;
 import ai.grakn.util.GraknTestUtil;
 import ai.grakn.util.Schema;
@@ -95,6 +97,36 @@ public class CountTest {
         }
     }
 
+    @Test
+    public void testCountFromInstanceCounts() throws Exception {
+        String nameThing = "thingy";
+        ConceptId thingyId;
+
+        try (GraknTx graph = session.open(GraknTxType.WRITE)) {
+            EntityType thingy = graph.putEntityType(nameThing);
+            thingy.addEntity();
+            thingy.addEntity();
+            thingyId = thingy.getId();
+            graph.commit();
+        }
+
+        // engine keeps a count which differs from the graph, to tell which of them the answer comes from
+        KeyspaceStatistics.setInstanceCountSource((keyspace, typeIds) ->
+                typeIds.stream().collect(Collectors.toMap(id -> id, id -> id.equals(thingyId) ? 5L : 0L)));
+
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            assertEquals(5L, graph.graql().compute().count().in(nameThing).execute().longValue());
+            assertEquals(2L, graph.graql().compute().count().in(nameThing).exact().execute().longValue());
+            assertEquals(2L, graph.graql().compute().count().in(nameThing).includeAttribute().execute().longValue());
+        } finally {
+            KeyspaceStatistics.setInstanceCountSource(null);
+        }
+
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            assertEquals(2L, graph.graql().compute().count().in(nameThing).execute().longValue());
+        }
+    }
+
     @Test
     public void testConcurrentCount() throws Exception {
         assumeFalse(GraknTestUtil.usingTinker());
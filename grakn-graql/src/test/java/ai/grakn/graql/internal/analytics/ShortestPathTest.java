@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.analytics;
 
+import ai.grakn.GraknConfigKey;
 import ai.grakn.GraknSession;
 import ai.grakn.GraknTx;
 import ai.grakn.GraknTxType;
@@ -28,6 +29,7 @@ import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.exception.GraqlQueryException;
@@ -37,6 +39,7 @@ import ai.grakn.test.rule.SessionContext;
 import ai.grakn.util.GraknTestUtil;
 import ai.grakn.util.Schema;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
@@ -159,6 +162,47 @@ public class ShortestPathTest {
         }
     }
 
+    @Test
+    public void testShortestPathWithinTransaction() throws Exception {
+        addSchemaAndEntities();
+
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            Set<LabelId> labelIds = Sets.newHashSet(
+                    graph.getSchemaConcept(Label.of(thing)).getLabelId(),
+                    graph.getSchemaConcept(Label.of(related)).getLabelId());
+
+            // the search gives up before reaching the destination
+            assertFalse(BidirectionalShortestPath.find(graph, entityId2, entityId3, labelIds, 1).isPresent());
+
+            List<String> correctPath = Lists.newArrayList(entityId2.getValue(), relationId12.getValue(),
+                    entityId1.getValue(), relationId13.getValue(), entityId3.getValue());
+            List<String> computedPath = BidirectionalShortestPath.find(graph, entityId2, entityId3, labelIds, 100)
+                    .get().stream().map(ConceptId::getValue).collect(Collectors.toList());
+            assertEquals(correctPath, computedPath);
+
+            // not connected
+            assertTrue(BidirectionalShortestPath.find(graph, entityId1, entityId5, labelIds, 100).get().isEmpty());
+        }
+    }
+
+    @Test
+    public void testShortestPathWithGraphComputer() throws Exception {
+        addSchemaAndEntities();
+
+        // the search within the transaction gives up straight away, so the graph computer finds the paths
+        session.config().setConfigProperty(GraknConfigKey.KB_ANALYTICS_PATH_MAX_LOCAL_VISITS, 0);
+
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            List<String> correctPath = Lists.newArrayList(entityId2.getValue(), relationId12.getValue(),
+                    entityId1.getValue(), relationId13.getValue(), entityId3.getValue());
+            List<String> computedPath = graph.graql().compute().path().from(entityId2).to(entityId3).in(thing, related)
+                    .execute().get().stream().map(Concept::getId).map(ConceptId::getValue).collect(Collectors.toList());
+            checkPath(correctPath, computedPath);
+
+            assertFalse(graph.graql().compute().path().from(entityId1).to(entityId5).execute().isPresent());
+        }
+    }
+
     @Test
     public void testShortestPathConcurrency() {
         List<String> correctPath;
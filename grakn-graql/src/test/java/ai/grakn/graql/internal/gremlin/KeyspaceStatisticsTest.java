@@ -0,0 +1,146 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.concept.Role;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.Pattern;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import ai.grakn.test.rule.SampleKBContext;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Supplier;
+
+import static ai.grakn.graql.Graql.and;
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class KeyspaceStatisticsTest {
+
+    private static final Var x = var("x");
+    private static final Var y = var("y");
+
+    private static final String thingy = "thingy";
+    private static final String thingy0 = "thingy0";
+    private static final String thingy1 = "thingy1";
+    private static final String thingy2 = "thingy2";
+    private static final String related = "related";
+    private static final String name = "name";
+
+    private GraknTx tx;
+    private KeyspaceStatistics statistics;
+
+    @ClassRule
+    public static final SampleKBContext context = SampleKBContext.load(graph -> {
+        EntityType entityType1 = graph.putEntityType(thingy1);
+        EntityType entityType2 = graph.putEntityType(thingy2);
+        graph.putEntityType(thingy).sub(graph.putEntityType(thingy0));
+        AttributeType<String> attributeType = graph.putAttributeType(name, AttributeType.DataType.STRING);
+
+        Role role1 = graph.putRole("role1");
+        Role role2 = graph.putRole("role2");
+        entityType1.plays(role1).attribute(attributeType);
+        entityType2.plays(role2);
+        RelationshipType relationshipType = graph.putRelationshipType(related).relates(role1).relates(role2);
+
+        for (int i = 0; i < 10; i++) {
+            relationshipType.addRelationship()
+                    .addRolePlayer(role1, entityType1.addEntity().attribute(attributeType.putAttribute("a" + i % 2)))
+                    .addRolePlayer(role2, entityType2.addEntity());
+        }
+    });
+
+    @Before
+    public void setUp() {
+        tx = context.tx();
+        statistics = KeyspaceStatistics.of(tx.keyspace());
+    }
+
+    @Test
+    public void whenInstanceCountsAreKnown_PlanStartsFromTypeWithFewestInstances() {
+        Pattern pattern = and(x.isa(thingy1), y.isa(thingy2), var().rel(x).rel(y));
+
+        statistics.putInstanceCount(tx.getEntityType(thingy1).getId(), 10L);
+        statistics.putInstanceCount(tx.getEntityType(thingy2).getId(), 1000L);
+        assertEquals(x, getPlan(pattern).get(2).end());
+
+        statistics.putInstanceCount(tx.getEntityType(thingy1).getId(), 1000L);
+        statistics.putInstanceCount(tx.getEntityType(thingy2).getId(), 10L);
+        assertEquals(y, getPlan(pattern).get(2).end());
+    }
+
+    @Test
+    public void whenInstanceCountOfSubTypeIsUnknown_InstanceCountIsUnknown() {
+        statistics.putInstanceCount(tx.getEntityType(thingy).getId(), 10L);
+        assertFalse(statistics.instanceCount(tx, ImmutableSet.of(Label.of(thingy))).isPresent());
+
+        statistics.putInstanceCount(tx.getEntityType(thingy0).getId(), 5L);
+        assertEquals(Optional.of(15L), statistics.instanceCount(tx, ImmutableSet.of(Label.of(thingy))));
+    }
+
+    @Test
+    public void rolePlayersPerRelationshipAreSampled() throws InterruptedException {
+        ImmutableSet<Label> labels = ImmutableSet.of(Label.of(related));
+
+        OptionalDouble rolePlayers = awaitSample(() -> statistics.rolePlayersPerRelationship(tx, labels));
+        assertTrue(rolePlayers.isPresent());
+        assertEquals(2D, rolePlayers.getAsDouble(), 0.001);
+    }
+
+    @Test
+    public void valueSelectivityIsEstimatedFromSample() throws InterruptedException {
+        ImmutableSet<Label> labels = ImmutableSet.of(Label.of(name));
+
+        OptionalDouble equal = awaitSample(() -> statistics.selectivity(tx, labels, Graql.eq("a0")));
+        OptionalDouble filter = statistics.selectivity(tx, labels, Graql.contains("z"));
+
+        assertTrue(equal.isPresent());
+        assertEquals(0.5D, equal.getAsDouble(), 0.001);
+        assertTrue(filter.isPresent());
+        assertTrue(filter.getAsDouble() < 0.5D);
+    }
+
+    // samples are taken in the background, so wait until the estimate is available
+    private static OptionalDouble awaitSample(Supplier<OptionalDouble> estimate) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            OptionalDouble value = estimate.get();
+            if (value.isPresent()) return value;
+            Thread.sleep(100);
+        }
+        return estimate.get();
+    }
+
+    private ImmutableList<Fragment> getPlan(Pattern pattern) {
+        return GreedyTraversalPlan.createTraversal(pattern.admin(), tx).fragments().iterator().next();
+    }
+}
@@ -41,6 +41,7 @@ import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.PatternAdmin;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.analytics.ClusterQuery;
+import ai.grakn.graql.analytics.CountQuery;
 import ai.grakn.graql.internal.pattern.property.DataTypeProperty;
 import ai.grakn.graql.internal.pattern.property.IsaProperty;
 import ai.grakn.graql.internal.query.aggregate.AbstractAggregate;
@@ -592,6 +593,14 @@ public class QueryParserTest {
         assertParseEquivalence("compute count in movie, person;");
     }
 
+    @Test
+    public void testParseComputeCountExact() {
+        CountQuery expected = Graql.compute().count().in("movie").exact();
+        CountQuery parsed = Graql.parse("compute count in movie; exact;");
+
+        assertEquals(expected, parsed);
+    }
+
     @Test
     public void testParseComputeCluster() {
         assertParseEquivalence("compute cluster in movie, person; members;");
@@ -0,0 +1,83 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.printer;
+
+import ai.grakn.graql.Printer;
+import ai.grakn.test.kbs.MovieKB;
+import ai.grakn.test.rule.SampleKBContext;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import mjson.Json;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BinaryPrinterTest {
+
+    private final Printer<?> binary = Printers.binary();
+    private final Printer<?> json = Printers.json();
+
+    @ClassRule
+    public static final SampleKBContext movieContext = MovieKB.context();
+
+    @Test
+    public void whenDecodingAnswers_ResultIsTheSameAsJson() {
+        assertDecodesToJson(movieContext.tx().graql().parse("match $x isa movie; (actor: $y, $x); get;").execute());
+    }
+
+    @Test
+    public void whenDecodingResultsOfSeveralQueries_ResultIsTheSameAsJson() {
+        assertDecodesToJson(ImmutableList.of(
+                movieContext.tx().graql().parse("match $x isa movie; get;").execute(),
+                movieContext.tx().graql().parse("match $x isa movie; aggregate count;").execute(),
+                movieContext.tx().graql().parse("match $x isa runtime; get;").execute()
+        ));
+    }
+
+    @Test
+    public void whenDecodingSchemaConceptsAndAttributes_ResultIsTheSameAsJson() {
+        assertDecodesToJson(movieContext.tx().getRule("expectation-rule"));
+        assertDecodesToJson(movieContext.tx().getEntityType("movie"));
+        assertDecodesToJson(movieContext.tx().getAttributeType("title").getAttribute("The Muppets"));
+        assertDecodesToJson(movieContext.tx().graql().parse("match $x isa tmdb-vote-average; get;").execute());
+    }
+
+    @Test
+    public void whenDecodingOtherValues_ResultIsTheSameAsJson() {
+        assertDecodesToJson(null);
+        assertDecodesToJson(true);
+        assertDecodesToJson(ImmutableList.of(Optional.empty(), Optional.of(1L)));
+        assertDecodesToJson(ImmutableMap.of(1, 2));
+    }
+
+    @Test
+    public void whenEncodingAnswers_EachConceptIsOnlyWrittenOnce() {
+        Object answers = movieContext.tx().graql().parse("match $x isa movie; $y isa movie; get;").execute();
+
+        assertTrue(binary.graqlBytes(answers).length < json.graqlBytes(answers).length / 4);
+    }
+
+    private void assertDecodesToJson(Object object) {
+        assertEquals(Json.read(json.graqlString(object)), BinaryAnswers.decode(binary.graqlBytes(object)));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+
+package ai.grakn.graql.internal.query.match;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.test.kbs.MovieKB;
+import ai.grakn.test.rule.SampleKBContext;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static ai.grakn.graql.Graql.var;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QueryPlanCacheTest {
+
+    private static final Var x = var("x");
+    private static final Var y = var("y");
+    private static final Var r = var("r");
+
+    @ClassRule
+    public static final SampleKBContext movieKB = MovieKB.context();
+
+    @Test
+    public void whenExecutingQueriesDifferingOnlyInIds_PlanIsReusedAndIdsAreRebound() {
+        GraknTx tx = movieKB.tx();
+        QueryBuilder qb = tx.graql().infer(false);
+        List<Concept> movies = qb.match(x.isa("movie")).get(x).limit(2).collect(toList());
+        Concept movie1 = movies.get(0);
+        Concept movie2 = movies.get(1);
+
+        QueryPlanCache cache = QueryPlanCache.of(tx);
+        long hits = cache.hitCount();
+
+        List<Answer> answers1 = qb.match(x.isa("movie").id(movie1.getId())).stream().collect(toList());
+        List<Answer> answers2 = qb.match(x.isa("movie").id(movie2.getId())).stream().collect(toList());
+
+        assertEquals(1, answers1.size());
+        assertEquals(movie1, answers1.get(0).get(x));
+        assertEquals(1, answers2.size());
+        assertEquals(movie2, answers2.get(0).get(x));
+        assertEquals(hits + 1, cache.hitCount());
+    }
+
+    @Test
+    public void whenExecutingTheSameNonAtomicQueryTwice_PlanIsReused() {
+        GraknTx tx = movieKB.tx();
+        QueryBuilder qb = tx.graql().infer(false);
+
+        QueryPlanCache cache = QueryPlanCache.of(tx);
+        List<Answer> answers1 = qb.match(x.isa("movie"), r.rel(x).rel(y), y.isa("person")).stream().collect(toList());
+        long hits = cache.hitCount();
+        List<Answer> answers2 = qb.match(x.isa("movie"), r.rel(x).rel(y), y.isa("person")).stream().collect(toList());
+
+        assertTrue(cache.size() > 0);
+        assertEquals(hits + 1, cache.hitCount());
+        assertEquals(answers1.size(), answers2.size());
+        assertTrue(answers1.containsAll(answers2));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.reasoner.query.QueryAnswerStream;
+import ai.grakn.test.kbs.GeoKB;
+import ai.grakn.test.rule.SampleKBContext;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static ai.grakn.graql.Graql.var;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+public class QueryAnswerStreamTest {
+
+    private static final Var x = var("x");
+    private static final Var y = var("y");
+    private static final Var z = var("z");
+
+    @ClassRule
+    public static final SampleKBContext geoKB = GeoKB.context();
+
+    private List<Concept> concepts;
+
+    @Before
+    public void setUp(){
+        GraknTx tx = geoKB.tx();
+        concepts = tx.admin().getMetaEntityType().instances().limit(7).collect(toList());
+    }
+
+    @Test
+    public void whenJoiningOnCommonVars_AnswersAreTheSameWhicheverSideTheIndexIsBuiltFrom(){
+        Set<Answer> expected = Sets.newHashSet(
+                answer(x, 0, y, 1, z, 4),
+                answer(x, 2, y, 3, z, 5)
+        );
+
+        assertEquals(expected, join(Optional.empty(), Optional.empty()));
+        assertEquals(expected, join(Optional.of(1L), Optional.of(100L)));
+        assertEquals(expected, join(Optional.of(100L), Optional.of(1L)));
+    }
+
+    @Test
+    public void whenJoiningOnCommonVars_DuplicateAnswersOfRightOperandAreJoinedOnce(){
+        assertEquals(2, joinedAnswers(Optional.empty(), Optional.empty()).size());
+        assertEquals(2, joinedAnswers(Optional.of(1L), Optional.of(100L)).size());
+        assertEquals(2, joinedAnswers(Optional.of(100L), Optional.of(1L)).size());
+    }
+
+    @Test
+    public void whenJoiningWithEmptyLeftOperand_AnswersAreEmpty(){
+        List<Answer> answers = QueryAnswerStream.join(
+                Stream.empty(), rightAnswers(), ImmutableSet.of(y), Optional.of(1L), Optional.of(100L)
+        ).collect(toList());
+        assertEquals(0, answers.size());
+    }
+
+    private Set<Answer> join(Optional<Long> leftSize, Optional<Long> rightSize){
+        return Sets.newHashSet(joinedAnswers(leftSize, rightSize));
+    }
+
+    private List<Answer> joinedAnswers(Optional<Long> leftSize, Optional<Long> rightSize){
+        return QueryAnswerStream.join(leftAnswers(), rightAnswers(), ImmutableSet.of(y), leftSize, rightSize)
+                .collect(toList());
+    }
+
+    private Stream<Answer> leftAnswers(){
+        return Stream.of(
+                answer(x, 0, y, 1),
+                answer(x, 2, y, 3)
+        );
+    }
+
+    private Stream<Answer> rightAnswers(){
+        return Stream.of(
+                answer(y, 1, z, 4),
+                answer(y, 1, z, 4),
+                answer(y, 3, z, 5),
+                answer(y, 6, z, 0)
+        );
+    }
+
+    private Answer answer(Var v1, int c1, Var v2, int c2){
+        return new QueryAnswer(ImmutableMap.of(v1, concepts.get(c1), v2, concepts.get(c2)));
+    }
+
+    private Answer answer(Var v1, int c1, Var v2, int c2, Var v3, int c3){
+        return new QueryAnswer(ImmutableMap.of(v1, concepts.get(c1), v2, concepts.get(c2), v3, concepts.get(c3)));
+    }
+}
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.reasoner;
 
+import ai.grakn.GraknConfigKey;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Rule;
 import ai.grakn.graql.GetQuery;
@@ -28,9 +29,11 @@ import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.reasoner.cache.SessionQueryCache;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
+import ai.grakn.graql.internal.reasoner.rule.RuleCache;
 import ai.grakn.test.rule.SampleKBContext;
 import ai.grakn.test.kbs.GeoKB;
 import ai.grakn.test.kbs.SNBKB;
@@ -79,6 +82,12 @@ public class ReasonerTest {
     @ClassRule
     public static final SampleKBContext geoKB3 = GeoKB.context();
 
+    @ClassRule
+    public static final SampleKBContext ruleCacheGeoKB = GeoKB.context();
+
+    @ClassRule
+    public static final SampleKBContext answerCacheGeoKB = GeoKB.context();
+
     @org.junit.Rule
     public final ExpectedException exception = ExpectedException.none();
 
@@ -665,6 +674,56 @@ public class ReasonerTest {
         assertQueriesEqual(query, query2);
     }
 
+    @Test
+    public void whenResolvingTheSameQueryTwice_CompiledRulesAreReused(){
+        GraknTx graph = ruleCacheGeoKB.tx();
+        QueryBuilder iqb = graph.graql().infer(true).materialise(false);
+        String queryString = "match (geo-entity: $x, entity-location: $y) isa is-located-in; get;";
+
+        RuleCache cache = RuleCache.of(graph);
+        List<Answer> answers = iqb.<GetQuery>parse(queryString).execute();
+        long misses = cache.missCount();
+        long hits = cache.hitCount();
+        List<Answer> answers2 = iqb.<GetQuery>parse(queryString).execute();
+
+        assertCollectionsEqual(answers, answers2);
+        assertEquals(misses, cache.missCount());
+        assertTrue(cache.hitCount() > hits);
+    }
+
+    @Test
+    public void whenResolvingTheSameQueryTwice_AnswersAreReusedUntilDataChanges(){
+        GraknTx graph = answerCacheGeoKB.tx();
+        graph.session().config().setConfigProperty(GraknConfigKey.REASONER_ANSWER_CACHE_SIZE, 10000L);
+        String queryString = "match (geo-entity: $x, entity-location: $y) isa is-located-in; get;";
+
+        SessionQueryCache cache = SessionQueryCache.of(graph);
+        List<Answer> answers = graph.graql().infer(true).materialise(false).<GetQuery>parse(queryString).execute();
+        long hits = cache.hitCount();
+        List<Answer> answers2 = graph.graql().infer(true).materialise(false).<GetQuery>parse(queryString).execute();
+
+        assertCollectionsEqual(answers, answers2);
+        assertTrue(cache.hitCount() > hits);
+
+        graph.close();
+        graph = answerCacheGeoKB.tx();
+        cache = SessionQueryCache.of(graph);
+        hits = cache.hitCount();
+        List<Answer> answers3 = graph.graql().infer(true).materialise(false).<GetQuery>parse(queryString).execute();
+
+        assertCollectionsEqual(answers, answers3);
+        assertTrue(cache.hitCount() > hits);
+
+        graph.graql().parse("match $r isa region, has name 'Masovia';" +
+                "insert $c isa city, has name 'Radom';" +
+                "(geo-entity: $c, entity-location: $r) isa is-located-in;").execute();
+        graph.commit();
+        graph = answerCacheGeoKB.tx();
+
+        List<Answer> answers4 = graph.graql().infer(true).materialise(false).<GetQuery>parse(queryString).execute();
+        assertEquals(answers.size() + 3, answers4.size());
+    }
+
     private Conjunction<VarPatternAdmin> conjunction(String patternString, GraknTx graph){
         Set<VarPatternAdmin> vars = graph.graql().parser().parsePattern(patternString).admin()
                 .getDisjunctiveNormalForm().getPatterns()
@@ -520,6 +520,20 @@ public class RecursiveInferenceTest {
         assertQueriesEqual(iqb.materialise(true).parse(queryString), qb.parse(explicitQuery));
     }
 
+    @Test
+    public void testTransitiveChainWithUnboundEnds(){
+        final int N = 20;
+        SampleKBContext kb = TransitivityChainKB.context(N);
+        QueryBuilder iqb = kb.tx().graql().infer(true);
+
+        String queryString = "match (Q-from: $x, Q-to: $y) isa Q; get;";
+        List<Answer> answers = iqb.materialise(false).<GetQuery>parse(queryString).execute();
+        List<Answer> materialisedAnswers = iqb.materialise(true).<GetQuery>parse(queryString).execute();
+
+        assertEquals(N * (N + 1) / 2, answers.size());
+        assertCollectionsEqual(answers, materialisedAnswers);
+    }
+
     @Test
     public void testTransitiveMatrix(){
         final int N = 5;
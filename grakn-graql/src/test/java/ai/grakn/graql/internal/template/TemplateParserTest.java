@@ -21,6 +21,8 @@ package ai.grakn.graql.internal.template;
 import ai.grakn.exception.GraqlSyntaxException;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.Query;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.internal.template.macro.Unescaped;
 import com.google.common.collect.ImmutableMap;
 import org.junit.Rule;
 import org.junit.Test;
@@ -36,6 +38,8 @@ import static ai.grakn.graql.Graql.parse;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 
@@ -786,8 +790,40 @@ public class TemplateParserTest {
         }
     }
 
+    @Test
+    public void whenTemplateOnlyHasValues_CompiledTemplateBindsThemIntoQueries(){
+        String template = "match $x isa person has name <name>; insert $y isa dog has owner-name <name> has age <age>;";
+
+        assertTrue(compile(template).bindsValues());
+        assertParseEquals(template, ImmutableMap.of("name", "Phil Collins", "age", 7), "match $x0 isa person has name \"Phil Collins\"; insert $y0 isa dog has owner-name \"Phil Collins\" has age 7;");
+        assertParseEquals(template, ImmutableMap.of("name", "Phil", "age", 2.5), "match $x0 isa person has name \"Phil\"; insert $y0 isa dog has owner-name \"Phil\" has age 2.5;");
+    }
+
+    @Test
+    public void whenTemplateStructureDependsOnData_CompiledTemplateResolvesIntoGraql(){
+        assertFalse(compile("insert for (whale in <whales>) do { $x isa whale has name <whale>; }").bindsValues());
+        assertFalse(compile("insert $<address> has address <address>;").bindsValues());
+        assertFalse(compile("insert $x isa <type>;").bindsValues());
+    }
+
+    @Test
+    public void whenValueCannotBeBound_CompiledTemplateResolvesIntoGraql(){
+        String template = "insert $x isa movie has title <title>;";
+
+        assertTrue(compile(template).bindsValues());
+        assertParseEquals(template, ImmutableMap.of("title", Unescaped.of("\"Jaws\" has year 1975")), "insert $x0 isa movie has title \"Jaws\" has year 1975;");
+    }
+
+    private QueryTemplate compile(String template){
+        QueryBuilder builder = Graql.withoutGraph();
+        return QueryTemplate.of(TemplateParser.create().compile(template), builder.parser(), builder);
+    }
+
     private void assertParseEquals(String template, Map<String, Object> data, String expected){
         List<Query> result = Graql.parser().parseTemplate(template, data).collect(toList());
         assertEquals(parse(expected), result.get(0));
+
+        List<Query<?>> compiled = Graql.parser().<Query<?>>compileTemplate(template).apply(data).collect(toList());
+        assertEquals(result, compiled);
     }
 }
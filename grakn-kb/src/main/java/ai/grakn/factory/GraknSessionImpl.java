@@ -30,6 +30,7 @@ import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.kb.internal.GraknTxAbstract;
 import ai.grakn.kb.internal.GraknTxTinker;
 import ai.grakn.kb.internal.computer.GraknComputerImpl;
+import ai.grakn.kb.internal.computer.GraknSparkGraphCache;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
 import ai.grakn.util.SimpleURI;
@@ -80,6 +81,9 @@ public class GraknSessionImpl implements GraknSession {
     private GraknTxAbstract<?> tx = null;
     private GraknTxAbstract<?> txBatch = null;
 
+    //The subgraphs loaded by the computations of this session
+    private final GraknSparkGraphCache graphCache;
+
     GraknSessionImpl(Keyspace keyspace, String engineUri, GraknConfig config, boolean remoteSubmissionNeeded){
         Objects.requireNonNull(keyspace);
         Objects.requireNonNull(engineUri);
@@ -94,8 +98,8 @@ public class GraknSessionImpl implements GraknSession {
                     .setNameFormat("commit-log-subbmit-%d").build();
             commitLogSubmitter = Executors.newSingleThreadScheduledExecutor(namedThreadFactory);
             commitLogSubmitter.scheduleAtFixedRate(() -> {
-                submitLogs(tx);
-                submitLogs(txBatch);
+                submitLogsPeriodically(tx);
+                submitLogsPeriodically(txBatch);
             }, 0, LOG_SUBMISSION_PERIOD, TimeUnit.SECONDS);
         }
 
@@ -108,6 +112,10 @@ public class GraknSessionImpl implements GraknSession {
             }
         }
         this.config = config;
+
+        this.graphCache = GraknSparkGraphCache.create(
+                config.getProperty(GraknConfigKey.KB_ANALYTICS_GRAPH_CACHE_SIZE),
+                config.getProperty(GraknConfigKey.KB_ANALYTICS_GRAPH_CACHE_TIMEOUT_MS));
     }
 
     //This must remain public because it is accessed via reflection
@@ -166,10 +174,11 @@ public class GraknSessionImpl implements GraknSession {
         switch (transactionType){
             case READ:
             case WRITE:
-                tx = factory.open(transactionType);
+                tx = checkVersionTracked(tx, factory.open(transactionType));
                 return tx;
             case BATCH:
-                txBatch = factory.open(transactionType);
+            case BULK:
+                txBatch = checkVersionTracked(txBatch, factory.open(transactionType));
                 return txBatch;
             default:
                 throw GraknTxOperationException.transactionInvalid(transactionType);
@@ -183,7 +192,20 @@ public class GraknSessionImpl implements GraknSession {
     public GraknComputer getGraphComputer() {
         TxFactory<?> configuredFactory = configureTxFactory(REST.KBConfig.COMPUTER);
         Graph graph = configuredFactory.getTinkerPopGraph(false);
-        return new GraknComputerImpl(graph);
+        return new GraknComputerImpl(graph, graphCache, () -> committedVersion(tx) + committedVersion(txBatch));
+    }
+
+    private static long committedVersion(GraknTxAbstract<?> tx){
+        return tx == null ? 0 : tx.committedVersion();
+    }
+
+    /**
+     * The versions of the cached subgraphs are counted by the transaction objects, so the cached subgraphs can no
+     * longer be told apart once a transaction object is replaced.
+     */
+    private GraknTxAbstract<?> checkVersionTracked(GraknTxAbstract<?> current, GraknTxAbstract<?> opened){
+        if(current != opened) graphCache.clear();
+        return opened;
     }
 
     @Override
@@ -199,6 +221,8 @@ public class GraknSessionImpl implements GraknSession {
         //Close the main tx connections
         close(tx);
         close(txBatch);
+
+        graphCache.clear();
     }
 
     @Override
@@ -227,6 +251,18 @@ public class GraknSessionImpl implements GraknSession {
         if(tx != null) tx.commitLog().submit(engineUri, keyspace).ifPresent(LOG::debug);
     }
 
+    /**
+     * Submits the logs from the scheduled submitter. Failures are only logged because an exception would stop any
+     * further scheduled submissions. The logs which failed are kept and submitted again in the next period.
+     */
+    private void submitLogsPeriodically(GraknTxAbstract tx){
+        try {
+            submitLogs(tx);
+        } catch (RuntimeException e){
+            LOG.warn("Could not submit commit logs of keyspace [" + keyspace + "] to engine, retrying later", e);
+        }
+    }
+
     private int openTransactions(GraknTxAbstract<?> graph){
         if(graph == null) return 0;
         return graph.numOpenTx();
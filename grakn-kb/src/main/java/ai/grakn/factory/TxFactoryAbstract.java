@@ -65,7 +65,7 @@ abstract class TxFactoryAbstract<M extends GraknTxAbstract<G>, G extends Graph>
 
     @Override
     public synchronized M open(GraknTxType txType){
-        if(GraknTxType.BATCH.equals(txType)){
+        if(isBatchLoading(txType)){
             checkOtherGraphOpen(graknTx);
             graknTxBatchLoading = getGraph(graknTxBatchLoading, txType);
             return graknTxBatchLoading;
@@ -76,12 +76,16 @@ abstract class TxFactoryAbstract<M extends GraknTxAbstract<G>, G extends Graph>
         }
     }
 
+    private static boolean isBatchLoading(GraknTxType txType){
+        return GraknTxType.BATCH.equals(txType) || GraknTxType.BULK.equals(txType);
+    }
+
     private void checkOtherGraphOpen(GraknTx otherGraph){
         if(otherGraph != null && !otherGraph.isClosed()) throw GraknTxOperationException.transactionOpen(otherGraph);
     }
 
     private M getGraph(M graknGraph, GraknTxType txType){
-        boolean batchLoading = GraknTxType.BATCH.equals(txType);
+        boolean batchLoading = isBatchLoading(txType);
 
         if(graknGraph == null){
             graknGraph = buildGraknGraphFromTinker(getTinkerPopGraph(batchLoading));
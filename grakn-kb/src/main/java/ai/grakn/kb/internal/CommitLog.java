@@ -30,10 +30,12 @@ import mjson.Json;
 
 import javax.ws.rs.core.UriBuilder;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -46,25 +48,63 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *     The commit log is also uploaded periodically to make sure that if a failure occurs the counts are still roughly maintained.
  * </p>
  *
+ * <p>
+ *     Logs of all the transactions committed between two submissions are coalesced and uploaded gzipped in one request.
+ *     Commits are not blocked while a submission is in flight. Only when more than {@link #MAX_PENDING_LOGS} logs are
+ *     waiting do commits wait, for at most {@link #MAX_BACKPRESSURE_WAIT_MS}, for the submission in flight to complete.
+ * </p>
+ *
  * @author Filipe Peliz Pinto Teixeira
  */
 public class CommitLog {
+    static final int MAX_PENDING_LOGS = 100_000;
+    static final long MAX_BACKPRESSURE_WAIT_MS = 1_000;
+
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicInteger submissionsInFlight = new AtomicInteger(0);
     private final Map<ConceptId, Long> newInstanceCount = new ConcurrentHashMap<>();
     private final Map<String, Set<String>> newAttributes = new ConcurrentHashMap<>();
 
 
     void addNewAttributes(Map<String, ConceptId> attributes){
-        lockDataAddition(() -> attributes.forEach((key, value) -> {
-            newAttributes.merge(key, Sets.newHashSet(value.getValue()), (v1, v2) -> {
-                v1.addAll(v2);
-                return v1;
-            });
-        }));
+        lockDataAddition(() -> attributes.forEach((key, value) -> mergeAttributes(key, Sets.newHashSet(value.getValue()))));
+        applyBackpressure();
     }
 
     void addNewInstances(Map<ConceptId, Long> instances){
-        lockDataAddition(() -> instances.forEach((key, value) -> newInstanceCount.merge(key, value, (v1, v2) -> v1 + v2)));
+        lockDataAddition(() -> instances.forEach(this::mergeInstances));
+        applyBackpressure();
+    }
+
+    private void mergeAttributes(String index, Set<String> conceptIds){
+        newAttributes.merge(index, conceptIds, (v1, v2) -> {
+            v1.addAll(v2);
+            return v1;
+        });
+    }
+
+    private void mergeInstances(ConceptId type, Long count){
+        newInstanceCount.merge(type, count, (v1, v2) -> v1 + v2);
+    }
+
+    int pendingLogs(){
+        return newInstanceCount.size() + newAttributes.size();
+    }
+
+    /**
+     * Makes the committing thread wait for the submission in flight if too many logs are waiting to be submitted.
+     * The wait is bounded so a slow or unreachable engine cannot stall commits indefinitely.
+     */
+    private void applyBackpressure(){
+        if(submissionsInFlight.get() == 0 || pendingLogs() < MAX_PENDING_LOGS) return;
+
+        synchronized (submissionsInFlight) {
+            try {
+                if(submissionsInFlight.get() > 0) submissionsInFlight.wait(MAX_BACKPRESSURE_WAIT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     /**
@@ -92,7 +132,9 @@ public class CommitLog {
     }
 
     /**
-     * Submits the commit logs to the provided server address and under the provided {@link Keyspace}
+     * Submits the commit logs to the provided server address and under the provided {@link Keyspace}.
+     * The pending logs are swapped out before contacting engine so commits can continue adding logs during the
+     * submission. If the submission fails the logs are kept and submitted with the next batch.
      */
     public Optional<String> submit(String engineUri, Keyspace keyspace){
         if(newInstanceCount.isEmpty() && newAttributes.isEmpty()){
@@ -100,14 +142,34 @@ public class CommitLog {
         }
 
         Optional<URI> endPoint = getCommitLogEndPoint(engineUri, keyspace);
+        Map<ConceptId, Long> instances;
+        Map<String, Set<String>> attributes;
         try{
             lock.writeLock().lock();
-            String response = EngineCommunicator.contactEngine(endPoint, REST.HttpConn.POST_METHOD, getFormattedLog().toString());
+            instances = new HashMap<>(newInstanceCount);
+            attributes = new HashMap<>(newAttributes);
             clear();
-            return Optional.of("Response from engine [" + response + "]");
+            submissionsInFlight.incrementAndGet();
         } finally {
             lock.writeLock().unlock();
         }
+
+        try {
+            String response = EngineCommunicator.contactEngine(endPoint, REST.HttpConn.POST_METHOD,
+                    formatLog(instances, attributes).toString(), true);
+            return Optional.of("Response from engine [" + response + "]");
+        } catch (RuntimeException e){
+            lockDataAddition(() -> {
+                instances.forEach(this::mergeInstances);
+                attributes.forEach(this::mergeAttributes);
+            });
+            throw e;
+        } finally {
+            synchronized (submissionsInFlight) {
+                submissionsInFlight.decrementAndGet();
+                submissionsInFlight.notifyAll();
+            }
+        }
     }
 
     static Optional<URI> getCommitLogEndPoint(String engineUri, Keyspace keyspace) {
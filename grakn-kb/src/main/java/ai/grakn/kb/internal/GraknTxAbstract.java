@@ -88,6 +88,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -181,6 +182,14 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         return globalCache;
     }
 
+    /**
+     * @return A version of the knowledge base which changes whenever a transaction which changed the schema or data
+     * is committed through this object.
+     */
+    public long committedVersion() {
+        return globalCache.schemaVersion() + globalCache.dataVersion();
+    }
+
     /**
      * @return The number of open transactions currently.
      */
@@ -247,9 +256,29 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         return factory().buildConcept(edge);
     }
 
+    @Override
+    public <T extends Concept> Optional<T> buildConceptHandle(Vertex vertex) {
+        return factory().buildConceptHandle(vertex);
+    }
+
+    @Override
+    public <T extends Concept> Optional<T> buildConceptHandle(Edge edge) {
+        return factory().buildConceptHandle(edge);
+    }
+
     @Override
     public boolean isBatchTx() {
-        return GraknTxType.BATCH.equals(txCache().txType());
+        return GraknTxType.BATCH.equals(txCache().txType()) || isBulkTx();
+    }
+
+    /**
+     * A flag to check if bulk loading is enabled. Bulk loading is a form of batch loading which also skips reading
+     * the graph before writing to it and validating the written data.
+     *
+     * @return true if bulk loading is enabled
+     */
+    public boolean isBulkTx() {
+        return GraknTxType.BULK.equals(txCache().txType());
     }
 
     @SuppressWarnings("unchecked")
@@ -292,10 +321,7 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
      * @param schemaConcept the {@link SchemaConcept} to be copied into the {@link TxCache}
      */
     private void copyToCache(SchemaConcept schemaConcept) {
-        schemaConcept.subs().forEach(concept -> {
-            getGlobalCache().cacheLabel(concept.getLabel(), concept.getLabelId());
-            getGlobalCache().cacheType(concept.getLabel(), concept);
-        });
+        getGlobalCache().cacheTypes(schemaConcept.subs().collect(toList()));
     }
 
     private boolean isMetaSchemaNotInitialised() {
@@ -370,6 +396,7 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     public void checkSchemaMutationAllowed() {
         checkMutationAllowed();
         if (isBatchTx()) throw GraknTxOperationException.schemaMutation();
+        txCache().schemaMutated();
     }
 
     public void checkMutationAllowed() {
@@ -770,12 +797,19 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         Map<ConceptId, Long> newInstances = txCache().getShardingCount();
         Map<String, ConceptId> newAttributes = txCache().getNewAttributes();
         boolean logsExist = !newInstances.isEmpty() || !newAttributes.isEmpty();
+        Set<Label> modifiedTypes = txCache().getModifiedInstanceTypes().stream()
+                .filter(type -> !type.isDeleted())
+                .flatMap(Type::sups)
+                .map(SchemaConcept::getLabel)
+                .collect(toSet());
 
         LOG.trace("Graph is valid. Committing graph . . . ");
         commitTransactionInternal();
 
         LOG.trace("Graph committed.");
 
+        if (!modifiedTypes.isEmpty()) getGlobalCache().dataCommitted(modifiedTypes);
+
         //If we have logs to commit get them and add them
         if (logsExist) {
             if(trackingNeeded) {
@@ -957,4 +991,29 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     public long getShardCount(Type concept){
         return TypeImpl.from(concept).shardCount();
     }
+
+    @Override
+    public long schemaVersion() {
+        return getGlobalCache().schemaVersion();
+    }
+
+    @Override
+    public boolean isSchemaMutated() {
+        return txCache().isSchemaMutated();
+    }
+
+    @Override
+    public long dataVersion() {
+        return txCache().dataVersion();
+    }
+
+    @Override
+    public long dataVersion(Label type) {
+        return getGlobalCache().dataVersion(type);
+    }
+
+    @Override
+    public boolean isDataMutated() {
+        return txCache().isDataMutated();
+    }
 }
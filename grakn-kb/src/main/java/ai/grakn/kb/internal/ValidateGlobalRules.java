@@ -37,7 +37,6 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.kb.internal.concept.RelationshipTypeImpl;
 import ai.grakn.kb.internal.concept.RuleImpl;
 import ai.grakn.kb.internal.concept.SchemaConceptImpl;
-import ai.grakn.kb.internal.concept.TypeImpl;
 import ai.grakn.kb.internal.structure.Casting;
 import ai.grakn.util.CommonUtil;
 import ai.grakn.util.ErrorMessage;
@@ -47,7 +46,6 @@ import com.google.common.collect.Iterables;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -101,6 +99,16 @@ class ValidateGlobalRules {
      * @return Specific errors if any are found
      */
     static Set<String> validatePlaysAndRelatesStructure(Casting casting) {
+        return validatePlaysAndRelatesStructure(casting, new ValidationCache());
+    }
+
+    /**
+     * Same as {@link #validatePlaysAndRelatesStructure(Casting)} but reuses the schema answers of the given
+     * {@link ValidationCache}.
+     *
+     * @return Specific errors if any are found
+     */
+    static Set<String> validatePlaysAndRelatesStructure(Casting casting, ValidationCache cache) {
         Set<String> errors = new HashSet<>();
 
         //Gets here to make sure we traverse/read only once
@@ -109,8 +117,8 @@ class ValidateGlobalRules {
         Relationship relationship = casting.getRelationship();
 
         //Actual checks
-        roleNotAllowedToBePlayed(role, thing).ifPresent(errors::add);
-        roleNotLinkedToRelationShip(role, relationship.type(), relationship).ifPresent(errors::add);
+        roleNotAllowedToBePlayed(role, thing, cache).ifPresent(errors::add);
+        roleNotLinkedToRelationShip(role, relationship.type(), relationship, cache).ifPresent(errors::add);
 
         return errors;
     }
@@ -122,11 +130,11 @@ class ValidateGlobalRules {
      * @param role the {@link Role} which the {@link Casting} refers to
      * @param relationshipType the {@link RelationshipType} which should connect to the role
      * @param relationship the {@link Relationship} which the {@link Casting} refers to
+     * @param cache the schema answers of the current validation
      * @return an error if one is found
      */
-    private static Optional<String> roleNotLinkedToRelationShip(Role role, RelationshipType relationshipType, Relationship relationship){
-        boolean notFound = role.relationshipTypes().
-                noneMatch(innerRelationType -> innerRelationType.getLabel().equals(relationshipType.getLabel()));
+    private static Optional<String> roleNotLinkedToRelationShip(Role role, RelationshipType relationshipType, Relationship relationship, ValidationCache cache){
+        boolean notFound = !cache.relationshipTypes(role).contains(relationshipType.getLabel());
         if(notFound){
             return Optional.of(VALIDATION_RELATION_CASTING_LOOP_FAIL.getMessage(relationship.getId(), role.getLabel(), relationshipType.getLabel()));
         }
@@ -141,35 +149,21 @@ class ValidateGlobalRules {
      *
      * @param role The {@link Role} which the role-player is playing
      * @param thing the role-player
+     * @param cache the schema answers of the current validation
      * @return an error if one is found
      */
-    private static Optional<String> roleNotAllowedToBePlayed(Role role, Thing thing){
-        TypeImpl<?, ?> currentConcept = (TypeImpl<?, ?>) thing.type();
-
-        boolean satisfiesPlays = false;
-        while(currentConcept != null){
-            Map<Role, Boolean> plays = currentConcept.directPlays();
-
-            for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
-                Role rolePlayed = playsEntry.getKey();
-                Boolean required = playsEntry.getValue();
-                if(rolePlayed.getLabel().equals(role.getLabel())){
-                    satisfiesPlays = true;
-
-                    // Assert unique relationship for this role type
-                    if (required && !CommonUtil.containsOnly(thing.relationships(role), 1)) {
-                        return Optional.of(VALIDATION_REQUIRED_RELATION.getMessage(thing.getId(), thing.type().getLabel(), role.getLabel(), thing.relationships(role).count()));
-                    }
-                }
-            }
-            currentConcept = (TypeImpl) currentConcept.sup();
-        }
+    private static Optional<String> roleNotAllowedToBePlayed(Role role, Thing thing, ValidationCache cache){
+        Boolean required = cache.plays(thing.type()).get(role.getLabel());
 
-        if(satisfiesPlays) {
-            return Optional.empty();
-        } else {
+        if(required == null) {
             return Optional.of(VALIDATION_CASTING.getMessage(thing.type().getLabel(), thing.getId(), role.getLabel()));
         }
+
+        // Assert unique relationship for this role type, once per role player
+        if (required && cache.checkRequiredRole(thing, role) && !CommonUtil.containsOnly(thing.relationships(role), 1)) {
+            return Optional.of(VALIDATION_REQUIRED_RELATION.getMessage(thing.getId(), thing.type().getLabel(), role.getLabel(), thing.relationships(role).count()));
+        }
+        return Optional.empty();
     }
 
     /**
@@ -248,24 +242,24 @@ class ValidateGlobalRules {
      * @return An error message if the thing does not have all the required resources
      */
     static Optional<String> validateInstancePlaysAllRequiredRoles(Thing thing) {
-        TypeImpl<?, ?> currentConcept = (TypeImpl) thing.type();
-
-        while(currentConcept != null){
-
-            Map<Role, Boolean> plays = currentConcept.directPlays();
-            for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
-                if(playsEntry.getValue()){
-                    Role role = playsEntry.getKey();
-                    // Assert there is a relationship for this type
-                    Stream<Relationship> relationships = thing.relationships(role);
+        return validateInstancePlaysAllRequiredRoles(thing, new ValidationCache());
+    }
 
-                    if(!CommonUtil.containsOnly(relationships, 1)){
-                        Label resourceTypeLabel = Schema.ImplicitType.explicitLabel(role.getLabel());
-                        return Optional.of(VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(thing.getId(), resourceTypeLabel));
-                    }
-                }
+    /**
+     * Same as {@link #validateInstancePlaysAllRequiredRoles(Thing)} but reuses the schema answers of the given
+     * {@link ValidationCache}.
+     *
+     * @return An error message if the thing does not have all the required resources
+     */
+    static Optional<String> validateInstancePlaysAllRequiredRoles(Thing thing, ValidationCache cache) {
+        for (Role role : cache.requiredRoles(thing.type())) {
+            // Assert there is a relationship for this type
+            Stream<Relationship> relationships = thing.relationships(role);
+
+            if(!CommonUtil.containsOnly(relationships, 1)){
+                Label resourceTypeLabel = Schema.ImplicitType.explicitLabel(role.getLabel());
+                return Optional.of(VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(thing.getId(), resourceTypeLabel));
             }
-            currentConcept = (TypeImpl) currentConcept.sup();
         }
         return Optional.empty();
     }
@@ -0,0 +1,119 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal;
+
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
+import ai.grakn.kb.internal.concept.TypeImpl;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ *     Answers shared by all the checks of a single validation run
+ * </p>
+ *
+ * <p>
+ *     Many of the checks performed by {@link ValidateGlobalRules} only depend on the schema, for example whether a
+ *     {@link Type} may play a {@link Role}. As the schema cannot change while a transaction is being validated
+ *     these answers are computed once per {@link Type} or {@link Role} rather than once per {@link Thing}.
+ *     The cache also remembers which instance level checks have been performed so that they are not repeated for
+ *     every {@link ai.grakn.kb.internal.structure.Casting} of the same {@link Thing} and {@link Role}.
+ * </p>
+ *
+ * @author agent
+ */
+class ValidationCache {
+    private final Map<Label, Map<Label, Boolean>> plays = new HashMap<>();
+    private final Map<Label, List<Role>> requiredRoles = new HashMap<>();
+    private final Map<Label, Set<Label>> relationshipTypes = new HashMap<>();
+    private final Set<Map.Entry<Thing, Label>> checkedRequiredRoles = new HashSet<>();
+
+    /**
+     *
+     * @param type The {@link Type} of a role player
+     * @return The labels of all the {@link Role}s which the {@link Type} or its super types may play, mapped to
+     * whether playing the {@link Role} is required
+     */
+    Map<Label, Boolean> plays(Type type){
+        return plays.computeIfAbsent(type.getLabel(), label -> {
+            Map<Label, Boolean> rolesPlayed = new HashMap<>();
+            TypeImpl<?, ?> currentConcept = (TypeImpl<?, ?>) type;
+            while(currentConcept != null){
+                currentConcept.directPlays().forEach((role, required) ->
+                        rolesPlayed.merge(role.getLabel(), required, Boolean::logicalOr));
+                currentConcept = (TypeImpl) currentConcept.sup();
+            }
+            return rolesPlayed;
+        });
+    }
+
+    /**
+     *
+     * @param type The {@link Type} of a {@link Thing}
+     * @return The {@link Role}s which instances of the {@link Type} must play, starting with the ones defined
+     * directly on the {@link Type}
+     */
+    List<Role> requiredRoles(Type type){
+        return requiredRoles.computeIfAbsent(type.getLabel(), label -> {
+            List<Role> roles = new ArrayList<>();
+            TypeImpl<?, ?> currentConcept = (TypeImpl<?, ?>) type;
+            while(currentConcept != null){
+                currentConcept.directPlays().forEach((role, required) -> {
+                    if(required) roles.add(role);
+                });
+                currentConcept = (TypeImpl) currentConcept.sup();
+            }
+            return Collections.unmodifiableList(roles);
+        });
+    }
+
+    /**
+     *
+     * @param role The {@link Role} of interest
+     * @return The labels of all the {@link ai.grakn.concept.RelationshipType}s which relate the {@link Role}
+     */
+    Set<Label> relationshipTypes(Role role){
+        return relationshipTypes.computeIfAbsent(role.getLabel(), label ->
+                role.relationshipTypes().map(SchemaConcept::getLabel).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Marks that the number of {@link ai.grakn.concept.Relationship}s in which a {@link Thing} plays a required
+     * {@link Role} is being checked.
+     *
+     * @param thing The role player
+     * @param role The required {@link Role}
+     * @return true if the check has not been performed before
+     */
+    boolean checkRequiredRole(Thing thing, Role role){
+        return checkedRequiredRoles.add(new AbstractMap.SimpleImmutableEntry<>(thing, role.getLabel()));
+    }
+}
@@ -35,7 +35,8 @@ import java.util.Set;
  *
  * <p>
  *      Handles calling the relevant validation defined in {@link ValidateGlobalRules} depending on the
- *      type of the concept.
+ *      type of the concept. Schema answers needed by the checks are shared through a {@link ValidationCache}
+ *      so they are computed once per validation rather than once per concept.
  * </p>
  *
  * @author fppt
@@ -44,6 +45,7 @@ import java.util.Set;
 class Validator {
     private final GraknTxAbstract<?> graknGraph;
     private final List<String> errorsFound = new ArrayList<>();
+    private final ValidationCache cache = new ValidationCache();
 
     public Validator(GraknTxAbstract graknGraph){
         this.graknGraph = graknGraph;
@@ -104,7 +106,7 @@ class Validator {
      * @param casting The Role player to validate
      */
     private void validateCasting(Casting casting){
-        errorsFound.addAll(ValidateGlobalRules.validatePlaysAndRelatesStructure(casting));
+        errorsFound.addAll(ValidateGlobalRules.validatePlaysAndRelatesStructure(casting, cache));
     }
 
     /**
@@ -129,6 +131,6 @@ class Validator {
      * @param thing The {@link Thing} to validate
      */
     private void validateThing(Thing thing) {
-        ValidateGlobalRules.validateInstancePlaysAllRequiredRoles(thing).ifPresent(errorsFound::add);
+        ValidateGlobalRules.validateInstancePlaysAllRequiredRoles(thing, cache).ifPresent(errorsFound::add);
     }
 }
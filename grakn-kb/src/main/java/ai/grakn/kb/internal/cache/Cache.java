@@ -51,7 +51,11 @@ public class Cache<V> {
     private final Cacheable<V> cacheable;
 
     //Transaction bound. If this is not set it does not yet exist in the scope of the transaction.
-    private final ThreadLocal<V> valueTx = new ThreadLocal<>();
+    //Owners which are shared between transactions keep the value per thread. Owners which only live within the
+    // transaction that built them hold it directly, so no thread local entries build up for them.
+    @Nullable
+    private final ThreadLocal<V> valueThread;
+    private V valueOwned = null;
 
     //Globally bound value which has already been persisted and acts as a shared component cache
     private Optional<V> valueGlobal = Optional.empty();
@@ -68,6 +72,7 @@ public class Cache<V> {
         this.isClearable = isClearable;
         this.cacheable = cacheable;
         this.databaseReader = databaseReader;
+        this.valueThread = owner.isTxBound() ? null : new ThreadLocal<>();
         owner.registerCache(this);
     }
 
@@ -100,16 +105,16 @@ public class Cache<V> {
      */
     @Nullable
     public V get(){
-        V value = valueTx.get();
+        V value = valueTx();
 
         if(value != null) return value;
         if(valueGlobal.isPresent()) value = cacheable.copy(valueGlobal.get());
         if(value == null) value = databaseReader.get();
         if(value == null) return null;
 
-        valueTx.set(value);
+        valueTx(value);
 
-        return valueTx.get();
+        return value;
     }
 
     /**
@@ -117,7 +122,11 @@ public class Cache<V> {
      */
     public void clear(){
         if(isClearable) {
-            valueTx.remove();
+            if(valueThread == null){
+                valueOwned = null;
+            } else {
+                valueThread.remove();
+            }
         }
     }
 
@@ -127,7 +136,7 @@ public class Cache<V> {
      * @param value the value to be cached
      */
     public void set(@Nullable V value){
-        valueTx.set(value);
+        valueTx(value);
     }
 
     /**
@@ -135,7 +144,20 @@ public class Cache<V> {
      * @return true if there is anything stored in the cache
      */
     public boolean isPresent(){
-        return valueTx.get() != null || valueGlobal.isPresent();
+        return valueTx() != null || valueGlobal.isPresent();
+    }
+
+    @Nullable
+    private V valueTx(){
+        return valueThread == null ? valueOwned : valueThread.get();
+    }
+
+    private void valueTx(@Nullable V value){
+        if(valueThread == null){
+            valueOwned = value;
+        } else {
+            valueThread.set(value);
+        }
     }
 
     /**
@@ -42,6 +42,14 @@ public interface CacheOwner {
      */
     Collection<Cache> caches();
 
+    /**
+     * @return true if the {@link CacheOwner} is only used within the transaction which built it.
+     * The {@link Cache}s of such owners do not need to be bound to a thread.
+     */
+    default boolean isTxBound(){
+        return false;
+    }
+
     /**
      * Clears the internal {@link Cache}
      */
@@ -24,14 +24,15 @@ import ai.grakn.concept.LabelId;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.engine.GraknConfig;
 import ai.grakn.kb.internal.concept.SchemaConceptImpl;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.collect.ImmutableMap;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * <p>
@@ -46,46 +47,64 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *             Label Cache - All the labels which make up the schema. This can never expire and is needed in order
  *             to perform fast lookups. Essentially it is used for mapping labels to ids.
  *         </li>
+ *         <li>
+ *             Schema Version - A counter which is incremented whenever a schema mutation is committed. This allows
+ *             caches derived from the schema, such as query plans, to know when they are stale.
+ *         </li>
+ *         <li>
+ *             Data Versions - A counter which is incremented whenever a transaction which changed data is committed,
+ *             together with the last value of the counter at which the instances of each type changed. This allows
+ *             caches derived from the data, such as inferred answers, to know when they are stale.
+ *         </li>
  *     <ol/>
  * </p>
  *
+ * <p>
+ *     All of the above are held in an immutable {@link SchemaSnapshot}. Transactions pin the current snapshot when
+ *     they start and read it without locking or copying. A new snapshot is only published when a transaction
+ *     changes the schema, so readers never block writers and vice versa.
+ * </p>
+ *
  * @author fppt
  *
  */
 public class GlobalCache {
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-
-    //Caches
-    private final Cache<Label, SchemaConcept> cachedTypes;
-    private final Map<Label, LabelId> cachedLabels;
+    private final AtomicReference<SchemaSnapshot> snapshot = new AtomicReference<>(SchemaSnapshot.EMPTY);
+    private final long cacheTimeout;
+    private final GraknConfig config;
+    private volatile long lastAccess = System.currentTimeMillis();
+    private final AtomicLong dataVersion = new AtomicLong(0);
+    private final Map<Label, Long> typeDataVersions = new ConcurrentHashMap<>();
 
     public GlobalCache(GraknConfig config) {
-        cachedLabels = new ConcurrentHashMap<>();
-
-        int cacheTimeout = config.getProperty(GraknConfigKey.SESSION_CACHE_TIMEOUT_MS);
-        cachedTypes = CacheBuilder.newBuilder()
-                .maximumSize(1000)
-                .expireAfterAccess(cacheTimeout, TimeUnit.MILLISECONDS)
-                .build();
+        cacheTimeout = config.getProperty(GraknConfigKey.SESSION_CACHE_TIMEOUT_MS);
+        this.config = config;
     }
 
-    void populateSchemaTxCache(TxCache txCache){
-        try {
-            lock.writeLock().lock();
-
-            Map<Label, SchemaConcept> cachedSchemaSnapshot = getCachedTypes();
-            Map<Label, LabelId> cachedLabelsSnapshot = getCachedLabels();
-
-            //Read central cache into txCache cloning only base concepts. Sets clones later
-            for (SchemaConcept type : cachedSchemaSnapshot.values()) {
-                txCache.cacheConcept(type);
-            }
+    /**
+     *
+     * @return the maximum number of things each transaction keeps built. If 0 there is no limit.
+     */
+    int txConceptCacheSize(){
+        return config.getProperty(GraknConfigKey.TX_CONCEPT_CACHE_SIZE);
+    }
 
-            //Load Labels Separately. We do this because the TypeCache may have expired.
-            cachedLabelsSnapshot.forEach(txCache::cacheLabel);
-        } finally {
-            lock.writeLock().unlock();
+    /**
+     * Gets the current {@link SchemaSnapshot} so a transaction can read the schema without it changing underneath it.
+     * If the snapshot has not been accessed within the session cache timeout the cached types are dropped. The labels
+     * are always kept as they are needed to look types up.
+     *
+     * @return the current {@link SchemaSnapshot}
+     */
+    SchemaSnapshot pinSchema(){
+        long now = System.currentTimeMillis();
+        SchemaSnapshot current = snapshot.get();
+        if(now - lastAccess > cacheTimeout) {
+            SchemaSnapshot expired = current.withoutTypes();
+            if(snapshot.compareAndSet(current, expired)) current = expired;
         }
+        lastAccess = now;
+        return current;
     }
 
     /**
@@ -95,7 +114,7 @@ public class GlobalCache {
      * @param type The type to cache
      */
     public void cacheType(Label label, SchemaConcept type) {
-        cachedTypes.put(label, type);
+        publish(Collections.singletonMap(label, type), Collections.emptyMap(), false);
     }
 
     /**
@@ -106,11 +125,26 @@ public class GlobalCache {
      * @param id The id of the type to cache
      */
     public void cacheLabel(Label label, LabelId id) {
-        cachedLabels.put(label, id);
+        publish(Collections.emptyMap(), Collections.singletonMap(label, id), false);
+    }
+
+    /**
+     * Caches several types and their labels at once, publishing a single new {@link SchemaSnapshot}.
+     *
+     * @param types The types to cache
+     */
+    public void cacheTypes(Collection<? extends SchemaConcept> types) {
+        Map<Label, SchemaConcept> newTypes = new HashMap<>();
+        Map<Label, LabelId> newLabels = new HashMap<>();
+        types.forEach(type -> {
+            newTypes.put(type.getLabel(), type);
+            newLabels.put(type.getLabel(), type.getLabelId());
+        });
+        publish(newTypes, newLabels, false);
     }
 
     /**
-     * Reads the {@link SchemaConcept} and their {@link Label} currently in the transaction cache
+     * Reads the {@link SchemaConcept} and their {@link Label} changed in the transaction cache
      * into the graph cache. This usually happens when a commit occurs and allows us to track schema
      * mutations without having to read the graph.
      *
@@ -118,20 +152,17 @@ public class GlobalCache {
      */
     void readTxCache(TxCache txCache) {
         //Check if the ontology has been changed and should be flushed into this cache
-        if(!cachedLabels.equals(txCache.getLabelCache())) {
-            try {
-                lock.readLock().lock();
-
-                //Clear the cache
-                cachedLabels.clear();
-                cachedTypes.invalidateAll();
-
-                //Add a new one
-                cachedLabels.putAll(txCache.getLabelCache());
-                cachedTypes.putAll(txCache.getSchemaConceptCache());
-            } finally {
-                lock.readLock().unlock();
-            }
+        SchemaSnapshot pinned = txCache.pinnedSchema();
+        Map<Label, LabelId> changedLabels = new HashMap<>();
+        txCache.getLabelCache().forEach((label, id) -> {
+            if(!id.equals(pinned.labelId(label))) changedLabels.put(label, id);
+        });
+        boolean labelsChanged = !changedLabels.isEmpty() || !txCache.getRemovedLabels().isEmpty();
+
+        if(labelsChanged || txCache.isSchemaMutated()) {
+            Map<Label, SchemaConcept> changedTypes = new HashMap<>(txCache.getSchemaConceptCache());
+            snapshot.updateAndGet(current ->
+                    current.apply(changedTypes, changedLabels, txCache.getRemovedLabels(), true));
         }
 
         //Flush All The Internal Transaction Caches
@@ -139,21 +170,55 @@ public class GlobalCache {
                 -> SchemaConceptImpl.from(schemaConcept).txCacheFlush());
     }
 
+    private void publish(Map<Label, SchemaConcept> newTypes, Map<Label, LabelId> newLabels, boolean incrementVersion){
+        snapshot.updateAndGet(current -> current.apply(newTypes, newLabels, Collections.emptySet(), incrementVersion));
+    }
+
+    /**
+     * The current version of the schema. This is incremented every time a transaction which mutated the schema is
+     * flushed into this cache.
+     *
+     * @return the current schema version
+     */
+    public long schemaVersion() {
+        return snapshot.get().version();
+    }
+
+    /**
+     * Records that a transaction which changed the instances of the given types has been committed.
+     *
+     * @param types The labels of the types whose instances have changed, including all of their super types
+     */
+    public void dataCommitted(Set<Label> types) {
+        long version = dataVersion.incrementAndGet();
+        types.forEach(type -> typeDataVersions.merge(type, version, Math::max));
+    }
+
+    /**
+     * The current version of the data. This is incremented every time a transaction which changed data is committed.
+     *
+     * @return the current data version
+     */
+    public long dataVersion() {
+        return dataVersion.get();
+    }
+
     /**
-     * A copy of the cached labels. This is used when creating a new transaction.
+     * The data version at which the instances of a type last changed.
      *
-     * @return an immutable copy of the cached labels.
+     * @param type The label of the type
+     * @return the data version of the last commit which changed the instances of the type or its sub types
      */
-    private Map<Label, LabelId> getCachedLabels() {
-        return ImmutableMap.copyOf(cachedLabels);
+    public long dataVersion(Label type) {
+        return typeDataVersions.getOrDefault(type, 0L);
     }
 
     /**
-     * A copy of the cached schema. This is used when creating a new transaction.
+     * The cached schema. This is an immutable view of the current {@link SchemaSnapshot} and so is never copied.
      *
-     * @return an immutable copy of the cached schema.
+     * @return the cached schema.
      */
     public Map<Label, SchemaConcept> getCachedTypes() {
-        return ImmutableMap.copyOf(cachedTypes.asMap());
+        return snapshot.get().types();
     }
 }
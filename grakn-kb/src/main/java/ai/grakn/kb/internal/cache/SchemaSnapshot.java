@@ -0,0 +1,116 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.SchemaConcept;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ *     An immutable, versioned snapshot of the schema cached by the {@link GlobalCache}
+ * </p>
+ *
+ * <p>
+ *     A {@link TxCache} pins the snapshot current when the transaction starts and reads it without locking or copying.
+ *     Schema mutations never modify a snapshot, instead a new snapshot with a higher version is published.
+ * </p>
+ *
+ * @author agent
+ */
+final class SchemaSnapshot {
+    static final SchemaSnapshot EMPTY = new SchemaSnapshot(0, ImmutableMap.of(), ImmutableMap.of());
+
+    private final long version;
+    private final ImmutableMap<Label, SchemaConcept> types;
+    private final ImmutableMap<ConceptId, SchemaConcept> typesById;
+    private final ImmutableMap<Label, LabelId> labels;
+
+    private SchemaSnapshot(long version, ImmutableMap<Label, SchemaConcept> types, ImmutableMap<Label, LabelId> labels){
+        this.version = version;
+        this.types = types;
+        this.labels = labels;
+        //A renamed type can briefly be cached under both labels, so the same id may be seen twice
+        Map<ConceptId, SchemaConcept> typesById = new HashMap<>();
+        types.values().forEach(type -> typesById.put(type.getId(), type));
+        this.typesById = ImmutableMap.copyOf(typesById);
+    }
+
+    long version(){
+        return version;
+    }
+
+    ImmutableMap<Label, SchemaConcept> types(){
+        return types;
+    }
+
+    ImmutableMap<Label, LabelId> labels(){
+        return labels;
+    }
+
+    @Nullable
+    SchemaConcept type(Label label){
+        return types.get(label);
+    }
+
+    @Nullable
+    SchemaConcept type(ConceptId id){
+        return typesById.get(id);
+    }
+
+    @Nullable
+    LabelId labelId(Label label){
+        return labels.get(label);
+    }
+
+    /**
+     * @param newTypes {@link SchemaConcept}s to add or replace
+     * @param newLabels {@link Label}s to add or replace
+     * @param removedLabels {@link Label}s which no longer exist
+     * @param incrementVersion whether the new snapshot represents a schema change
+     * @return a new snapshot with the changes applied on top of this one
+     */
+    SchemaSnapshot apply(Map<Label, SchemaConcept> newTypes, Map<Label, LabelId> newLabels, Set<Label> removedLabels,
+                         boolean incrementVersion){
+        Map<Label, SchemaConcept> types = new HashMap<>(this.types);
+        Map<Label, LabelId> labels = new HashMap<>(this.labels);
+        removedLabels.forEach(label -> {
+            types.remove(label);
+            labels.remove(label);
+        });
+        types.putAll(newTypes);
+        labels.putAll(newLabels);
+        return new SchemaSnapshot(incrementVersion ? version + 1 : version,
+                ImmutableMap.copyOf(types), ImmutableMap.copyOf(labels));
+    }
+
+    /**
+     * @return a snapshot with the same version and labels but without any cached {@link SchemaConcept}s
+     */
+    SchemaSnapshot withoutTypes(){
+        return types.isEmpty() ? this : new SchemaSnapshot(version, ImmutableMap.of(), labels);
+    }
+}
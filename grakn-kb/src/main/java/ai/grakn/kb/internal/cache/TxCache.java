@@ -34,8 +34,11 @@ import ai.grakn.kb.internal.structure.Casting;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * <p>
@@ -46,7 +49,7 @@ import java.util.Set;
  *     Caches Transaction specific data this includes:
  *     <ol>
  *         <li>Validation Concepts - Concepts which need to undergo validation.</li>
- *         <li>Built Concepts -  Prevents rebuilding when the same vertex is encountered</li>
+ *         <li>Built Concepts -  Prevents rebuilding when the same vertex is encountered. Things which have not been created or modified in the transaction are bounded in number.</li>
  *         <li>The Schema - Optimises validation checks by preventing db read. </li>
  *         <li> {@link Label} - Allows mapping type labels to type Ids</li>
  *         <li>Transaction meta Data - Allows transactions to function in different ways</li>
@@ -60,10 +63,21 @@ public class TxCache{
     //Cache which is shared across multiple transactions
     private final GlobalCache globalCache;
 
-    //Caches any concept which has been touched before
+    //The schema shared across transactions as it was when this transaction started. It is never modified.
+    private SchemaSnapshot schemaSnapshot = SchemaSnapshot.EMPTY;
+
+    //Caches any schema concept and any thing created or modified in this transaction which has been touched before
+    //Schema concepts and labels cached here override the pinned schema snapshot
     private final Map<ConceptId, Concept> conceptCache = new HashMap<>();
+    //Caches the other things which have been touched before
+    //Ordered by access so that the least recently used things can be evicted
+    private final Map<ConceptId, Concept> unmodifiedThingCache = new LinkedHashMap<>(16, 0.75f, true);
+    //The things created or modified in this transaction. They are never evicted.
+    private final Set<ConceptId> pinnedThings = new HashSet<>();
     private final Map<Label, SchemaConcept> schemaConceptCache = new HashMap<>();
     private final Map<Label, LabelId> labelCache = new HashMap<>();
+    private final Set<Label> removedLabels = new HashSet<>();
+    private final Set<ConceptId> removedSchemaConcepts = new HashSet<>();
 
     //Elements Tracked For Validation
     private final Set<Thing> modifiedThings = new HashSet<>();
@@ -78,6 +92,10 @@ public class TxCache{
     //We Track the number of concept connections which have been made which may result in a new shard
     private final Map<ConceptId, Long> shardingCount = new HashMap<>();
 
+    //We track the types whose instances, role players or attributes have changed so that session caches derived
+    // from the data of those types can be invalidated on commit
+    private final Set<Type> modifiedInstanceTypes = new HashSet<>();
+
     //New attributes are tracked so that we can merge any duplicate attributes in post.
     // This is a map of attribute indices to concept ids
     // The index and id are directly cached to prevent unneeded reads
@@ -86,9 +104,20 @@ public class TxCache{
     //Transaction Specific Meta Data
     private boolean isTxOpen = false;
     private boolean writeOccurred = false;
+    private boolean schemaMutated = false;
+    private long dataVersion = 0;
+    private int conceptCacheLimit = 0;
     private GraknTxType txType;
     private String closedReason = null;
 
+    //Concept Cache Metrics, per transaction and summed over all transactions in this process
+    private static final LongAdder totalConceptCacheHits = new LongAdder();
+    private static final LongAdder totalConceptCacheMisses = new LongAdder();
+    private static final LongAdder totalConceptCacheEvictions = new LongAdder();
+    private long conceptCacheHits = 0;
+    private long conceptCacheMisses = 0;
+    private long conceptCacheEvictions = 0;
+
     public TxCache(GlobalCache globalCache) {
         this.globalCache = globalCache;
     }
@@ -114,22 +143,46 @@ public class TxCache{
         writeOccurred = true;
     }
 
+    /**
+     * Notifies the cache that the schema has been mutated.
+     * This is later used to determine if the schema version of the {@link GlobalCache} should be incremented.
+     */
+    public void schemaMutated(){
+        schemaMutated = true;
+    }
+
+    /**
+     *
+     * @return true if the schema has been mutated in this transaction
+     */
+    public boolean isSchemaMutated(){
+        return schemaMutated;
+    }
+
     /**
      *
      * @return true if ths schema labels have been cached. The graph cannot operate if this is false.
      */
     public boolean schemaNotCached(){
-        return labelCache.isEmpty();
+        return labelCache.isEmpty() && schemaSnapshot.labels().isEmpty();
     }
 
     /**
-     * Refreshes the transaction schema cache by reading the central schema cache is read into this transaction cache.
-     * This method performs this operation whilst making a deep clone of the cached concepts to ensure transactions
-     * do not accidentally break the central schema cache.
+     * Refreshes the transaction schema cache by pinning the current {@link SchemaSnapshot} of the central schema cache.
+     * The snapshot is shared rather than copied. Concepts read from it are cached in this transaction on first
+     * access so that their transaction specific state can be cleared when the transaction closes.
      *
      */
     public void refreshSchemaCache(){
-        globalCache.populateSchemaTxCache(this);
+        schemaSnapshot = globalCache.pinSchema();
+    }
+
+    /**
+     *
+     * @return the {@link SchemaSnapshot} this transaction is reading the schema from
+     */
+    SchemaSnapshot pinnedSchema(){
+        return schemaSnapshot;
     }
 
     /**
@@ -138,6 +191,9 @@ public class TxCache{
      */
     public void trackForValidation(Concept concept) {
         if (concept.isThing()) {
+            pinThing(concept.getId());
+            //Data loaded in bulk is not validated
+            if (GraknTxType.BULK.equals(txType)) return;
             modifiedThings.add(concept.asThing());
         } else if (concept.isRole()) {
             modifiedRoles.add(concept.asRole());
@@ -148,9 +204,23 @@ public class TxCache{
         }
     }
     public void trackForValidation(Casting casting) {
+        //Data loaded in bulk is not validated
+        if (GraknTxType.BULK.equals(txType)) return;
         modifiedCastings.add(casting);
     }
 
+    /**
+     * Keeps a {@link Thing} cached until the transaction closes. This must be called for every {@link Thing} created
+     * in this transaction, so that there is only ever one object holding its transaction specific state.
+     *
+     * @param id The id of the {@link Thing} which has been created or modified in this transaction
+     */
+    public void pinThing(ConceptId id){
+        if(!pinnedThings.add(id)) return;
+        Concept concept = unmodifiedThingCache.remove(id);
+        if(concept != null) conceptCache.put(id, concept);
+    }
+
     public void removeFromValidation(Type type){
         if (type.isRelationshipType()) {
             modifiedRelationshipTypes.add(type.asRelationshipType());
@@ -167,7 +237,7 @@ public class TxCache{
 
     /**
      *
-     * @return All the types currently cached in the transaction. Used for
+     * @return All the types cached in the transaction on top of the pinned {@link SchemaSnapshot}.
      */
     Map<Label, SchemaConcept> getSchemaConceptCache(){
         return schemaConceptCache;
@@ -175,7 +245,7 @@ public class TxCache{
 
     /**
      *
-     * @return All the types labels currently cached in the transaction.
+     * @return All the types labels cached in the transaction on top of the pinned {@link SchemaSnapshot}.
      */
     Map<Label, LabelId> getLabelCache(){
         return labelCache;
@@ -183,12 +253,28 @@ public class TxCache{
 
     /**
      *
-     * @return All the concepts which have been accessed in this transaction
+     * @return All the labels of the pinned {@link SchemaSnapshot} which no longer exist in this transaction.
+     */
+    Set<Label> getRemovedLabels(){
+        return removedLabels;
+    }
+
+    /**
+     *
+     * @return All the schema concepts and created or modified things which have been accessed in this transaction
      */
     Map<ConceptId, Concept> getConceptCache() {
         return conceptCache;
     }
 
+    /**
+     *
+     * @return All the other things which have been accessed in this transaction and not evicted since
+     */
+    Map<ConceptId, Concept> getUnmodifiedThingCache() {
+        return unmodifiedThingCache;
+    }
+
     /**
      *
      * @param concept The concept to no longer track
@@ -204,10 +290,14 @@ public class TxCache{
         }
 
         conceptCache.remove(concept.getId());
+        unmodifiedThingCache.remove(concept.getId());
+        pinnedThings.remove(concept.getId());
         if (concept.isSchemaConcept()) {
             Label label = concept.asSchemaConcept().getLabel();
             schemaConceptCache.remove(label);
             labelCache.remove(label);
+            removedLabels.add(label);
+            removedSchemaConcepts.add(concept.getId());
         }
     }
 
@@ -217,14 +307,39 @@ public class TxCache{
      * @param concept The concept to be cached.
      */
     public void cacheConcept(Concept concept){
-        conceptCache.put(concept.getId(), concept);
         if(concept.isSchemaConcept()){
+            conceptCache.put(concept.getId(), concept);
             SchemaConcept schemaConcept = concept.asSchemaConcept();
             schemaConceptCache.put(schemaConcept.getLabel(), schemaConcept);
             labelCache.put(schemaConcept.getLabel(), schemaConcept.getLabelId());
+            removedLabels.remove(schemaConcept.getLabel());
+            removedSchemaConcepts.remove(concept.getId());
+        } else if(pinnedThings.contains(concept.getId())){
+            conceptCache.put(concept.getId(), concept);
+        } else {
+            unmodifiedThingCache.put(concept.getId(), concept);
+            evictThings();
         }
     }
 
+    /**
+     * Keeps the number of cached things which have not been created or modified in this transaction within
+     * {@link GlobalCache#txConceptCacheSize()}, as it was when the transaction was opened, by evicting the least
+     * recently used of them. Evicted things have their internal caches cleared and are rebuilt from the graph if they
+     * are needed again.
+     */
+    private void evictThings(){
+        if(conceptCacheLimit <= 0) return;
+
+        Iterator<Concept> things = unmodifiedThingCache.values().iterator();
+        while(unmodifiedThingCache.size() > conceptCacheLimit && things.hasNext()){
+            Concept thing = things.next();
+            things.remove();
+            CacheOwner.from(thing).txCacheClear();
+            conceptCacheEvictions++;
+            totalConceptCacheEvictions.increment();
+        }
+    }
 
     /**
      * Caches the mapping of a type label to a type id. This is necessary in order for ANY types to be looked up.
@@ -234,6 +349,7 @@ public class TxCache{
      */
     void cacheLabel(Label label, LabelId id){
         labelCache.put(label, id);
+        removedLabels.remove(label);
     }
 
     /**
@@ -243,7 +359,72 @@ public class TxCache{
      * @return true if the concept is cached
      */
     public boolean isConceptCached(ConceptId id){
-        return conceptCache.containsKey(id);
+        boolean isCached = conceptCache.containsKey(id) || unmodifiedThingCache.containsKey(id) ||
+                pinnedSchemaConcept(id) != null;
+        if(isCached){
+            conceptCacheHits++;
+            totalConceptCacheHits.increment();
+        } else {
+            conceptCacheMisses++;
+            totalConceptCacheMisses.increment();
+        }
+        return isCached;
+    }
+
+    /**
+     *
+     * @return The number of concepts currently cached in this transaction
+     */
+    public int conceptCacheSize(){
+        return conceptCache.size() + unmodifiedThingCache.size();
+    }
+
+    /**
+     *
+     * @return The number of lookups of concepts which were already cached since this cache was created
+     */
+    public long conceptCacheHitCount(){
+        return conceptCacheHits;
+    }
+
+    /**
+     *
+     * @return The number of lookups of concepts which were not cached since this cache was created
+     */
+    public long conceptCacheMissCount(){
+        return conceptCacheMisses;
+    }
+
+    /**
+     *
+     * @return The number of concepts evicted to keep this cache within its size since this cache was created
+     */
+    public long conceptCacheEvictionCount(){
+        return conceptCacheEvictions;
+    }
+
+    /**
+     *
+     * @return The number of lookups of concepts which were already cached in any transaction of this process
+     */
+    public static long totalConceptCacheHitCount(){
+        return totalConceptCacheHits.sum();
+    }
+
+    /**
+     *
+     * @return The number of lookups of concepts which were not cached in any transaction of this process
+     */
+    public static long totalConceptCacheMissCount(){
+        return totalConceptCacheMisses.sum();
+    }
+
+    /**
+     *
+     * @return The number of concepts evicted from the caches of all transactions of this process
+     */
+    public static long totalConceptCacheEvictionCount(){
+        return totalConceptCacheEvictions.sum();
     }
 
     /**
@@ -252,7 +433,7 @@ public class TxCache{
      * @return true if the concept is cached
      */
     public boolean isTypeCached(Label label){
-        return schemaConceptCache.containsKey(label);
+        return schemaConceptCache.containsKey(label) || pinnedSchemaConcept(label) != null;
     }
 
     /**
@@ -261,7 +442,7 @@ public class TxCache{
      * @return true if the label is cached and has a valid mapping to a id
      */
     public boolean isLabelCached(Label label){
-        return labelCache.containsKey(label);
+        return convertLabelToId(label) != null;
     }
 
     /**
@@ -272,8 +453,14 @@ public class TxCache{
      * @return The cached concept
      */
     public <X extends Concept> X getCachedConcept(ConceptId id){
+        Concept concept = conceptCache.get(id);
+        if(concept == null) concept = unmodifiedThingCache.get(id);
+        if(concept == null){
+            concept = pinnedSchemaConcept(id);
+            if(concept != null) cacheConcept(concept);
+        }
         //noinspection unchecked
-        return (X) conceptCache.get(id);
+        return (X) concept;
     }
 
     /**
@@ -284,12 +471,31 @@ public class TxCache{
      * @return The cached type
      */
     public <X extends SchemaConcept> X getCachedSchemaConcept(Label label){
+        SchemaConcept schemaConcept = schemaConceptCache.get(label);
+        if(schemaConcept == null){
+            schemaConcept = pinnedSchemaConcept(label);
+            if(schemaConcept != null) cacheConcept(schemaConcept);
+        }
         //noinspection unchecked
-        return (X) schemaConceptCache.get(label);
+        return (X) schemaConcept;
     }
 
     public LabelId convertLabelToId(Label label){
-        return labelCache.get(label);
+        LabelId labelId = labelCache.get(label);
+        if(labelId == null && !removedLabels.contains(label)) labelId = schemaSnapshot.labelId(label);
+        return labelId;
+    }
+
+    private SchemaConcept pinnedSchemaConcept(Label label){
+        if(removedLabels.contains(label)) return null;
+        SchemaConcept schemaConcept = schemaSnapshot.type(label);
+        if(schemaConcept == null || removedSchemaConcepts.contains(schemaConcept.getId())) return null;
+        return schemaConcept;
+    }
+
+    private SchemaConcept pinnedSchemaConcept(ConceptId id){
+        if(removedSchemaConcepts.contains(id)) return null;
+        return schemaSnapshot.type(id);
     }
 
     public void addedInstance(ConceptId conceptId){
@@ -300,6 +506,30 @@ public class TxCache{
         shardingCount.compute(conceptId, (key, value) -> value == null ? -1 : value - 1);
         cleanupShardingCount(conceptId);
     }
+    /**
+     *
+     * @param type The {@link Type} whose instances, or the role players or attributes of whose instances, have changed
+     */
+    public void modifiedInstances(Type type){
+        modifiedInstanceTypes.add(type);
+    }
+
+    /**
+     *
+     * @return All the {@link Type}s whose instances have changed in this transaction
+     */
+    public Set<Type> getModifiedInstanceTypes(){
+        return modifiedInstanceTypes;
+    }
+
+    /**
+     *
+     * @return true if data has been changed in this transaction
+     */
+    public boolean isDataMutated(){
+        return !modifiedInstanceTypes.isEmpty();
+    }
+
     private void cleanupShardingCount(ConceptId conceptId){
         if(shardingCount.get(conceptId) == 0) shardingCount.remove(conceptId);
     }
@@ -340,6 +570,7 @@ public class TxCache{
 
         //Clear Concept Caches
         conceptCache.values().forEach(concept -> CacheOwner.from(concept).txCacheClear());
+        unmodifiedThingCache.values().forEach(concept -> CacheOwner.from(concept).txCacheClear());
 
         //Clear Collection Caches
         modifiedThings.clear();
@@ -349,15 +580,32 @@ public class TxCache{
         modifiedCastings.clear();
         newAttributes.clear();
         shardingCount.clear();
+        modifiedInstanceTypes.clear();
         conceptCache.clear();
+        unmodifiedThingCache.clear();
+        pinnedThings.clear();
         schemaConceptCache.clear();
         labelCache.clear();
+        removedLabels.clear();
+        removedSchemaConcepts.clear();
+        schemaSnapshot = SchemaSnapshot.EMPTY;
+        schemaMutated = false;
     }
     public void openTx(GraknTxType txType){
         isTxOpen = true;
         this.txType = txType;
         closedReason = null;
+        dataVersion = globalCache.dataVersion();
+        conceptCacheLimit = globalCache.txConceptCacheSize();
+    }
+    /**
+     *
+     * @return the data version of the {@link GlobalCache} at the time the transaction was opened
+     */
+    public long dataVersion(){
+        return dataVersion;
     }
+
     public boolean isTxOpen(){
         return isTxOpen;
     }
@@ -38,6 +38,7 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import javax.annotation.Nullable;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -66,9 +67,22 @@ public class GraknComputerImpl implements GraknComputer {
     private final Class<? extends GraphComputer> graphComputerClass;
     private GraphComputer graphComputer = null;
     private boolean filterAllEdges = false;
+    private final GraknSparkGraphCache graphCache;
+    private final LongSupplier version;
 
     public GraknComputerImpl(Graph graph) {
+        this(graph, GraknSparkGraphCache.create(0, 0), () -> 0L);
+    }
+
+    /**
+     * @param graph the graph to run computations on
+     * @param graphCache the cache of the subgraphs loaded for computations, shared across a session
+     * @param version the current version of the knowledge base, used to tell when cached subgraphs are stale
+     */
+    public GraknComputerImpl(Graph graph, GraknSparkGraphCache graphCache, LongSupplier version) {
         this.graph = graph;
+        this.graphCache = graphCache;
+        this.version = version;
         if (graph instanceof TinkerGraph) {
             graphComputerClass = TinkerGraphComputer.class;
         } else {
@@ -88,6 +102,10 @@ public class GraknComputerImpl implements GraknComputer {
             }
             if (mapReduce != null) graphComputer.mapReduce(mapReduce);
             applyFilters(types, includesRolePlayerEdges);
+            if (graphCache.isEnabled() && graphComputer instanceof GraknSparkComputer) {
+                ((GraknSparkComputer) graphComputer).cacheLoadedGraph(graphCache, GraknSparkGraphCache.key(
+                        types, includesRolePlayerEdges, filterAllEdges, version.getAsLong()));
+            }
             return graphComputer.submit().get();
         } catch (InterruptedException | ExecutionException e) {
             throw asRuntimeException(e.getCause());
@@ -73,6 +73,7 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -110,6 +111,9 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
 
     private String jobGroupId = null;
 
+    private GraknSparkGraphCache graphCache = null;
+    private GraknSparkGraphCache.SubgraphKey subgraphKey = null;
+
     public GraknSparkComputer(final HadoopGraph hadoopGraph) {
         super(hadoopGraph);
         this.sparkConfiguration = new HadoopConfiguration();
@@ -141,6 +145,20 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
                 .runWithBackgroundThread(this::submitWithExecutor, "SparkSubmitter");
     }
 
+    /**
+     * Reuses the subgraph loaded by an earlier computation with the same key instead of loading it again. If there is
+     * none, the subgraph loaded by this computation is kept in the cache rather than unpersisted at the end.
+     *
+     * @param graphCache the cache of loaded subgraphs
+     * @param subgraphKey the key of the subgraph this computation runs on
+     * @return this computer
+     */
+    GraknSparkComputer cacheLoadedGraph(GraknSparkGraphCache graphCache, GraknSparkGraphCache.SubgraphKey subgraphKey) {
+        this.graphCache = graphCache;
+        this.subgraphKey = subgraphKey;
+        return this;
+    }
+
     public void cancelJobs() {
         if (jobGroupId != null) {
             Spark.getContext().cancelJobGroup(jobGroupId);
@@ -270,18 +288,25 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
             updateLocalConfiguration(sparkContext, hadoopConfiguration);
 
             // create a message-passing friendly rdd from the input rdd
+            // or reuse the one loaded by an earlier computation over the same subgraph
             boolean partitioned = false;
-            JavaPairRDD<Object, VertexWritable> loadedGraphRDD =
-                    inputRDD.readGraphRDD(graphComputerConfiguration, sparkContext);
+            final boolean cacheGraph = graphCache != null && !skipPersist && !inputFromSpark;
+            final Optional<JavaPairRDD<Object, VertexWritable>> cachedGraphRDD =
+                    cacheGraph ? graphCache.get(subgraphKey) : Optional.empty();
+            JavaPairRDD<Object, VertexWritable> loadedGraphRDD = cachedGraphRDD.isPresent() ?
+                    cachedGraphRDD.get() : inputRDD.readGraphRDD(graphComputerConfiguration, sparkContext);
 
             // if there are vertex or edge filters, filter the loaded graph rdd prior to partitioning and persisting
-            if (filtered) {
+            if (filtered && !cachedGraphRDD.isPresent()) {
                 this.logger.debug("Filtering the loaded graphRDD: " + this.graphFilter);
                 loadedGraphRDD = GraknSparkExecutor.applyGraphFilter(loadedGraphRDD, this.graphFilter);
             }
             // if the loaded graph RDD is already partitioned use that partitioner,
             // else partition it with HashPartitioner
-            if (loadedGraphRDD.partitioner().isPresent()) {
+            // a cached graph RDD has already been partitioned when it was loaded
+            if (cachedGraphRDD.isPresent()) {
+                this.logger.debug("Using the graphRDD cached by an earlier computation");
+            } else if (loadedGraphRDD.partitioner().isPresent()) {
                 this.logger.debug("Using the existing partitioner associated with the loaded graphRDD: " +
                         loadedGraphRDD.partitioner().get());
             } else {
@@ -303,7 +328,7 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
             }
             // if the loaded graphRDD was already partitioned previous,
             // then this coalesce/repartition will not take place
-            if (this.workersSet) {
+            if (this.workersSet && !cachedGraphRDD.isPresent()) {
                 // ensures that the loaded graphRDD does not have more partitions than workers
                 if (loadedGraphRDD.partitions().size() > this.workers) {
                     loadedGraphRDD = loadedGraphRDD.coalesce(this.workers);
@@ -316,7 +341,12 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
             }
             // persist the vertex program loaded graph as specified by configuration
             // or else use default cache() which is MEMORY_ONLY
-            if (!skipPersist && (!inputFromSpark || partitioned || filtered)) {
+            // a graph which is cached across computations is persisted by the cache instead
+            if (cacheGraph) {
+                if (!cachedGraphRDD.isPresent()) {
+                    loadedGraphRDD = graphCache.put(subgraphKey, loadedGraphRDD);
+                }
+            } else if (!skipPersist && (!inputFromSpark || partitioned || filtered)) {
                 loadedGraphRDD = loadedGraphRDD.persist(StorageLevel.fromString(hadoopConfiguration.get(
                         Constants.GREMLIN_SPARK_GRAPH_STORAGE_LEVEL, "MEMORY_ONLY")));
             }
@@ -450,9 +480,9 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
                     }
                 }
 
-                // unpersist the loaded graph if it will not be used again (no PersistedInputRDD)
+                // unpersist the loaded graph if it will not be used again (no PersistedInputRDD or graph cache)
                 // if the graphRDD was loaded from Spark, but then partitioned or filtered, its a different RDD
-                if (!inputFromSpark || partitioned || filtered) {
+                if (!cacheGraph && (!inputFromSpark || partitioned || filtered)) {
                     loadedGraphRDD.unpersist();
                 }
                 // unpersist the computed graph if it will not be used again (no PersistedOutputRDD)
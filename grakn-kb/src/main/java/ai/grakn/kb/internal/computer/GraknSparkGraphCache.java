@@ -0,0 +1,172 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import ai.grakn.concept.LabelId;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.collect.ImmutableSet;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.storage.StorageLevel;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.spark.structure.Spark;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     Caches the subgraphs loaded by {@link GraknSparkComputer}
+ * </p>
+ *
+ * <p>
+ *     Loading a subgraph reads the knowledge base from storage, filters it by type and partitions it, which often
+ *     takes longer than the computation itself. This cache keeps the loaded subgraphs of a session so that a sequence
+ *     of computations over the same subgraph only loads it once.
+ *
+ *     A subgraph is identified by the types it contains, the edges it includes and the version of the knowledge base
+ *     it was loaded at. The version changes whenever a transaction of the session which changed the schema or data
+ *     is committed. Changes made through other sessions are not tracked, so cached subgraphs are dropped after a
+ *     timeout which bounds how stale they can be.
+ *
+ *     Cached subgraphs are stored serialised, so computations cannot change the cached vertices, and are unpersisted
+ *     once they are evicted.
+ * </p>
+ *
+ * @author agent
+ */
+public class GraknSparkGraphCache {
+    private static final StorageLevel STORAGE_LEVEL = StorageLevel.MEMORY_AND_DISK_SER();
+
+    private final Cache<SubgraphKey, JavaPairRDD<Object, VertexWritable>> subgraphs;
+    private final boolean enabled;
+
+    private GraknSparkGraphCache(int maxSubgraphs, long timeoutMs){
+        RemovalListener<SubgraphKey, JavaPairRDD<Object, VertexWritable>> unpersist =
+                notification -> notification.getValue().unpersist(false);
+        this.enabled = maxSubgraphs > 0;
+        this.subgraphs = CacheBuilder.newBuilder()
+                .maximumSize(maxSubgraphs)
+                .expireAfterWrite(timeoutMs, TimeUnit.MILLISECONDS)
+                .removalListener(unpersist)
+                .build();
+    }
+
+    /**
+     * @param maxSubgraphs the maximum number of subgraphs kept loaded. If 0 no subgraphs are cached.
+     * @param timeoutMs how long a subgraph is kept after it has been loaded
+     * @return a new cache
+     */
+    public static GraknSparkGraphCache create(int maxSubgraphs, long timeoutMs){
+        return new GraknSparkGraphCache(maxSubgraphs, timeoutMs);
+    }
+
+    /**
+     * @return true if subgraphs are cached
+     */
+    public boolean isEnabled(){
+        return enabled;
+    }
+
+    /**
+     * Builds the key identifying a subgraph
+     *
+     * @param types the types of the instances in the subgraph, all instances are included if empty
+     * @param includesRolePlayerEdges whether the subgraph includes role player edges
+     * @param filterAllEdges whether the subgraph includes no edges at all
+     * @param version the version of the knowledge base the subgraph is loaded at
+     * @return the key of the subgraph
+     */
+    static SubgraphKey key(@Nullable Set<LabelId> types, boolean includesRolePlayerEdges, boolean filterAllEdges,
+                           long version){
+        return new SubgraphKey(types == null ? Collections.emptySet() : types,
+                includesRolePlayerEdges, filterAllEdges, version);
+    }
+
+    /**
+     * @param key the key of the subgraph
+     * @return the subgraph if it has been loaded before and is still persisted in the current spark context
+     */
+    Optional<JavaPairRDD<Object, VertexWritable>> get(SubgraphKey key){
+        if(!enabled) return Optional.empty();
+
+        JavaPairRDD<Object, VertexWritable> subgraph = subgraphs.getIfPresent(key);
+        if(subgraph != null && subgraph.context() != Spark.getContext()) {
+            subgraphs.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(subgraph);
+    }
+
+    /**
+     * Persists a loaded subgraph and keeps it until it is evicted
+     *
+     * @param key the key of the subgraph
+     * @param subgraph the loaded subgraph, which must not have been persisted yet
+     * @return the persisted subgraph
+     */
+    JavaPairRDD<Object, VertexWritable> put(SubgraphKey key, JavaPairRDD<Object, VertexWritable> subgraph){
+        JavaPairRDD<Object, VertexWritable> persisted = subgraph.persist(STORAGE_LEVEL);
+        subgraphs.put(key, persisted);
+        return persisted;
+    }
+
+    /**
+     * Unpersists all the cached subgraphs
+     */
+    public void clear(){
+        subgraphs.invalidateAll();
+    }
+
+    static final class SubgraphKey {
+        private final Set<LabelId> types;
+        private final boolean includesRolePlayerEdges;
+        private final boolean filterAllEdges;
+        private final long version;
+
+        private SubgraphKey(Set<LabelId> types, boolean includesRolePlayerEdges, boolean filterAllEdges, long version){
+            this.types = ImmutableSet.copyOf(types);
+            this.includesRolePlayerEdges = includesRolePlayerEdges;
+            this.filterAllEdges = filterAllEdges;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            SubgraphKey that = (SubgraphKey) o;
+            return includesRolePlayerEdges == that.includesRolePlayerEdges &&
+                    filterAllEdges == that.filterAllEdges &&
+                    version == that.version &&
+                    types.equals(that.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(types, includesRolePlayerEdges, filterAllEdges, version);
+        }
+    }
+}
@@ -151,6 +151,6 @@ public class AttributeImpl<D> extends ThingImpl<Attribute<D>, AttributeType<D>>
     }
 
     public static AttributeImpl from(Attribute attribute){
-        return (AttributeImpl) attribute;
+        return (AttributeImpl) ConceptHandle.unwrap(attribute);
     }
 }
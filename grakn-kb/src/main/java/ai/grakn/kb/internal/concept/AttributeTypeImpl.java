@@ -20,6 +20,7 @@ package ai.grakn.kb.internal.concept;
 
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.util.Schema;
@@ -27,6 +28,7 @@ import ai.grakn.util.Schema;
 import javax.annotation.Nullable;
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -128,8 +130,24 @@ public class AttributeTypeImpl<D> extends TypeImpl<AttributeType<D>, Attribute<D
             return vertex().tx().factory().buildAttribute(vertex, type, value);
         };
 
-        return putInstance(Schema.BaseType.ATTRIBUTE,
-                () -> getAttribute(value), instanceBuilder, isInferred);
+        //When bulk loading only attributes created in this transaction are reused, others are merged in post processing
+        Supplier<Attribute<D>> finder = vertex().tx().isBulkTx()? () -> getNewAttribute(value) : () -> getAttribute(value);
+
+        return putInstance(Schema.BaseType.ATTRIBUTE, finder, instanceBuilder, isInferred);
+    }
+
+    /**
+     * Looks up an {@link Attribute} amongst the attributes created in the current transaction without reading
+     * the graph.
+     *
+     * @param value The value of the {@link Attribute}
+     * @return The {@link Attribute} with the value if it was created in the current transaction, otherwise null
+     */
+    @Nullable
+    private Attribute<D> getNewAttribute(D value){
+        String index = Schema.generateAttributeIndex(getLabel(), value.toString());
+        ConceptId id = vertex().tx().txCache().getNewAttributes().get(index);
+        return id == null? null : vertex().tx().getConcept(id);
     }
 
     /**
@@ -0,0 +1,113 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.concept;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.util.CommonUtil;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ *     A lazy handle on a {@link ai.grakn.concept.Thing}
+ * </p>
+ *
+ * <p>
+ *     The handle only holds the {@link ConceptId} of the {@link Concept} and a way of building it from the
+ *     already retrieved vertex or edge. {@link Concept#getId()}, {@link Object#equals(Object)} and
+ *     {@link Object#hashCode()} are answered by the handle itself. Any other call builds the full {@link Concept}
+ *     once and is delegated to it. This avoids constructing concepts for answers which are only counted or identified.
+ * </p>
+ *
+ * @author agent
+ */
+final class ConceptHandle implements InvocationHandler {
+    private final ConceptId conceptId;
+    private final Supplier<? extends Optional<? extends Concept>> builder;
+    private Concept concept = null;
+
+    private ConceptHandle(ConceptId conceptId, Supplier<? extends Optional<? extends Concept>> builder){
+        this.conceptId = conceptId;
+        this.builder = builder;
+    }
+
+    /**
+     * @param type The {@link Concept} interface the handle should implement
+     * @param conceptId The {@link ConceptId} of the {@link Concept}
+     * @param builder Builds the full {@link Concept} when it is first needed
+     * @return A {@link Concept} of the provided type which is built lazily
+     */
+    @SuppressWarnings("unchecked")
+    static <X extends Concept> X create(Class<? extends Concept> type, ConceptId conceptId, Supplier<? extends Optional<? extends Concept>> builder){
+        return (X) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, new ConceptHandle(conceptId, builder));
+    }
+
+    /**
+     * Helper used wherever the internal implementation of a {@link Concept} is required.
+     *
+     * @param concept A {@link Concept} which may be a lazy handle
+     * @return The full {@link Concept} behind the handle or the provided {@link Concept} if it is not a handle
+     */
+    @SuppressWarnings("unchecked")
+    static <X extends Concept> X unwrap(X concept){
+        if(concept != null && Proxy.isProxyClass(concept.getClass())){
+            InvocationHandler handler = Proxy.getInvocationHandler(concept);
+            if(handler instanceof ConceptHandle) return (X) ((ConceptHandle) handler).concept();
+        }
+        return concept;
+    }
+
+    private Concept concept(){
+        if(concept == null){
+            concept = builder.get().orElseThrow(() ->
+                    CommonUtil.unreachableStatement("Could not build concept [" + conceptId + "] from its handle"));
+        }
+        return concept;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        int numArgs = args == null ? 0 : args.length;
+        switch (method.getName()){
+            case "getId":
+                if(numArgs == 0) return conceptId;
+                break;
+            case "hashCode":
+                if(numArgs == 0) return conceptId.hashCode();
+                break;
+            case "equals":
+                if(numArgs == 1) return proxy == args[0] || (args[0] instanceof Concept && conceptId.equals(((Concept) args[0]).getId()));
+                break;
+            default:
+                break;
+        }
+
+        try {
+            return method.invoke(concept(), args);
+        } catch (InvocationTargetException e){
+            throw e.getCause();
+        }
+    }
+}
@@ -107,6 +107,14 @@ public abstract class ConceptImpl implements Concept, ConceptVertex, CacheOwner{
         vertex().delete();
     }
 
+    /**
+     * Only {@link ai.grakn.concept.SchemaConcept}s are shared between transactions
+     */
+    @Override
+    public boolean isTxBound(){
+        return !isSchemaConcept();
+    }
+
     @Override
     public Collection<Cache> caches(){
         return registeredCaches;
@@ -155,7 +163,7 @@ public abstract class ConceptImpl implements Concept, ConceptVertex, CacheOwner{
         } else{
             VertexElement[] targets = new VertexElement[to.length];
             for (int i = 0; i < to.length; i++) {
-                targets[i] = ((ConceptImpl)to[i]).vertex();
+                targets[i] = ConceptVertex.from(to[i]).vertex();
             }
             vertex().deleteEdge(direction, label, targets);
         }
@@ -186,6 +194,7 @@ public abstract class ConceptImpl implements Concept, ConceptVertex, CacheOwner{
     @Override
     public boolean equals(Object object) {
         if (this == object) return true;
+        if (object instanceof Concept) object = ConceptHandle.unwrap((Concept) object);
         if (object == null || getClass() != object.getClass()) return false;
 
         ConceptImpl concept = (ConceptImpl) object;
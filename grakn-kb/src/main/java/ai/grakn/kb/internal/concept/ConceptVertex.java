@@ -39,6 +39,6 @@ public interface ConceptVertex {
     VertexElement vertex();
 
     static ConceptVertex from(Concept concept){
-        return (ConceptVertex) concept;
+        return (ConceptVertex) ConceptHandle.unwrap(concept);
     }
 }
@@ -18,10 +18,13 @@
 
 package ai.grakn.kb.internal.concept;
 
+import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
+import ai.grakn.concept.Relationship;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.Rule;
@@ -234,6 +237,57 @@ public final class ElementFactory {
         return Optional.of(tx.txCache().getCachedConcept(conceptId));
     }
 
+    /**
+     * Builds a lazy handle on the {@link ai.grakn.concept.Thing} represented by a {@link Vertex}.
+     * Only the {@link ConceptId} is read. The full {@link Concept} is built when the handle is first used for
+     * anything else. Schema concepts and concepts already cached in the transaction are returned directly.
+     *
+     * @param vertex A vertex which contains properties necessary to build a concept from
+     * @return A {@link Concept} which is built lazily
+     */
+    public <X extends Concept> Optional<X> buildConceptHandle(Vertex vertex){
+        return buildVertexElement(vertex).flatMap(this::buildConceptHandle);
+    }
+
+    private <X extends Concept> Optional<X> buildConceptHandle(VertexElement vertexElement){
+        Optional<Class<? extends Concept>> type = thingInterface(vertexElement.label());
+        if(!type.isPresent()) return buildConcept(vertexElement);
+
+        ConceptId conceptId = ConceptId.of(vertexElement.property(Schema.VertexProperty.ID));
+        if(tx.txCache().isConceptCached(conceptId)) return Optional.of(tx.txCache().getCachedConcept(conceptId));
+
+        return Optional.of(ConceptHandle.create(type.get(), conceptId, () -> this.<Concept>buildConcept(vertexElement)));
+    }
+
+    /**
+     * Builds a lazy handle on the {@link Relationship} represented by an {@link Edge}.
+     *
+     * @param edge An {@link Edge} which contains properties necessary to build a {@link Concept} from
+     * @return A {@link Concept} which is built lazily
+     */
+    public <X extends Concept> Optional<X> buildConceptHandle(Edge edge){
+        EdgeElement edgeElement = buildEdgeElement(edge);
+        if(!Schema.EdgeLabel.ATTRIBUTE.name().equals(edgeElement.label().toUpperCase(Locale.getDefault()))){
+            return buildConcept(edgeElement);
+        }
+
+        ConceptId conceptId = ConceptId.of(edgeElement.id().getValue());
+        if(tx.txCache().isConceptCached(conceptId)) return Optional.of(tx.txCache().getCachedConcept(conceptId));
+
+        return Optional.of(ConceptHandle.create(Relationship.class, conceptId, () -> this.<Concept>buildConcept(edgeElement)));
+    }
+
+    /**
+     * @param label The label of a vertex
+     * @return The {@link Concept} interface of the vertex if it is a {@link ai.grakn.concept.Thing} with a valid label
+     */
+    private static Optional<Class<? extends Concept>> thingInterface(String label){
+        if(Schema.BaseType.ENTITY.name().equals(label)) return Optional.of(Entity.class);
+        if(Schema.BaseType.RELATIONSHIP.name().equals(label)) return Optional.of(Relationship.class);
+        if(Schema.BaseType.ATTRIBUTE.name().equals(label)) return Optional.of(Attribute.class);
+        return Optional.empty();
+    }
+
     /**
      * This is a helper method to get the base type of a vertex.
      * It first tried to get the base type via the label.
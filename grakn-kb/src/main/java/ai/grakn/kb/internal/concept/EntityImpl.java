@@ -55,6 +55,6 @@ public class EntityImpl extends ThingImpl<Entity, EntityType> implements Entity
     }
 
     public static EntityImpl from(Entity entity){
-        return (EntityImpl) entity;
+        return (EntityImpl) ConceptHandle.unwrap(entity);
     }
 }
\ No newline at end of file
@@ -0,0 +1,243 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.concept;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Type;
+import ai.grakn.kb.internal.structure.Shard;
+import ai.grakn.util.Schema;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>
+ *     Scans the instances of a {@link Type} in parallel, one {@link Shard} per task
+ * </p>
+ *
+ * <p>
+ *     Transactions are bound to the thread which opened them, so every task reads its {@link Shard} in a read
+ *     transaction of its own on a bounded pool of threads. Tasks only hand over the {@link ConceptId}s of the
+ *     instances, which the caller builds into concepts in its own transaction. As tasks only see committed data a
+ *     scan is only split when the transaction of the caller has not changed any data.
+ * </p>
+ *
+ * @author agent
+ */
+public class ParallelShardScan {
+
+    private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int BUFFER_SIZE = 1000;
+    private static final long OFFER_WAIT_MS = 100;
+    //A scan whose answers have not been read for this long is assumed to be abandoned and its tasks stop
+    private static final long ABANDONED_AFTER_MS = 60 * 1000;
+
+    private static final ThreadPoolExecutor scanners = new ThreadPoolExecutor(THREADS, THREADS,
+            1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("shard-scan-%d").setDaemon(true).build());
+
+    static {
+        scanners.allowCoreThreadTimeOut(true);
+    }
+
+    private static final Object SHARD_DONE = new Object();
+
+    private ParallelShardScan(){}
+
+    /**
+     * A scan is only worth splitting when there is more than one {@link Shard} to spread over the tasks. Implicit
+     * relationship types are never split, because some of their instances are edges which do not belong to a
+     * {@link Shard}.
+     *
+     * @param tx the transaction of the caller
+     * @param type the {@link Type} to scan the instances of, including the instances of its subtypes
+     * @return true if the scan can be split by {@link Shard}
+     */
+    public static boolean canSplit(GraknTx tx, Type type){
+        if (tx.admin().isDataMutated() || type.subs().anyMatch(SchemaConcept::isImplicit)) return false;
+        return type.subs().mapToLong(sub -> tx.admin().getShardCount(sub)).sum() > 1;
+    }
+
+    /**
+     * Scans the {@link Shard}s in parallel and merges the {@link ConceptId}s they contain into one stream.
+     * The tasks stop once the given number of {@link ConceptId}s has been read, once the stream is closed or once
+     * the stream has not been read for a while.
+     *
+     * @param tx the transaction of the caller
+     * @param type the {@link Type} to scan the instances of, including the instances of its subtypes
+     * @param limit the most {@link ConceptId}s the caller is going to read
+     * @return the {@link ConceptId}s of the instances, in no particular order
+     */
+    public static Stream<ConceptId> instanceIds(GraknTx tx, Type type, long limit){
+        GraknSession session = tx.session();
+        List<String> shardIds = shardIds(type);
+
+        BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        AtomicLong lastRead = new AtomicLong(System.currentTimeMillis());
+
+        shardIds.forEach(shardId -> scanners.execute(() -> {
+            try {
+                readShard(session, shardId, instances -> {
+                    Iterator<Vertex> iterator = instances.iterator();
+                    while (!stopped.get() && iterator.hasNext()) {
+                        offer(buffer, ConceptId.of(iterator.next().<String>value(Schema.VertexProperty.ID.name())), stopped, lastRead);
+                    }
+                    return null;
+                });
+                offer(buffer, SHARD_DONE, stopped, lastRead);
+            } catch (RuntimeException e) {
+                offer(buffer, e, stopped, lastRead);
+            }
+        }));
+
+        Iterator<ConceptId> merged = new Iterator<ConceptId>() {
+            private int shardsDone = 0;
+            private long read = 0;
+            private ConceptId next = null;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && shardsDone < shardIds.size() && read < limit) {
+                    Object item = take(buffer, stopped);
+                    lastRead.set(System.currentTimeMillis());
+                    if (item == SHARD_DONE) {
+                        shardsDone++;
+                    } else if (item instanceof RuntimeException) {
+                        stopped.set(true);
+                        throw (RuntimeException) item;
+                    } else {
+                        next = (ConceptId) item;
+                    }
+                }
+                if (next == null) stopped.set(true);
+                return next != null;
+            }
+
+            @Override
+            public ConceptId next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                ConceptId id = next;
+                next = null;
+                if (++read >= limit) stopped.set(true);
+                return id;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.DISTINCT | Spliterator.NONNULL), false).
+                onClose(() -> stopped.set(true));
+    }
+
+    /**
+     * Counts the instances of every {@link Shard} in parallel.
+     *
+     * @param tx the transaction of the caller
+     * @param type the {@link Type} to count the instances of, including the instances of its subtypes
+     * @return the number of instances of the {@link Type}
+     */
+    public static long count(GraknTx tx, Type type){
+        GraknSession session = tx.session();
+        List<Future<Long>> counts = shardIds(type).stream().
+                map(shardId -> scanners.submit(() -> readShard(session, shardId, Stream::count))).
+                collect(toList());
+
+        long count = 0;
+        try {
+            for (Future<Long> shardCount : counts) count += shardCount.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        } finally {
+            counts.forEach(shardCount -> shardCount.cancel(true));
+        }
+        return count;
+    }
+
+    private static List<String> shardIds(Type type){
+        return type.subs().
+                flatMap(sub -> TypeImpl.from(sub).instanceShards()).
+                map(Shard::id).
+                collect(toList());
+    }
+
+    private static <X> X readShard(GraknSession session, String shardId, Function<Stream<Vertex>, X> reader){
+        try (GraknTx tx = session.open(GraknTxType.READ)) {
+            Stream<Vertex> instances = tx.admin().getTinkerTraversal().V().
+                    has(Schema.VertexProperty.ID.name(), shardId).
+                    in(Schema.EdgeLabel.ISA.getLabel()).
+                    toStream();
+            return reader.apply(instances);
+        }
+    }
+
+    /**
+     * Waits for space in the buffer until the scan is stopped. A scan which has not been read for a while is stopped.
+     */
+    private static void offer(BlockingQueue<Object> buffer, Object item, AtomicBoolean stopped, AtomicLong lastRead){
+        try {
+            while (!stopped.get()) {
+                if (buffer.offer(item, OFFER_WAIT_MS, TimeUnit.MILLISECONDS)) return;
+                if (System.currentTimeMillis() - lastRead.get() > ABANDONED_AFTER_MS) stopped.set(true);
+            }
+        } catch (InterruptedException e) {
+            stopped.set(true);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Object take(BlockingQueue<Object> buffer, AtomicBoolean stopped){
+        try {
+            while (true) {
+                Object item = buffer.poll(OFFER_WAIT_MS, TimeUnit.MILLISECONDS);
+                if (item != null) return item;
+                if (stopped.get()) throw new IllegalStateException("The scan was stopped because it was not read for too long");
+            }
+        } catch (InterruptedException e) {
+            stopped.set(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -94,6 +94,8 @@ public class RelationshipEdge implements RelationshipStructure, CacheOwner {
         this.relationType.set(relationshipType);
         this.ownerRole.set(ownerRole);
         this.valueRole.set(valueRole);
+
+        edgeElement.tx().txCache().pinThing(getId());
     }
 
     public static RelationshipEdge get(EdgeElement edgeElement){
@@ -182,6 +184,7 @@ public class RelationshipEdge implements RelationshipStructure, CacheOwner {
 
     @Override
     public void delete() {
+        edge().tx().txCache().modifiedInstances(type());
         edge().delete();
     }
 
@@ -202,6 +205,11 @@ public class RelationshipEdge implements RelationshipStructure, CacheOwner {
                 "Role [" + valueRole().getLabel() + "] played by [" + value().getId() + "] \n";
     }
 
+    @Override
+    public boolean isTxBound(){
+        return true;
+    }
+
     @Override
     public Collection<Cache> caches() {
         return registeredCaches;
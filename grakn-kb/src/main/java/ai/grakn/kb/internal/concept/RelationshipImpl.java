@@ -207,6 +207,7 @@ public class RelationshipImpl implements Relationship, ConceptVertex, CacheOwner
     @Override
     public boolean equals(Object object) {
         if (this == object) return true;
+        if (object instanceof Concept) object = ConceptHandle.unwrap((Concept) object);
         if (object == null || getClass() != object.getClass()) return false;
         return getId().equals(((RelationshipImpl) object).getId());
     }
@@ -252,7 +253,7 @@ public class RelationshipImpl implements Relationship, ConceptVertex, CacheOwner
     }
 
     public static RelationshipImpl from(Relationship relationship){
-        return (RelationshipImpl) relationship;
+        return (RelationshipImpl) ConceptHandle.unwrap(relationship);
     }
 
     @Override
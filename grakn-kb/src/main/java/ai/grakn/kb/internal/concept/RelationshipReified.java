@@ -113,24 +113,13 @@ public class RelationshipReified extends ThingImpl<Relationship, RelationshipTyp
      * If the edge does not exist then it adds a {@link Schema.EdgeLabel#ROLE_PLAYER} edge from
      * this {@link Relationship} to a target {@link Thing} which is playing some {@link Role}.
      *
-     * If the edge does exist nothing is done.
+     * If the edge does exist nothing is done. When bulk loading the graph is not checked for an existing edge.
      *
      * @param role The {@link Role} being played by the {@link Thing} in this {@link Relationship}
      * @param toThing The {@link Thing} playing a {@link Role} in this {@link Relationship}
      */
     public void putRolePlayerEdge(Role role, Thing toThing) {
-        //Checking if the edge exists
-        GraphTraversal<Vertex, Edge> traversal = vertex().tx().getTinkerTraversal().V().
-                has(Schema.VertexProperty.ID.name(), this.getId().getValue()).
-                outE(Schema.EdgeLabel.ROLE_PLAYER.getLabel()).
-                has(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name(), this.type().getLabelId().getValue()).
-                has(Schema.EdgeProperty.ROLE_LABEL_ID.name(), role.getLabelId().getValue()).
-                as("edge").
-                inV().
-                has(Schema.VertexProperty.ID.name(), toThing.getId()).
-                select("edge");
-
-        if(traversal.hasNext()){
+        if(!vertex().tx().isBulkTx() && rolePlayerEdgeExists(role, toThing)){
             return;
         }
 
@@ -140,6 +129,28 @@ public class RelationshipReified extends ThingImpl<Relationship, RelationshipTyp
         edge.property(Schema.EdgeProperty.ROLE_LABEL_ID, role.getLabelId().getValue());
         Casting casting = Casting.create(edge, owner, role, toThing);
         vertex().tx().txCache().trackForValidation(casting);
+        vertex().tx().txCache().modifiedInstances(type());
+    }
+
+    /**
+     * Checks if a {@link Schema.EdgeLabel#ROLE_PLAYER} edge already connects this {@link Relationship} to a
+     * {@link Thing} playing a {@link Role}.
+     *
+     * @param role The {@link Role} being played by the {@link Thing} in this {@link Relationship}
+     * @param toThing The {@link Thing} playing a {@link Role} in this {@link Relationship}
+     * @return true if the edge exists
+     */
+    private boolean rolePlayerEdgeExists(Role role, Thing toThing){
+        GraphTraversal<Vertex, Edge> traversal = vertex().tx().getTinkerTraversal().V().
+                has(Schema.VertexProperty.ID.name(), this.getId().getValue()).
+                outE(Schema.EdgeLabel.ROLE_PLAYER.getLabel()).
+                has(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name(), this.type().getLabelId().getValue()).
+                has(Schema.EdgeProperty.ROLE_LABEL_ID.name(), role.getLabelId().getValue()).
+                as("edge").
+                inV().
+                has(Schema.VertexProperty.ID.name(), toThing.getId()).
+                select("edge");
+        return traversal.hasNext();
     }
 
     /**
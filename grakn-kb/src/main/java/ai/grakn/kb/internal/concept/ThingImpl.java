@@ -98,6 +98,7 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
     ThingImpl(VertexElement vertexElement, V type) {
         this(vertexElement);
         type((TypeImpl) type);
+        vertex().tx().txCache().pinThing(getId());
         track();
     }
 
@@ -128,6 +129,7 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
         }).collect(Collectors.toSet());
 
         vertex().tx().txCache().removedInstance(type().getId());
+        vertex().tx().txCache().modifiedInstances(type());
         deleteNode();
 
         relationships.forEach(relation -> {
@@ -298,6 +300,7 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
         }
 
         EdgeElement attributeEdge = addEdge(AttributeImpl.from(attribute), Schema.EdgeLabel.ATTRIBUTE);
+        vertex().tx().txCache().modifiedInstances(hasAttribute);
         if(isInferred) attributeEdge.property(Schema.EdgeProperty.IS_INFERRED, true);
         return vertex().tx().factory().buildRelation(attributeEdge, hasAttribute, hasAttributeOwner, hasAttributeValue);
     }
@@ -134,6 +134,7 @@ public class TypeImpl<T extends Type, V extends Thing> extends SchemaConceptImpl
         VertexElement instanceVertex = vertex().tx().addVertexElement(instanceBaseType);
         if(!Schema.MetaSchema.isMetaLabel(getLabel())) {
             vertex().tx().txCache().addedInstance(getId());
+            vertex().tx().txCache().modifiedInstances(this);
             if(isInferred) instanceVertex.property(Schema.VertexProperty.IS_INFERRED, true);
         }
         V instance = producer.apply(instanceVertex, getThis());
@@ -227,15 +228,28 @@ public class TypeImpl<T extends Type, V extends Thing> extends SchemaConceptImpl
     @SuppressWarnings("unchecked")
     @Override
     public Stream<V> instances() {
-        return subs().flatMap(sub -> TypeImpl.<T, V>from(sub).instancesDirect());
+        return CommonUtil.flatMapLazily(subs(), sub -> TypeImpl.<T, V>from(sub).instancesDirect());
     }
 
+    /**
+     * Scans the {@link Shard}s of this type one at a time, so a limited scan stops within the first shard
+     * which satisfies it rather than loading every instance of a sharded type.
+     *
+     * @return All the direct instances of this type.
+     */
     Stream<V> instancesDirect(){
-        return vertex().getEdgesOfType(Direction.IN, Schema.EdgeLabel.SHARD).
-                map(EdgeElement::source).
-                flatMap(CommonUtil::optionalToStream).
-                map(source -> vertex().tx().factory().buildShard(source)).
-                flatMap(Shard::<V>links);
+        return CommonUtil.flatMapLazily(instanceShards(), Shard::<V>links);
+    }
+
+    /**
+     * Splits the instances of this type by {@link Shard}. Each split can be scanned independently via
+     * {@link Shard#links()}.
+     *
+     * @return The {@link Shard}s of this type, starting with the current shard which is the one most recently written to
+     */
+    public Stream<Shard> instanceShards(){
+        Shard current = currentShard();
+        return Stream.concat(Stream.of(current), shards().filter(shard -> !shard.equals(current)));
     }
 
     @Override
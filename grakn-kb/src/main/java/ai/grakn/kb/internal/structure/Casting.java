@@ -92,6 +92,11 @@ public class Casting implements CacheOwner{
         return edgeElement;
     }
 
+    @Override
+    public boolean isTxBound(){
+        return true;
+    }
+
     @Override
     public Collection<Cache> caches(){
         return registeredCaches;
@@ -141,6 +146,7 @@ public class Casting implements CacheOwner{
      * Deletes this {@link Casting} effectively removing a {@link Thing} from playing a {@link Role} in a {@link Relationship}
      */
     public void delete(){
+        edge().tx().txCache().modifiedInstances(getRelationshipType());
         edge().delete();
     }
 
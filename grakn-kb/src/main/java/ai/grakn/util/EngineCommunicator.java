@@ -32,6 +32,7 @@ import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 
 /**
@@ -59,6 +60,18 @@ public class EngineCommunicator {
      * @return The result of the request
      */
     public static String contactEngine(Optional<URI> engineUri, String restType, @Nullable String body){
+        return contactEngine(engineUri, restType, body, false);
+    }
+
+    /**
+     *
+     * @param engineUri The location of engine.
+     * @param restType The type of request to make to engine.
+     * @param body The body to attach to the request
+     * @param gzip Whether the body should be gzip compressed
+     * @return The result of the request
+     */
+    public static String contactEngine(Optional<URI> engineUri, String restType, @Nullable String body, boolean gzip){
         if(!engineUri.isPresent()) {
             return "Engine not contacted due to in memory graph being used";
         }
@@ -72,8 +85,15 @@ public class EngineCommunicator {
 
                 if (body != null) {
                     connection.setDoOutput(true);
-                    try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
-                        wr.write(body.getBytes(StandardCharsets.UTF_8));
+                    if (gzip) {
+                        connection.setRequestProperty("Content-Encoding", "gzip");
+                        try (GZIPOutputStream wr = new GZIPOutputStream(connection.getOutputStream())) {
+                            wr.write(body.getBytes(StandardCharsets.UTF_8));
+                        }
+                    } else {
+                        try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
+                            wr.write(body.getBytes(StandardCharsets.UTF_8));
+                        }
                     }
                 }
 
@@ -34,6 +34,7 @@ import ai.grakn.concept.Type;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.kb.internal.concept.EntityTypeImpl;
+import ai.grakn.kb.internal.concept.ParallelShardScan;
 import ai.grakn.kb.internal.structure.Shard;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
@@ -56,6 +57,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -238,6 +240,43 @@ public class GraknTxTest extends TxTestBase {
         assertTrue("Main cache was affected by transaction", foundE1.asType().plays().anyMatch(role -> role.equals(r1)));
     }
 
+    @Test
+    public void whenSchemaIsMutatedInAnotherTransaction_OpenTransactionKeepsReadingTheSchemaItStartedWith() throws ExecutionException, InterruptedException {
+        tx.putEntityType("e1");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.keyspace()).open(GraknTxType.WRITE);
+        long version = tx.getGlobalCache().schemaVersion();
+        assertNotNull(tx.getEntityType("e1"));
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        pool.submit(() -> {
+            GraknTx innerGraph = Grakn.session(Grakn.IN_MEMORY, tx.keyspace()).open(GraknTxType.WRITE);
+            innerGraph.putEntityType("e2");
+            innerGraph.commit();
+        }).get();
+
+        //The committed schema mutation is published as a new snapshot
+        assertTrue(tx.getGlobalCache().schemaVersion() > version);
+        assertTrue(tx.getGlobalCache().getCachedTypes().containsKey(Label.of("e2")));
+
+        //The open transaction still reads from the snapshot it pinned
+        assertFalse(tx.txCache().isLabelCached(Label.of("e2")));
+        assertTrue(tx.txCache().isTypeCached(Label.of("e1")));
+    }
+
+    @Test
+    public void whenCommittingWithoutMutatingTheSchema_SchemaVersionIsUnchanged(){
+        tx.putEntityType("e1");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.keyspace()).open(GraknTxType.WRITE);
+        long version = tx.getGlobalCache().schemaVersion();
+
+        tx.getEntityType("e1").addEntity();
+        tx.commit();
+
+        assertEquals(version, tx.getGlobalCache().schemaVersion());
+    }
+
     @Test
     public void whenClosingAGraphWhichWasJustCommitted_DoNothing(){
         tx.commit();
@@ -325,6 +364,25 @@ public class GraknTxTest extends TxTestBase {
         failAtOpeningTx(session, GraknTxType.READ, keyspace);
     }
 
+    @Test
+    public void whenPuttingTheSameAttributeTwiceInABulkTx_ReturnTheSameAttribute(){
+        GraknSession session = Grakn.session(Grakn.IN_MEMORY, "bulkkeyspace");
+        try(GraknTx graph = session.open(GraknTxType.WRITE)){
+            graph.putAttributeType("name", AttributeType.DataType.STRING);
+            graph.commit();
+        }
+
+        try(GraknTx graph = session.open(GraknTxType.BULK)){
+            assertTrue(graph.admin().isBatchTx());
+            assertTrue(((GraknTxAbstract) graph).isBulkTx());
+
+            AttributeType<String> name = graph.getAttributeType("name");
+            Attribute<String> a1 = name.putAttribute("Bob");
+            Attribute<String> a2 = name.putAttribute("Bob");
+            assertEquals(a1, a2);
+        }
+    }
+
     private void failAtOpeningTx(GraknSession session, GraknTxType txType, String keyspace){
         Exception exception = null;
         try{
@@ -408,6 +466,39 @@ public class GraknTxTest extends TxTestBase {
         assertEquals(2L, tx.admin().getShardCount(entity));
     }
 
+    @Test
+    public void whenScanningInstancesOfAShardedType_StartWithTheCurrentShardAndIncludeAllShards(){
+        EntityTypeImpl entityType = (EntityTypeImpl) tx.putEntityType("The Sharded Type");
+        Entity e1 = entityType.addEntity();
+        tx.admin().shard(entityType.getId());
+        Entity e2 = entityType.addEntity();
+        Entity e3 = entityType.addEntity();
+
+        assertEquals(entityType.currentShard(), entityType.instanceShards().findFirst().get());
+        assertEquals(2L, entityType.instanceShards().count());
+        assertThat(entityType.instances().collect(toSet()), containsInAnyOrder(e1, e2, e3));
+        assertThat(entityType.instances().limit(2).collect(toSet()), containsInAnyOrder(e2, e3));
+    }
+
+    @Test
+    public void whenScanningInstancesOfAShardedTypeInParallel_AllInstancesAreFoundAndCounted(){
+        EntityType entityType = tx.putEntityType("The Sharded Type");
+        Entity e1 = entityType.addEntity();
+        tx.admin().shard(entityType.getId());
+        Entity e2 = entityType.addEntity();
+        Entity e3 = entityType.addEntity();
+        tx.commit();
+
+        tx();
+        EntityType shardedType = tx.getEntityType("The Sharded Type");
+
+        assertTrue(ParallelShardScan.canSplit(tx, shardedType));
+        assertThat(ParallelShardScan.instanceIds(tx, shardedType, Long.MAX_VALUE).collect(toSet()),
+                containsInAnyOrder(e1.getId(), e2.getId(), e3.getId()));
+        assertEquals(2L, ParallelShardScan.instanceIds(tx, shardedType, 2).count());
+        assertEquals(3L, ParallelShardScan.count(tx, shardedType));
+    }
+
     @Test
     public void whenGettingSupsOfASchemaConcept_ResultIncludesMetaThing() {
         EntityType yes = tx.putEntityType("yes");
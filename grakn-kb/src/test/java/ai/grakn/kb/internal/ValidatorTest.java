@@ -20,6 +20,7 @@ package ai.grakn.kb.internal;
 
 import ai.grakn.Grakn;
 import ai.grakn.GraknTxType;
+import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
@@ -41,6 +42,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -548,4 +550,23 @@ public class ValidatorTest extends TxTestBase {
         tx.commit();
     }
 
+    @Test
+    public void whenValidatingManyThingsOfTheSameType_OnlyThingsWithoutExactlyOneKeyAreReported() {
+        AttributeType<String> name = tx.putAttributeType("name", AttributeType.DataType.STRING);
+        EntityType entityType = tx.putEntityType("my-entity").key(name);
+
+        Entity withKey = entityType.addEntity().attribute(name.putAttribute("a"));
+        Entity withoutKey = entityType.addEntity();
+        Entity withTwoKeys = entityType.addEntity().attribute(name.putAttribute("b")).attribute(name.putAttribute("c"));
+
+        Validator validator = new Validator(tx);
+        assertFalse(validator.validate());
+
+        Collection<String> errors = validator.getErrorsFound();
+        assertThat(errors, hasItems(
+                ErrorMessage.VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(withoutKey.getId(), name.getLabel()),
+                ErrorMessage.VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(withTwoKeys.getId(), name.getLabel())));
+        assertFalse(errors.contains(ErrorMessage.VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(withKey.getId(), name.getLabel())));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.SchemaConcept;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SchemaSnapshotTest {
+
+    @Test
+    public void whenATypeIsCachedUnderTwoLabels_TheSnapshotIsStillBuilt() {
+        SchemaConcept type = mock(SchemaConcept.class);
+        when(type.getId()).thenReturn(ConceptId.of("V123"));
+
+        SchemaSnapshot snapshot = SchemaSnapshot.EMPTY.apply(
+                ImmutableMap.of(Label.of("old"), type, Label.of("new"), type),
+                Collections.emptyMap(), Collections.emptySet(), true);
+
+        assertEquals(type, snapshot.type(ConceptId.of("V123")));
+        assertEquals(type, snapshot.type(Label.of("new")));
+    }
+}
@@ -19,6 +19,7 @@
 package ai.grakn.kb.internal.cache;
 
 import ai.grakn.Grakn;
+import ai.grakn.GraknConfigKey;
 import ai.grakn.GraknTxType;
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
@@ -41,17 +42,22 @@ import org.junit.Test;
 
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toSet;
 import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -64,6 +70,49 @@ import static org.junit.Assert.assertTrue;
  */
 public class TxCacheTest extends TxTestBase {
 
+    @Test
+    public void whenReadingMoreThingsThanTheConceptCacheHolds_UnmodifiedThingsAreEvicted() {
+        session.config().setConfigProperty(GraknConfigKey.TX_CONCEPT_CACHE_SIZE, 10);
+        tx.close();
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.WRITE);
+
+        EntityType type = tx.putEntityType("type");
+        Set<Entity> entities = IntStream.range(0, 20).mapToObj(i -> type.addEntity()).collect(toSet());
+        assertThat(tx.txCache().getConceptCache().values(), hasItems(entities.toArray(new Entity[0])));
+        assertEquals(0L, tx.txCache().conceptCacheEvictionCount());
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.READ);
+        Set<Entity> readEntities = tx.getEntityType("type").instances().collect(toSet());
+        assertEquals(entities, readEntities);
+        assertThat(tx.txCache().getUnmodifiedThingCache().size(), lessThanOrEqualTo(10));
+        assertThat(tx.txCache().conceptCacheEvictionCount(), greaterThan(0L));
+        assertThat(tx.txCache().conceptCacheMissCount(), greaterThan(0L));
+    }
+
+    @Test
+    public void whenReadingMoreThingsThanTheConceptCacheHolds_CreatedAndModifiedThingsAreNotEvicted() {
+        session.config().setConfigProperty(GraknConfigKey.TX_CONCEPT_CACHE_SIZE, 10);
+        tx.close();
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.WRITE);
+        EntityType type = tx.putEntityType("type");
+        IntStream.range(0, 20).forEach(i -> type.addEntity());
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.WRITE);
+        Entity created = tx.getEntityType("type").addEntity();
+        Entity modified = tx.getEntityType("type").instances().filter(entity -> !entity.equals(created)).findAny().get();
+        tx.txCache().trackForValidation(modified);
+
+        tx.getEntityType("type").instances().forEach(entity -> {});
+        tx.getEntityType("type").instances().forEach(entity -> {});
+
+        assertThat(tx.txCache().conceptCacheEvictionCount(), greaterThan(0L));
+        assertThat(tx.txCache().getConceptCache().values(), hasItems(created, modified));
+        assertSame(created, tx.getConcept(created.getId()));
+        assertSame(modified, tx.getConcept(modified.getId()));
+    }
+
     @Test
     public void whenNewAddingTypesToTheGraph_EnsureTheConceptLogContainsThem() {
         // add concepts to rootGraph in as many ways as possible
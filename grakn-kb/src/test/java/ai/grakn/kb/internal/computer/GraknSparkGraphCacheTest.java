@@ -0,0 +1,83 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import ai.grakn.concept.LabelId;
+import com.google.common.collect.ImmutableSet;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.storage.StorageLevel;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GraknSparkGraphCacheTest {
+    private static final Set<LabelId> TYPES = ImmutableSet.of(LabelId.of(1), LabelId.of(2));
+
+    @Test
+    public void whenASubgraphIsCached_ItIsOnlyReusedAtTheSameVersion(){
+        GraknSparkGraphCache cache = GraknSparkGraphCache.create(10, 60_000);
+        JavaPairRDD<Object, VertexWritable> subgraph = subgraph();
+
+        cache.put(GraknSparkGraphCache.key(TYPES, true, false, 1L), subgraph);
+
+        assertEquals(Optional.of(subgraph), cache.get(GraknSparkGraphCache.key(TYPES, true, false, 1L)));
+        assertFalse(cache.get(GraknSparkGraphCache.key(TYPES, true, false, 2L)).isPresent());
+        assertFalse(cache.get(GraknSparkGraphCache.key(TYPES, false, false, 1L)).isPresent());
+        assertFalse(cache.get(GraknSparkGraphCache.key(ImmutableSet.of(LabelId.of(1)), true, false, 1L)).isPresent());
+    }
+
+    @Test
+    public void whenTooManySubgraphsAreCached_TheEvictedSubgraphIsUnpersisted(){
+        GraknSparkGraphCache cache = GraknSparkGraphCache.create(1, 60_000);
+        JavaPairRDD<Object, VertexWritable> subgraph1 = subgraph();
+        JavaPairRDD<Object, VertexWritable> subgraph2 = subgraph();
+
+        cache.put(GraknSparkGraphCache.key(TYPES, true, false, 1L), subgraph1);
+        cache.put(GraknSparkGraphCache.key(TYPES, true, false, 2L), subgraph2);
+
+        verify(subgraph1).unpersist(false);
+        assertFalse(cache.get(GraknSparkGraphCache.key(TYPES, true, false, 1L)).isPresent());
+    }
+
+    @Test
+    public void whenCachingIsDisabled_NothingIsReused(){
+        GraknSparkGraphCache cache = GraknSparkGraphCache.create(0, 60_000);
+
+        cache.put(GraknSparkGraphCache.key(TYPES, true, false, 1L), subgraph());
+
+        assertFalse(cache.isEnabled());
+        assertFalse(cache.get(GraknSparkGraphCache.key(TYPES, true, false, 1L)).isPresent());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JavaPairRDD<Object, VertexWritable> subgraph(){
+        JavaPairRDD<Object, VertexWritable> subgraph = mock(JavaPairRDD.class);
+        when(subgraph.persist(any(StorageLevel.class))).thenReturn(subgraph);
+        return subgraph;
+    }
+}
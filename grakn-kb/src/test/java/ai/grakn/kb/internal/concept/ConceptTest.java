@@ -18,7 +18,10 @@
 
 package ai.grakn.kb.internal.concept;
 
+import ai.grakn.concept.Attribute;
+import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Thing;
@@ -28,12 +31,14 @@ import ai.grakn.kb.internal.TxTestBase;
 import ai.grakn.kb.internal.structure.EdgeElement;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Test;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNot.not;
@@ -67,6 +72,33 @@ public class ConceptTest extends TxTestBase {
         assertEquals(2, concepts.size());
     }
 
+    @Test
+    public void whenBuildingAConceptHandle_TheConceptIsOnlyBuiltWhenUsed() {
+        EntityType type = tx.putEntityType("a");
+        ConceptId id = type.addEntity().getId();
+        tx.commit();
+        tx = tx();
+
+        Vertex vertex = tx.getTinkerTraversal().V().has(Schema.VertexProperty.ID.name(), id.getValue()).next();
+        Entity handle = tx.admin().<Entity>buildConceptHandle(vertex).get();
+
+        assertEquals(id, handle.getId());
+        assertFalse(tx.txCache().isConceptCached(id));
+
+        Entity entity = tx.getConcept(id);
+        assertEquals(entity, handle);
+        assertEquals(handle, entity);
+        assertEquals(entity.hashCode(), handle.hashCode());
+        assertTrue(handle.isEntity());
+        assertEquals(tx.getEntityType("a"), handle.type());
+
+        AttributeType<String> name = tx.putAttributeType("name", AttributeType.DataType.STRING);
+        tx.getEntityType("a").attribute(name);
+        Attribute<String> bob = name.putAttribute("bob");
+        handle.attribute(bob);
+        assertThat(entity.attributes().collect(Collectors.toSet()), containsInAnyOrder(bob));
+    }
+
     @Test
     public void checkToStringHasMinimalInformation() {
         EntityType concept = tx.putEntityType("a");
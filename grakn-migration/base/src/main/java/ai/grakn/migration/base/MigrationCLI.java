@@ -103,6 +103,10 @@ public class MigrationCLI {
     }
 
     public static void loadOrPrint(File templateFile, Stream<Map<String, Object>> data, MigrationOptions options){
+        loadOrPrint(templateFile, Collections.singletonList(data), options);
+    }
+
+    public static void loadOrPrint(File templateFile, List<Stream<Map<String, Object>>> data, MigrationOptions options){
         String template = fileAsString(templateFile);
         Migrator migrator = new MigratorBuilder()
                 .setUri(options.getUri())
@@ -43,6 +43,7 @@ public class MigrationOptions {
     public static final String MAX_DELAY_DEFAULT_VALUE = "1000";
     public static final String RETRY_DEFAULT_VALUE = "5";
     public static final String LINES_DEFAULT_VALUE = "-1";
+    public static final String WORKERS_DEFAULT_VALUE = "1";
     private int numberOptions;
 
     protected final Options options = new Options();
@@ -62,6 +63,8 @@ public class MigrationOptions {
                 "Immediately stop and fail migration if an error occurs");
         options.addOption("z", "lines", true,
                 "Number of lines to be processed. Used for testing when we want to stop earlier.");
+        options.addOption("w", "workers", true,
+                "Number of threads reading the input and applying the template. Data is loaded out of order when more than 1.");
     }
 
     public boolean isVerbose() {
@@ -138,6 +141,10 @@ public class MigrationOptions {
         return parseInt(command.getOptionValue("z", LINES_DEFAULT_VALUE));
     }
 
+    public int getWorkers() {
+        return parseInt(command.getOptionValue("w", WORKERS_DEFAULT_VALUE));
+    }
+
 
     protected void parse(String[] args) {
         try {
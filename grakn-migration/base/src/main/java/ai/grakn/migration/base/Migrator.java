@@ -38,9 +38,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Observable;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static com.codahale.metrics.MetricRegistry.name;
@@ -61,6 +64,9 @@ public class Migrator {
 
     public static final int OBSERVABLE_TIMEOUT_MINUTES = 2;
 
+    // Rows and queries waiting between the readers, the template workers and the loader
+    private static final int PIPELINE_QUEUE_SIZE = 1000;
+
     private final QueryParser queryParser = Graql.withoutGraph().infer(false).parser();
     private final SimpleURI uri;
     private final Keyspace keyspace;
@@ -68,6 +74,7 @@ public class Migrator {
     private final boolean failFast;
     private final int maxDelayMs;
     private final int maxLines;
+    private final int workers;
     private final MetricRegistry metricRegistry;
     private final ConsoleReporter reporter;
     private final Meter totalMeter;
@@ -79,12 +86,22 @@ public class Migrator {
      * @param keyspace The {@link Keyspace} where the data should be persisted
      */
     public Migrator(SimpleURI uri, Keyspace keyspace, int retries, boolean failFast, int maxDelayMs, int maxLines) {
+        this(uri, keyspace, retries, failFast, maxDelayMs, maxLines, 1);
+    }
+
+    /**
+     * @param uri Uri where one instance of Grakn Engine is running
+     * @param keyspace The {@link Keyspace} where the data should be persisted
+     * @param workers Number of threads reading the data and resolving the template
+     */
+    public Migrator(SimpleURI uri, Keyspace keyspace, int retries, boolean failFast, int maxDelayMs, int maxLines, int workers) {
         this.uri = uri;
         this.keyspace = keyspace;
         this.retries = retries;
         this.failFast = failFast;
         this.maxDelayMs = maxDelayMs;
         this.maxLines = maxLines;
+        this.workers = Math.max(1, workers);
         this.metricRegistry = new MetricRegistry();
         this.totalMeter = metricRegistry.meter(name(this.getClass(), "total"));
         this.successMeter = metricRegistry.meter(name(this.getClass(), "success"));
@@ -102,7 +119,22 @@ public class Migrator {
      * @param data Data being migrated
      */
     public void print(String template, Stream<Map<String, Object>> data) {
-        data.flatMap(d -> template(template, d, false)).forEach(System.out::println);
+        print(template, Collections.singletonList(data));
+    }
+
+    /**
+     * Print data passed in data parameter using the given template
+     *
+     * @param template Used to transform the data
+     * @param partitions Parts of the data being migrated, printed one after the other
+     */
+    public void print(String template, List<Stream<Map<String, Object>>> partitions) {
+        Function<Map<String, Object>, Stream<Query>> compiled = queryParser.compileTemplate(template);
+        for (Stream<Map<String, Object>> partition : partitions) {
+            try (Stream<Map<String, Object>> data = partition) {
+                data.flatMap(d -> template(compiled, d, false)).forEach(System.out::println);
+            }
+        }
     }
 
     /**
@@ -113,6 +145,20 @@ public class Migrator {
      * @param data Data being migrated
      */
     public void load(String template, Stream<Map<String, Object>> data) {
+        load(template, Collections.singletonList(data));
+    }
+
+    /**
+     * Migrate data constrained by this migrator using a loader configured
+     * by the provided parameters.
+     *
+     * When there is more than one worker, the partitions are read at the same time and the template is resolved
+     * on every worker, so queries are not loaded in the order of the data.
+     *
+     * @param template Template used to extract the data
+     * @param partitions Parts of the data being migrated which can be read independently
+     */
+    public void load(String template, List<Stream<Map<String, Object>>> partitions) {
         GraknClient graknClient = new GraknClient(uri);
 
         AtomicInteger queriesExecuted = new AtomicInteger(0);
@@ -123,9 +169,16 @@ public class Migrator {
                         .maxRetries(retries)
                         .maxDelay(maxDelayMs)
                         .metricRegistry(metricRegistry)
-                        .build()) {
+                        .build();
+             TemplatePipeline pipeline = new TemplatePipeline(workers, PIPELINE_QUEUE_SIZE)) {
             checkKeyspace(graknClient);
-            Stream<Query> queryStream = data.flatMap(d -> template(template, d, failFast));
+            Function<Map<String, Object>, Stream<Query>> compiled = queryParser.compileTemplate(template);
+            Stream<Query> queryStream;
+            if (workers == 1) {
+                queryStream = partitions.stream().flatMap(data -> data.flatMap(d -> template(compiled, d, failFast)));
+            } else {
+                queryStream = pipeline.resolve(partitions, d -> template(compiled, d, failFast));
+            }
             if (maxLines > -1) {
                 queryStream = queryStream.limit(maxLines);
             }
@@ -172,13 +225,13 @@ public class Migrator {
     }
 
     /**
-     * @param template a string representing a templated graql query
+     * @param template a templated graql query, parsed once with {@link QueryParser#compileTemplate(String)}
      * @param data data used in the template
      * @return an insert query
      */
-    protected Stream<Query> template(String template, Map<String, Object> data, boolean failFast) {
+    protected Stream<Query> template(Function<Map<String, Object>, Stream<Query>> template, Map<String, Object> data, boolean failFast) {
         try (Context c = parseTemplate.time()){
-            return queryParser.parseTemplate(template, data);
+            return template.apply(data);
         } catch (Exception e) {
             System.out.println("Query not sent to server: " + e.getMessage());
             if (failFast) {
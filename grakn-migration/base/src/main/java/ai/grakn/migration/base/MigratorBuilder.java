@@ -33,6 +33,7 @@ public class MigratorBuilder {
     private static final boolean DEFAULT_FAIL_FAST = true;
     private static final int DEFAULT_MAX_DELAY_MS = 500;
     private static final int DEFAULT_LINES = -1;
+    private static final int DEFAULT_WORKERS = 1;
 
     private SimpleURI uri;
     private Keyspace keyspace;
@@ -42,6 +43,7 @@ public class MigratorBuilder {
     private boolean failFast = DEFAULT_FAIL_FAST;
     private int maxDelayMs = DEFAULT_MAX_DELAY_MS;
     private int lines = DEFAULT_LINES;
+    private int workers = DEFAULT_WORKERS;
 
 
     public MigratorBuilder setUri(SimpleURI uri) {
@@ -79,13 +81,19 @@ public class MigratorBuilder {
         return this;
     }
 
+    public MigratorBuilder setWorkers(int workers) {
+        this.workers = workers;
+        return this;
+    }
+
     public Migrator build() {
         if (migrationOptions != null) {
             retries = migrationOptions.getRetry();
             maxDelayMs = migrationOptions.getMaxDelay();
             failFast = migrationOptions.isDebug();
             lines = migrationOptions.getLines();
+            workers = migrationOptions.getWorkers();
         }
-        return new Migrator(uri, keyspace, retries, failFast, maxDelayMs, lines);
+        return new Migrator(uri, keyspace, retries, failFast, maxDelayMs, lines, workers);
     }
 }
\ No newline at end of file
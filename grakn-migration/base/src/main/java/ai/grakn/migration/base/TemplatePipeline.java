@@ -0,0 +1,162 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.migration.base;
+
+import ai.grakn.graql.Query;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ *     Resolves data with a template on several threads.
+ * </p>
+ *
+ * <p>
+ *     Every partition of the data is read on its own reader thread into a bounded queue of rows. Template workers take
+ *     rows from that queue and put the resolved queries in a second bounded queue, which is read by the single
+ *     consumer of {@link #resolve(List, Function)}. The bounds keep memory flat when the readers or workers are
+ *     faster than whoever is loading the queries.
+ *
+ *     Queries are returned in no particular order.
+ * </p>
+ *
+ * @author agent
+ */
+class TemplatePipeline implements AutoCloseable {
+
+    private static final Object END = new Object();
+
+    private final int workers;
+    private final BlockingQueue<Object> rows;
+    private final BlockingQueue<Object> queries;
+    private final ExecutorService readerPool;
+    private final ExecutorService workerPool;
+
+    TemplatePipeline(int workers, int queueSize) {
+        this.workers = workers;
+        this.rows = new ArrayBlockingQueue<>(queueSize);
+        this.queries = new ArrayBlockingQueue<>(queueSize);
+        this.readerPool = Executors.newFixedThreadPool(workers,
+                new ThreadFactoryBuilder().setNameFormat("migration-reader-%d").setDaemon(true).build());
+        this.workerPool = Executors.newFixedThreadPool(workers,
+                new ThreadFactoryBuilder().setNameFormat("migration-template-%d").setDaemon(true).build());
+    }
+
+    /**
+     * @param partitions Parts of the data which can be read independently of each other
+     * @param template Resolves a row of data into queries
+     * @return The queries of every row, available as soon as they are resolved
+     */
+    Stream<Query> resolve(List<Stream<Map<String, Object>>> partitions, Function<Map<String, Object>, Stream<Query>> template) {
+        CompletableFuture<?>[] readers = partitions.stream()
+                .map(partition -> CompletableFuture.runAsync(() -> read(partition), readerPool))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(readers).thenRunAsync(() -> {
+            for (int i = 0; i < workers; i++) put(rows, END);
+        }, readerPool);
+
+        for (int i = 0; i < workers; i++) {
+            workerPool.submit(() -> work(template));
+        }
+
+        Iterable<Query> iterable = () -> new AbstractIterator<Query>() {
+            private int finished = 0;
+
+            @Nullable
+            @Override
+            protected Query computeNext() {
+                while (finished < workers) {
+                    Object next = take(queries);
+                    if (next == END) {
+                        finished++;
+                    } else if (next instanceof RuntimeException) {
+                        throw (RuntimeException) next;
+                    } else {
+                        return (Query) next;
+                    }
+                }
+                return endOfData();
+            }
+        };
+
+        return StreamSupport.stream(iterable.spliterator(), false);
+    }
+
+    private void read(Stream<Map<String, Object>> partition) {
+        try (Stream<Map<String, Object>> data = partition) {
+            data.forEach(row -> put(rows, row));
+        } catch (RuntimeException e) {
+            put(queries, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void work(Function<Map<String, Object>, Stream<Query>> template) {
+        try {
+            Object row = take(rows);
+            while (row != END) {
+                template.apply((Map<String, Object>) row).forEach(query -> put(queries, query));
+                row = take(rows);
+            }
+            put(queries, END);
+        } catch (RuntimeException e) {
+            put(queries, e);
+        }
+    }
+
+    private static void put(BlockingQueue<Object> queue, Object item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Object take(BlockingQueue<Object> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Stops reading and resolving data, even if not all of it has been consumed
+     */
+    @Override
+    public void close() {
+        readerPool.shutdownNow();
+        workerPool.shutdownNow();
+    }
+}
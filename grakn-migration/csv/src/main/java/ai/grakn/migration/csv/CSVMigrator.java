@@ -19,13 +19,21 @@
 package ai.grakn.migration.csv;
 
 import ai.grakn.migration.base.MigrationCLI;
+
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
@@ -47,12 +55,18 @@ public class CSVMigrator implements AutoCloseable {
     static final char SEPARATOR = ',';
     static final char QUOTE = '\"';
     static final String NULL_STRING = null;
+    static final char ESCAPE = '\\';
+
+    // Parts of a file are kept small enough to be mapped into memory at once
+    private static final long MAX_PART_SIZE = 256L * 1024 * 1024;
 
     private char separator = SEPARATOR;
     private char quote = QUOTE;
     private String nullString = NULL_STRING;
 
     private final Reader reader;
+    @Nullable
+    private final File file;
 
     public static void main(String[] args) {
         try{
@@ -84,7 +98,7 @@ public class CSVMigrator implements AutoCloseable {
                                 .setQuoteChar(options.getQuote())
                                 .setNullString(options.getNullString())
         ) {
-            MigrationCLI.loadOrPrint(csvTemplate, csvMigrator.convert(), options);
+            MigrationCLI.loadOrPrint(csvTemplate, csvMigrator.partition(options.getWorkers()), options);
         }
     }
 
@@ -95,6 +109,7 @@ public class CSVMigrator implements AutoCloseable {
     public CSVMigrator(File file) {
         try {
             this.reader = new InputStreamReader(new FileInputStream(file), Charset.defaultCharset());
+            this.file = file;
         } catch (IOException e){
             throw new RuntimeException(e);
         }
@@ -106,6 +121,7 @@ public class CSVMigrator implements AutoCloseable {
      */
     public CSVMigrator(Reader reader){
         this.reader = reader;
+        this.file = null;
     }
 
     /**
@@ -142,13 +158,7 @@ public class CSVMigrator implements AutoCloseable {
      */
     public Stream<Map<String, Object>> convert() {
         try{
-                CSVParser csvParser = CSVFormat.newFormat(separator)
-                            .withIgnoreEmptyLines()
-                            .withEscape('\\' )
-                            .withFirstRecordAsHeader()
-                            .withQuote(quote)
-                            .withNullString(nullString)
-                            .parse(reader);
+            CSVParser csvParser = format().withFirstRecordAsHeader().parse(reader);
 
             return stream(csvParser.iterator()).map(this::parse);
         } catch (IOException e){
@@ -156,6 +166,61 @@ public class CSVMigrator implements AutoCloseable {
         }
     }
 
+    /**
+     * Split the CSV file at record boundaries into parts which can be parsed at the same time.
+     * Data given by a Reader, or in a charset which cannot be split without decoding it, is never split.
+     * @param partitions number of parts the file should be split into, parts of large files are smaller
+     * @return a stream of parsed data for every part of the file
+     */
+    public List<Stream<Map<String, Object>>> partition(int partitions) {
+        if(file == null || partitions <= 1 || !CSVSplitter.canSplit(Charset.defaultCharset(), quote, ESCAPE)){
+            return Collections.singletonList(convert());
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long partSize = Math.max(1, Math.min(MAX_PART_SIZE, channel.size() / partitions));
+            long[] bounds = CSVSplitter.split(channel, quote, ESCAPE, partSize);
+            if(bounds.length < 2){
+                return Collections.emptyList();
+            }
+
+            String[] header = parseHeader(CSVSplitter.part(channel, bounds[0], bounds[1]));
+            CSVFormat format = format().withHeader(header);
+
+            List<Stream<Map<String, Object>>> parts = new ArrayList<>();
+            for(int i = 1; i < bounds.length - 1; i++){
+                Reader part = new InputStreamReader(CSVSplitter.part(channel, bounds[i], bounds[i + 1]), Charset.defaultCharset());
+                parts.add(stream(format.parse(part).iterator()).map(this::parse));
+            }
+            return parts;
+        } catch (IOException e){
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String[] parseHeader(InputStream headerPart) throws IOException {
+        Reader header = new InputStreamReader(headerPart, Charset.defaultCharset());
+        Iterator<CSVRecord> records = format().parse(header).iterator();
+        if(!records.hasNext()){
+            return new String[0];
+        }
+
+        CSVRecord record = records.next();
+        String[] names = new String[record.size()];
+        for(int i = 0; i < names.length; i++){
+            names[i] = record.get(i);
+        }
+        return names;
+    }
+
+    private CSVFormat format(){
+        return CSVFormat.newFormat(separator)
+                .withIgnoreEmptyLines()
+                .withEscape(ESCAPE)
+                .withQuote(quote)
+                .withNullString(nullString);
+    }
+
     /**
      * Close the reader
      */
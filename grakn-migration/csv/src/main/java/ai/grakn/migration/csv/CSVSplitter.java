@@ -0,0 +1,128 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.migration.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a CSV file into parts which can be parsed independently of each other. A part always ends with a line break
+ * which is not inside a quoted value. The file is read through memory-mapped windows and no characters are decoded,
+ * which is only possible for charsets where the quote, escape and line break are single bytes which never occur
+ * inside another character.
+ *
+ * @author agent
+ */
+class CSVSplitter {
+
+    // Largest part of the file which is mapped at once
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private CSVSplitter(){}
+
+    static boolean canSplit(Charset charset, char quote, char escape){
+        boolean asciiCompatible = charset.equals(StandardCharsets.UTF_8) ||
+                charset.equals(StandardCharsets.US_ASCII) ||
+                charset.equals(StandardCharsets.ISO_8859_1);
+        return asciiCompatible && quote < 0x80 && escape < 0x80;
+    }
+
+    /**
+     * Find where the file can be split
+     * @param channel the CSV file
+     * @param partSize the size parts should have, they will be larger by at most one record
+     * @return the offset of every part, followed by the size of the file. The first part is the header record.
+     */
+    static long[] split(FileChannel channel, char quote, char escape, long partSize) throws IOException {
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+
+        long size = channel.size();
+        boolean quoted = false;
+        boolean escaped = false;
+        long nextBound = 0;
+
+        for(long window = 0; window < size; window += WINDOW_SIZE){
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, window, Math.min(WINDOW_SIZE, size - window));
+            int limit = buffer.limit();
+            for(int i = 0; i < limit; i++){
+                byte b = buffer.get(i);
+                if(escaped){
+                    escaped = false;
+                } else if(b == escape){
+                    escaped = true;
+                } else if(b == quote){
+                    quoted = !quoted;
+                } else if(b == '\n' && !quoted){
+                    long end = window + i + 1;
+                    if(end >= nextBound){
+                        bounds.add(end);
+                        nextBound = end + partSize;
+                    }
+                }
+            }
+        }
+
+        if(bounds.get(bounds.size() - 1) != size){
+            bounds.add(size);
+        }
+
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Read part of the file
+     * @param channel the CSV file
+     * @param start offset where the part starts
+     * @param end offset where the part ends
+     * @return the bytes of the part, which are only read from the file when needed
+     */
+    static InputStream part(FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+
+        return new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if(length == 0) return 0;
+                if(!buffer.hasRemaining()) return -1;
+
+                int count = Math.min(length, buffer.remaining());
+                buffer.get(bytes, offset, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return buffer.remaining();
+            }
+        };
+    }
+}
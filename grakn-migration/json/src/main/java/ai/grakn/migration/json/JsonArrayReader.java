@@ -0,0 +1,119 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.migration.json;
+
+import com.google.common.collect.AbstractIterator;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.UncheckedIOException;
+
+/**
+ * Reads the elements of a Json array one at a time, so the whole array never has to be held in memory.
+ * Only the text of each element is returned, elements are not parsed.
+ *
+ * @author agent
+ */
+class JsonArrayReader extends AbstractIterator<String> {
+
+    private final PushbackReader reader;
+
+    /**
+     * @param reader a reader positioned on the opening bracket of the array, possibly preceded by whitespace
+     */
+    JsonArrayReader(PushbackReader reader) {
+        this.reader = reader;
+        if (nextSignificant() != '[') {
+            throw new IllegalArgumentException("Input is not a Json array");
+        }
+    }
+
+    /**
+     * @return the next character which is not whitespace, without consuming it, or -1 at the end of the input
+     */
+    static int peekSignificant(PushbackReader reader) {
+        try {
+            int c = reader.read();
+            while (c != -1 && Character.isWhitespace(c)) {
+                c = reader.read();
+            }
+            if (c != -1) reader.unread(c);
+            return c;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nullable
+    @Override
+    protected String computeNext() {
+        int c = nextSignificant();
+        if (c == ',') c = nextSignificant();
+        if (c == ']' || c == -1) return endOfData();
+
+        StringBuilder element = new StringBuilder();
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+
+        try {
+            while (c != -1) {
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (c == '\\') {
+                        escaped = true;
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    if (depth == 0) {
+                        // The end of the array, which is read again by the next call
+                        reader.unread(c);
+                        break;
+                    }
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    break;
+                }
+
+                element.append((char) c);
+                c = reader.read();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return element.toString();
+    }
+
+    private int nextSignificant() {
+        int c = peekSignificant(reader);
+        try {
+            return c == -1 ? c : reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
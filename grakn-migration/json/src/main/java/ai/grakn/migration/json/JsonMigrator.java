@@ -23,18 +23,26 @@ import com.google.common.collect.Sets;
 import com.google.common.io.CharStreams;
 import mjson.Json;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.PushbackReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -69,7 +77,7 @@ public class JsonMigrator implements AutoCloseable {
         }
 
         try(JsonMigrator jsonMigrator = new JsonMigrator(jsonDataFile)){
-            MigrationCLI.loadOrPrint(jsonTemplateFile, jsonMigrator.convert(), options);
+            MigrationCLI.loadOrPrint(jsonTemplateFile, jsonMigrator.partition(), options);
         } catch(Exception e) {
             System.out.println(e.getMessage());
         }
@@ -104,9 +112,32 @@ public class JsonMigrator implements AutoCloseable {
      * @return stream of parsed insert queries
      */
     public Stream<Map<String, Object>> convert(){
-        return readers.stream()
-                .map(this::asString)
-                .map(this::toJsonMap);
+        return readers.stream().flatMap(this::convert);
+    }
+
+    /**
+     * Migrate each of the given json objects as an insert query, reading every file on its own
+     * @return a stream of parsed insert queries for every file
+     */
+    public List<Stream<Map<String, Object>>> partition(){
+        return readers.stream().map(this::convert).collect(toList());
+    }
+
+    /**
+     * Convert the content of a reader. A Json array is streamed one element at a time, anything else is read whole.
+     * @param reader reader to be converted
+     * @return the Json object, or every object in the Json array
+     */
+    private Stream<Map<String, Object>> convert(Reader reader){
+        PushbackReader pushbackReader = new PushbackReader(new BufferedReader(reader));
+
+        if(JsonArrayReader.peekSignificant(pushbackReader) == '['){
+            Iterator<String> elements = new JsonArrayReader(pushbackReader);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false)
+                    .map(this::toJsonMap);
+        } else {
+            return Stream.of(pushbackReader).map(this::asString).map(this::toJsonMap);
+        }
     }
 
     /**
@@ -35,6 +35,7 @@ public class SQLMigrationOptions extends MigrationOptions {
         options.addOption("user", true, "JDBC username");
         options.addOption("pass", true, "JDBC password");
         options.addOption("q", "query", true, "SQL Query");
+        options.addOption("key", true, "Numeric column of the query results, used to read them in ranges when there are several workers");
         options.addOption("t", "template", true, "Graql template to apply to the data.");
         parse(args);
     }
@@ -79,6 +80,18 @@ public class SQLMigrationOptions extends MigrationOptions {
         throw new IllegalArgumentException("No password specified (-pass)");
     }
 
+    public boolean hasKey(){
+        return command.hasOption("key");
+    }
+
+    public String getKey() {
+        if(command.hasOption("key")){
+            return command.getOptionValue("key");
+        }
+
+        throw new IllegalArgumentException("No key column specified (-key)");
+    }
+
     public String getQuery() {
         if(command.hasOption("query")){
             return command.getOptionValue("query");
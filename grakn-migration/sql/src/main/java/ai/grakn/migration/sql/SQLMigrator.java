@@ -20,25 +20,36 @@ package ai.grakn.migration.sql;
 
 import ai.grakn.migration.base.MigrationCLI;
 import com.google.common.collect.Maps;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 
 import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
+
 /**
  * The SQL migrator will execute the given SQL query and then apply the given template to those results.
  * @author alexandraorth
  */
 public class SQLMigrator {
 
+    // Alias of the results of the query when it is read in key ranges
+    private static final String SOURCE = "migrated_source";
+
     private final Stream<Record> records;
 
     public static void main(String[] args) {
@@ -68,9 +79,18 @@ public class SQLMigrator {
             try(Connection connection = DriverManager.getConnection(options.getLocation(),
                     options.getUsername(), options.getPassword())) {
 
-                SQLMigrator sqlMigrator = new SQLMigrator(options.getQuery(), connection);
+                if(options.hasKey() && options.getWorkers() > 1){
+                    ConnectionSupplier connections = () -> DriverManager.getConnection(options.getLocation(),
+                            options.getUsername(), options.getPassword());
+                    List<Stream<Map<String, Object>>> partitions =
+                            partition(options.getQuery(), options.getKey(), options.getWorkers(), connections);
+
+                    MigrationCLI.loadOrPrint(sqlTemplate, partitions, options);
+                } else {
+                    SQLMigrator sqlMigrator = new SQLMigrator(options.getQuery(), connection);
 
-                MigrationCLI.loadOrPrint(sqlTemplate, sqlMigrator.convert(), options);
+                    MigrationCLI.loadOrPrint(sqlTemplate, sqlMigrator.convert(), options);
+                }
             }
         } catch (Throwable throwable){
             System.err.println(throwable.getMessage());
@@ -92,7 +112,69 @@ public class SQLMigrator {
      * @return stream of parsed insert queries
      */
     public Stream<Map<String, Object>> convert() {
-        return records.map(Record::intoMap).map(this::convertToValidValues);
+        return records.map(SQLMigrator::convert);
+    }
+
+    /**
+     * Split the results of the SQL statement into ranges of a numeric key, which can be read at the same time.
+     * Every range is read with its own connection, which is opened when the range is read and closed with its stream.
+     * @param query SQL query to gather data from database
+     * @param keyColumn numeric column of the results of the query
+     * @param partitions number of ranges to split the results into, rows where the key is null are read separately
+     * @param connections opens JDBC connections to the SQL database
+     * @return a stream of parsed data for every range of the key
+     */
+    public static List<Stream<Map<String, Object>>> partition(
+            String query, String keyColumn, int partitions, ConnectionSupplier connections) throws SQLException {
+        Table<Record> source = DSL.table("(" + query + ") " + SOURCE);
+        Field<Long> key = DSL.field(SOURCE + "." + keyColumn, Long.class);
+
+        Record2<Long, Long> range;
+        try(Connection connection = connections.get()){
+            range = DSL.using(connection).select(DSL.min(key), DSL.max(key)).from(source).fetchOne();
+        }
+
+        List<Condition> conditions = new ArrayList<>();
+        if(range.value1() != null){
+            long min = range.value1();
+            long max = range.value2();
+            long width = Math.max(1, max / partitions - min / partitions + 1);
+
+            for(long start = min; start <= max; start += width){
+                long end = start + width;
+                if(end > max || end < start){
+                    conditions.add(key.ge(start));
+                    break;
+                }
+                conditions.add(key.ge(start).and(key.lt(end)));
+            }
+        }
+        conditions.add(key.isNull());
+
+        return conditions.stream().map(condition -> fetch(connections, source, condition)).collect(toList());
+    }
+
+    private static Stream<Map<String, Object>> fetch(ConnectionSupplier connections, Table<Record> source, Condition condition){
+        return Stream.of(condition).flatMap(c -> {
+            Connection connection;
+            try {
+                connection = connections.get();
+            } catch (SQLException e){
+                throw new RuntimeException(e);
+            }
+
+            return DSL.using(connection).selectFrom(source).where(c).fetchStream().onClose(() -> {
+                try {
+                    connection.close();
+                } catch (SQLException e){
+                    throw new RuntimeException(e);
+                }
+            });
+        }).map(SQLMigrator::convert);
+    }
+
+    private static Map<String, Object> convert(Record record){
+        return convertToValidValues(record.intoMap());
     }
 
     /**
@@ -100,9 +182,9 @@ public class SQLMigrator {
      * @param data data to make valid
      * @return valid data
      */
-    private Map<String, Object> convertToValidValues(Map<String, Object> data){
+    private static Map<String, Object> convertToValidValues(Map<String, Object> data){
         data = Maps.filterValues(data, Objects::nonNull);
-        data = Maps.transformValues(data, this::convertToSupportedTypes);
+        data = Maps.transformValues(data, SQLMigrator::convertToSupportedTypes);
         return data;
     }
 
@@ -111,7 +193,7 @@ public class SQLMigrator {
      * @param object object to convert
      * @return object as one of the supported types
      */
-    private Object convertToSupportedTypes(Object object) {
+    private static Object convertToSupportedTypes(Object object) {
         if(!(object instanceof String ||
             object instanceof Number ||
             object instanceof List ||
@@ -121,4 +203,12 @@ public class SQLMigrator {
 
         return object;
     }
+
+    /**
+     * Opens a new connection to the SQL database
+     */
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
 }
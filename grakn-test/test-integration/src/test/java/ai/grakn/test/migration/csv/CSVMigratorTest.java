@@ -36,6 +36,7 @@ import static ai.grakn.test.migration.MigratorTestUtils.getFile;
 import static ai.grakn.test.migration.MigratorTestUtils.getFileAsString;
 import static ai.grakn.test.migration.MigratorTestUtils.load;
 import ai.grakn.util.SampleKBLoader;
+import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.stream.Collectors;
@@ -115,6 +116,36 @@ public class CSVMigratorTest {
         assertPetGraphCorrect(factory);
     }
 
+    @Test
+    public void whenFileIsSplitBetweenSeveralWorkers_PetDataIsMigratedCorrectly() {
+        load(factory, getFile("csv", "pets/schema.gql"));
+        String template = getFileAsString("csv", "pets/template.gql");
+
+        Migrator parallelMigrator = new MigratorBuilder()
+                .setUri(engine.uri())
+                .setKeyspace(keyspace)
+                .setRetries(0)
+                .setFailFast(false)
+                .setWorkers(4)
+                .build();
+
+        try(CSVMigrator m = new CSVMigrator(getFile("csv", "pets/data/pets.quotes"))) {
+            parallelMigrator.load(template, m.partition(4));
+        }
+
+        assertPetGraphCorrect(factory);
+    }
+
+    @Test
+    public void whenEmptyFileIsSplitBetweenSeveralWorkers_NoDataIsParsed() throws IOException {
+        File empty = File.createTempFile("empty", ".csv");
+        empty.deleteOnExit();
+
+        try(CSVMigrator m = new CSVMigrator(empty)) {
+            assertEquals(0L, m.partition(4).stream().flatMap(part -> part).count());
+        }
+    }
+
     @Test
     public void whenDataIsMissing_ErrorIsNotThrownAndThoseLinesAreSkipped() {
         load(factory, getFile("csv", "pets/schema.gql"));
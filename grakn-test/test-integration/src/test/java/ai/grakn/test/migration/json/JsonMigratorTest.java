@@ -39,8 +39,12 @@ import org.junit.ClassRule;
 import org.junit.Test;
 
 import java.io.FileNotFoundException;
+import java.io.StringReader;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static ai.grakn.test.migration.MigratorTestUtils.getFile;
@@ -174,6 +178,19 @@ public class JsonMigratorTest {
         }
     }
 
+    @Test
+    public void whenDataIsJsonArray_EachElementIsMigratedSeparately(){
+        String data = " [ {\"name\": \"a, [b]\", \"tags\": [1, 2]},\n {\"name\": \"c\\\"}\", \"nested\": {\"x\": []}} ] ";
+
+        try(JsonMigrator m = new JsonMigrator(new StringReader(data))) {
+            List<Map<String, Object>> converted = m.convert().collect(Collectors.toList());
+
+            assertEquals(2, converted.size());
+            assertEquals("a, [b]", converted.get(0).get("name"));
+            assertEquals("c\"}", converted.get(1).get("name"));
+        }
+    }
+
     @Test
     public void whenMigratorExecutedOverJsonDirectory_AllDataIsPersistedInGraph(){
         load(factory, getFile("json", "string-or-object/schema.gql"));
@@ -38,10 +38,14 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
 
 import static ai.grakn.test.migration.MigratorTestUtils.assertPetGraphCorrect;
 import static ai.grakn.test.migration.MigratorTestUtils.assertPokemonGraphCorrect;
+import static ai.grakn.test.migration.sql.SQLMigratorTestUtils.PASS;
+import static ai.grakn.test.migration.sql.SQLMigratorTestUtils.URL;
+import static ai.grakn.test.migration.sql.SQLMigratorTestUtils.USER;
 import static ai.grakn.test.migration.sql.SQLMigratorTestUtils.setupExample;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
@@ -111,6 +115,45 @@ public class SQLMigratorTest {
         }
     }
 
+    @Test
+    public void whenMigratorReadsKeyRangesOnSeveralWorkers_AllDataIsPersistedInGraph() throws SQLException {
+        try(Connection connection = setupExample(factory, "pokemon")){
+            Migrator parallelMigrator = new MigratorBuilder().setUri(engine.uri()).setKeyspace(keyspace)
+                    .setWorkers(3)
+                    .build();
+            SQLMigrator.ConnectionSupplier connections = () -> DriverManager.getConnection(URL, USER, PASS);
+
+            String query = "SELECT * FROM type";
+            String template =  "" +
+                    "insert $x isa pokemon-type          " +
+                    "   has type-id <ID>                 " +
+                    "   has description <IDENTIFIER>;    ";
+
+            parallelMigrator.load(template, SQLMigrator.partition(query, "ID", 3, connections));
+
+            query = "SELECT * FROM pokemon";
+            template = "" +
+                    "insert $x isa pokemon                                         \n" +
+                    "    has description <IDENTIFIER>                              \n" +
+                    "    has pokedex-no <ID>                                       \n" +
+                    "    has height <HEIGHT>                                       \n" +
+                    "    has weight <WEIGHT>;                                      \n";
+
+            parallelMigrator.load(template, SQLMigrator.partition(query, "ID", 3, connections));
+
+            query = "SELECT * from pokemon";
+            template = "" +
+                    "match " +
+                    "   $type isa pokemon-type; $type has type-id <TYPE1> if(<TYPE2> != null) do {or $type has type-id <TYPE2>};" +
+                    "   $pokemon isa pokemon has description <IDENTIFIER> ;" +
+                    "insert (pokemon-with-type: $pokemon, type-of-pokemon: $type) isa has-type;";
+
+            migrator.load(template, new SQLMigrator(query, connection).convert());
+
+            assertPokemonGraphCorrect(factory);
+        }
+    }
+
     @Test
     public void whenSQLQueryContainsJoin_MigrationCanAccessResultOfJoin() throws SQLException {
         try(Connection connection = setupExample(factory, "pokemon")){